@@ -0,0 +1,212 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves URIs pointing to item resources into the entities they identify. In contrast to
+ * {@link UriToEntityConverter} it verifies that a URI actually points to the item resource of the repository exporting
+ * the requested type, converts the raw identifier into the identifier type of the entity once and looks up a set of
+ * entities with a single repository call.
+ * 
+ * @author agent
+ */
+public class EntityUriResolver {
+
+	private final Repositories repositories;
+	private final ResourceMappings mappings;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link EntityUriResolver} using the given {@link Repositories}, {@link ResourceMappings},
+	 * {@link RepositoryInvokerFactory} and {@link ConversionService}.
+	 * 
+	 * @param repositories must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public EntityUriResolver(Repositories repositories, ResourceMappings mappings,
+			RepositoryInvokerFactory invokerFactory, ConversionService conversionService) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.repositories = repositories;
+		this.mappings = mappings;
+		this.invokerFactory = invokerFactory;
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Returns the identifier of the entity of the given type the given URI points to, converted into the identifier type
+	 * of the entity. URIs carrying a query string or fragment or ending with a slash are rejected.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return the converted identifier, never {@literal null}.
+	 * @throws IllegalArgumentException in case the URI does not point to an item resource of the repository exporting
+	 *           the given type or the identifier can't be converted.
+	 */
+	public Serializable getId(String uri, Class<?> domainType) {
+
+		Assert.notNull(uri, "URI must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		ResourceMetadata metadata = mappings.getMappingFor(domainType);
+
+		if (metadata == null || !metadata.isExported()) {
+			throw new IllegalArgumentException(String.format("No exported repository found for type %s!",
+					domainType.getName()));
+		}
+
+		String path = getPath(uri);
+		int index = path == null ? -1 : path.lastIndexOf('/');
+
+		if (index < 0 || index == path.length() - 1 || !path.substring(0, index).endsWith(metadata.getPath().toString())) {
+			throw new IllegalArgumentException(String.format("URI %s does not point to an item resource of %s!", uri,
+					metadata.getPath()));
+		}
+
+		RepositoryInformation information = repositories.getRepositoryInformationFor(domainType);
+		Serializable id;
+
+		try {
+			id = (Serializable) conversionService.convert(path.substring(index + 1), information.getIdType());
+		} catch (ConversionException e) {
+			throw new IllegalArgumentException(String.format("Invalid identifier in URI %s!", uri), e);
+		}
+
+		if (id == null) {
+			throw new IllegalArgumentException(String.format("Invalid identifier in URI %s!", uri));
+		}
+
+		return id;
+	}
+
+	/**
+	 * Resolves the given URIs into the entities of the given type they point to using a single repository call. The
+	 * entities are returned in the order of the given URIs.
+	 * 
+	 * @param uris must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case any of the URIs is invalid (see {@link #getId(String, Class)}) or does not
+	 *           point to an existing entity. The message lists all URIs that could not be resolved.
+	 */
+	public List<Object> resolve(List<String> uris, Class<?> domainType) {
+
+		Assert.notNull(uris, "URIs must not be null!");
+
+		List<Serializable> ids = new ArrayList<Serializable>(uris.size());
+
+		for (String uri : uris) {
+			ids.add(getId(uri, domainType));
+		}
+
+		Map<Object, Object> entities = findAll(domainType, ids);
+		List<Object> result = new ArrayList<Object>(uris.size());
+		List<String> unresolved = new ArrayList<String>();
+
+		for (int i = 0; i < uris.size(); i++) {
+
+			Object entity = entities.get(ids.get(i));
+
+			if (entity == null) {
+				unresolved.add(uris.get(i));
+			} else {
+				result.add(entity);
+			}
+		}
+
+		if (!unresolved.isEmpty()) {
+			throw new IllegalArgumentException(String.format("Could not resolve URIs %s!", unresolved));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Looks up the entities of the given type with the given identifiers using a single repository call and returns them
+	 * keyed by their identifier. The identifiers have to be of the identifier type of the entity already.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @return
+	 */
+	public Map<Object, Object> findAll(Class<?> domainType, Collection<? extends Serializable> ids) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(ids, "Identifiers must not be null!");
+
+		Map<Object, Object> result = new HashMap<Object, Object>(ids.size());
+
+		if (ids.isEmpty()) {
+			return result;
+		}
+
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(domainType);
+
+		for (Object element : invokerFactory.getInvokerFor(domainType).invokeFindSome(
+				new LinkedHashSet<Serializable>(ids))) {
+			result.put(BeanWrapper.create(element, null).getProperty(entity.getIdProperty()), element);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the path of the given URI or {@literal null} if the given {@link String} is not a hierarchical URI without
+	 * query string and fragment.
+	 * 
+	 * @param uri must not be {@literal null}.
+	 * @return
+	 */
+	private static String getPath(String uri) {
+
+		try {
+
+			URI parsed = new URI(uri);
+			return parsed.getRawQuery() == null && parsed.getRawFragment() == null ? parsed.getPath() : null;
+
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+}
@@ -57,6 +57,15 @@ public @interface RestResource {
 	 */
 	String rel() default "";
 
+	/**
+	 * Whether the association annotated is inlined into the {@code _embedded} section of the owning resource by default
+	 * instead of only being rendered as link. Clients can request further associations to be embedded using the
+	 * {@code embed} request parameter.
+	 * 
+	 * @return {@literal true} if the association is to be embedded by default, {@literal false} otherwise.
+	 */
+	boolean embedded() default false;
+
 	/**
 	 * The description of the collection resource.
 	 * 
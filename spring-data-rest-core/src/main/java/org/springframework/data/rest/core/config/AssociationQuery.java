@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of a query method to obtain the elements of a collection association from the repository of the
+ * association's target type instead of initializing the association on the owning entity. The query method is
+ * expected to take the identifier of the owner as parameter with the configured name and a
+ * {@link org.springframework.data.domain.Pageable}, e.g. for an {@code Order} having a {@code customer}:
+ * 
+ * <pre>
+ * Page&lt;Order&gt; findByCustomerId(&#064;Param("customer") Long id, Pageable pageable);
+ * </pre>
+ * 
+ * The same type describes the query to look up the identifiers of an association's targets for many owners at once
+ * (see {@link RepositoryRestConfiguration#exposeEmbeddingQueryFor(Class, String, String, String)}).
+ * 
+ * @author agent
+ */
+public class AssociationQuery {
+
+	private final String queryMethodName;
+	private final String ownerParameter;
+
+	/**
+	 * Creates a new {@link AssociationQuery} for the given query method name and owner parameter name.
+	 * 
+	 * @param queryMethodName the name of the query method on the repository of the association's target type, must not
+	 *          be {@literal null} or empty.
+	 * @param ownerParameter the name of the query method parameter to bind the identifier of the owner to, must not be
+	 *          {@literal null} or empty.
+	 */
+	public AssociationQuery(String queryMethodName, String ownerParameter) {
+
+		Assert.hasText(queryMethodName, "Query method name must not be null or empty!");
+		Assert.hasText(ownerParameter, "Owner parameter must not be null or empty!");
+
+		this.queryMethodName = queryMethodName;
+		this.ownerParameter = ownerParameter;
+	}
+
+	/**
+	 * Returns the name of the query method on the repository of the association's target type.
+	 * 
+	 * @return the queryMethodName
+	 */
+	public String getQueryMethodName() {
+		return queryMethodName;
+	}
+
+	/**
+	 * Returns the name of the query method parameter the identifier of the owner is bound to.
+	 * 
+	 * @return the ownerParameter
+	 */
+	public String getOwnerParameter() {
+		return ownerParameter;
+	}
+}
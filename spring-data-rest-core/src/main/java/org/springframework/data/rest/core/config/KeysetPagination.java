@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of keyset (seek) based pagination for the repository of a particular domain type. Instead of skipping
+ * a number of rows, subsequent pages are obtained by handing the sort key of the last row of the previous page into a
+ * query method, so that the store can seek to the start of the page directly.
+ * 
+ * @author agent
+ */
+public class KeysetPagination {
+
+	private final String keyProperty;
+	private final String queryMethodName;
+
+	/**
+	 * Creates a new {@link KeysetPagination} for the given key property and query method name.
+	 * 
+	 * @param keyProperty the name of the property to sort by and seek on, must not be {@literal null} or empty.
+	 * @param queryMethodName the name of the query method to be used for the collection resource, must not be
+	 *          {@literal null} or empty.
+	 */
+	public KeysetPagination(String keyProperty, String queryMethodName) {
+
+		Assert.hasText(keyProperty, "Key property must not be null or empty!");
+		Assert.hasText(queryMethodName, "Query method name must not be null or empty!");
+
+		this.keyProperty = keyProperty;
+		this.queryMethodName = queryMethodName;
+	}
+
+	/**
+	 * Returns the name of the property the results are sorted by and the continuation token is built from. It's also
+	 * used as name of the query method parameter the key of the last row of the previous page is bound to.
+	 * 
+	 * @return the keyProperty
+	 */
+	public String getKeyProperty() {
+		return keyProperty;
+	}
+
+	/**
+	 * Returns the name of the query method to be used to back the collection resource.
+	 * 
+	 * @return the queryMethodName
+	 */
+	public String getQueryMethodName() {
+		return queryMethodName;
+	}
+}
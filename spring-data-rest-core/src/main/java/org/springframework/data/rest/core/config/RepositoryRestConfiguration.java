@@ -17,8 +17,11 @@ package org.springframework.data.rest.core.config;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
@@ -40,7 +43,26 @@ public class RepositoryRestConfiguration {
 	private MediaType defaultMediaType = MediaTypes.HAL_JSON;
 	private boolean returnBodyOnCreate = false;
 	private boolean returnBodyOnUpdate = false;
+	private boolean streamUnpagedCollections = false;
+	private int batchChunkSize = 100;
+	private boolean deleteInBatchEnabled = false;
+	private boolean asyncEnabled = false;
+	private int asyncPoolSize = 10;
+	private int asyncQueueCapacity = 100;
+	private Long asyncTimeout = null;
+	private boolean asyncVirtualThreadsEnabled = false;
+	private boolean asyncAfterEventsEnabled = false;
 	private List<Class<?>> exposeIdsFor = new ArrayList<Class<?>>();
+	private Map<Class<?>, KeysetPagination> keysetPaginations = new HashMap<Class<?>, KeysetPagination>();
+	private Map<Class<?>, String> sliceQueryMethods = new HashMap<Class<?>, String>();
+	private Map<Class<?>, String> idQueryMethods = new HashMap<Class<?>, String>();
+	private Map<Class<?>, Map<String, AssociationQuery>> associationQueries =
+			new HashMap<Class<?>, Map<String, AssociationQuery>>();
+	private Map<Class<?>, Map<String, AssociationQuery>> embeddingQueries =
+			new HashMap<Class<?>, Map<String, AssociationQuery>>();
+	private Map<Class<?>, Map<String, String>> inverseProperties = new HashMap<Class<?>, Map<String, String>>();
+	private Map<Class<?>, Map<String, List<String>>> fieldsPresets = new HashMap<Class<?>, Map<String, List<String>>>();
+	private Map<Class<?>, Map<String, String>> fieldsQueryMethods = new HashMap<Class<?>, Map<String, String>>();
 	private ResourceMappingConfiguration domainMappings = new ResourceMappingConfiguration();
 	private ResourceMappingConfiguration repoMappings = new ResourceMappingConfiguration();
 
@@ -231,6 +253,523 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Whether to stream collection resources that are not backed by a {@link org.springframework.data.domain.Page}
+	 * into the response instead of assembling all item resources upfront.
+	 * 
+	 * @return {@literal true} to stream unpaged collections, {@literal false} otherwise.
+	 */
+	public boolean isStreamUnpagedCollections() {
+		return streamUnpagedCollections;
+	}
+
+	/**
+	 * Sets whether to stream collection resources that are not backed by a
+	 * {@link org.springframework.data.domain.Page} into the response. Item resources are then assembled and written one
+	 * by one while iterating over the repository result. Note, that processors registered for the individual item
+	 * resources are not applied to streamed collections.
+	 * 
+	 * @param streamUnpagedCollections {@literal true} to stream unpaged collections, {@literal false} otherwise.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setStreamUnpagedCollections(boolean streamUnpagedCollections) {
+		this.streamUnpagedCollections = streamUnpagedCollections;
+		return this;
+	}
+
+	/**
+	 * Get the number of entities handed to the repository in a single save call when creating entities in batch mode.
+	 * Default is 100.
+	 * 
+	 * @return The batch chunk size.
+	 */
+	public int getBatchChunkSize() {
+		return batchChunkSize;
+	}
+
+	/**
+	 * Set the number of entities handed to the repository in a single save call when creating entities in batch mode.
+	 * 
+	 * @param batchChunkSize The batch chunk size, must be greater than 0.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setBatchChunkSize(int batchChunkSize) {
+		Assert.isTrue(batchChunkSize > 0, "Batch chunk size must be greater than 0.");
+		this.batchChunkSize = batchChunkSize;
+		return this;
+	}
+
+	/**
+	 * Whether to delete the entities of a bulk delete request with a single store-level batch delete where the
+	 * repository offers one. Default is {@literal false}.
+	 * 
+	 * @return {@literal true} if store-level batch deletes are used, {@literal false} otherwise.
+	 */
+	public boolean isDeleteInBatchEnabled() {
+		return deleteInBatchEnabled;
+	}
+
+	/**
+	 * Sets whether to delete the entities of a bulk delete request with a single store-level batch delete if the
+	 * repository declares a {@code deleteInBatch(Iterable)} method like {@code JpaRepository} does. Such deletes usually
+	 * bypass cascades and lifecycle callbacks of the store, so only enable this for entities not relying on them.
+	 * 
+	 * @param deleteInBatchEnabled {@literal true} to use store-level batch deletes, {@literal false} otherwise.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setDeleteInBatchEnabled(boolean deleteInBatchEnabled) {
+		this.deleteInBatchEnabled = deleteInBatchEnabled;
+		return this;
+	}
+
+	/**
+	 * Whether to execute the repository calls of collection, search and property reference resources asynchronously on
+	 * a bounded executor per repository, releasing the servlet container thread in the meantime. Default is
+	 * {@literal false}.
+	 * 
+	 * @return {@literal true} if asynchronous execution is enabled, {@literal false} otherwise.
+	 */
+	public boolean isAsyncEnabled() {
+		return asyncEnabled;
+	}
+
+	/**
+	 * Sets whether to execute the repository calls of collection, search and property reference resources
+	 * asynchronously. Requires asynchronous request processing to be supported by the servlet container and all filters
+	 * involved.
+	 * 
+	 * @param asyncEnabled {@literal true} to enable asynchronous execution, {@literal false} otherwise.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setAsyncEnabled(boolean asyncEnabled) {
+		this.asyncEnabled = asyncEnabled;
+		return this;
+	}
+
+	/**
+	 * Get the maximum number of threads executing asynchronous calls to a single repository. Default is 10.
+	 * 
+	 * @return The pool size per repository.
+	 */
+	public int getAsyncPoolSize() {
+		return asyncPoolSize;
+	}
+
+	/**
+	 * Set the maximum number of threads executing asynchronous calls to a single repository.
+	 * 
+	 * @param asyncPoolSize The pool size per repository, must be greater than 0.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setAsyncPoolSize(int asyncPoolSize) {
+		Assert.isTrue(asyncPoolSize > 0, "Async pool size must be greater than 0.");
+		this.asyncPoolSize = asyncPoolSize;
+		return this;
+	}
+
+	/**
+	 * Get the number of asynchronous calls to a single repository that may wait for a thread before further requests are
+	 * rejected with {@code 503 Service Unavailable}. Default is 100.
+	 * 
+	 * @return The queue capacity per repository.
+	 */
+	public int getAsyncQueueCapacity() {
+		return asyncQueueCapacity;
+	}
+
+	/**
+	 * Set the number of asynchronous calls to a single repository that may wait for a thread.
+	 * 
+	 * @param asyncQueueCapacity The queue capacity per repository, must not be negative.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setAsyncQueueCapacity(int asyncQueueCapacity) {
+		Assert.isTrue(asyncQueueCapacity >= 0, "Async queue capacity must not be negative.");
+		this.asyncQueueCapacity = asyncQueueCapacity;
+		return this;
+	}
+
+	/**
+	 * Get the timeout in milliseconds for asynchronous calls. Default is {@literal null}, which means the timeout of
+	 * the servlet container is used.
+	 * 
+	 * @return The timeout in milliseconds or {@literal null}.
+	 */
+	public Long getAsyncTimeout() {
+		return asyncTimeout;
+	}
+
+	/**
+	 * Set the timeout in milliseconds for asynchronous calls.
+	 * 
+	 * @param asyncTimeout The timeout in milliseconds, {@literal null} to use the one of the servlet container.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setAsyncTimeout(Long asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+		return this;
+	}
+
+	/**
+	 * Whether to run asynchronous repository calls and asynchronously published events on a new virtual thread each
+	 * instead of the bounded executors. Default is {@literal false}.
+	 * 
+	 * @return {@literal true} if virtual threads are used if available, {@literal false} otherwise.
+	 */
+	public boolean isAsyncVirtualThreadsEnabled() {
+		return asyncVirtualThreadsEnabled;
+	}
+
+	/**
+	 * Sets whether to run asynchronous repository calls and asynchronously published events on a new virtual thread
+	 * each. Blocking repository calls then no longer compete for the threads of the bounded per repository executors, so
+	 * pool size and queue capacity don't apply. Requires a JVM supporting virtual threads (Java 21 or newer). On older
+	 * JVMs the bounded executors are used.
+	 * 
+	 * @param asyncVirtualThreadsEnabled {@literal true} to use virtual threads if available, {@literal false} otherwise.
+	 * @return {@literal this}
+	 * @see #setAsyncEnabled(boolean)
+	 * @see #setAsyncAfterEventsEnabled(boolean)
+	 */
+	public RepositoryRestConfiguration setAsyncVirtualThreadsEnabled(boolean asyncVirtualThreadsEnabled) {
+		this.asyncVirtualThreadsEnabled = asyncVirtualThreadsEnabled;
+		return this;
+	}
+
+	/**
+	 * Whether to publish the {@code After*} repository events asynchronously. Default is {@literal false}.
+	 * 
+	 * @return {@literal true} if {@code After*} events are published asynchronously, {@literal false} otherwise.
+	 */
+	public boolean isAsyncAfterEventsEnabled() {
+		return asyncAfterEventsEnabled;
+	}
+
+	/**
+	 * Sets whether to publish the {@code After*} repository events asynchronously so that listeners don't delay the
+	 * response. {@code Before*} events are always published on the request thread as their listeners may veto the
+	 * operation. Listeners of {@code After*} events can't influence the response anymore if enabled.
+	 * 
+	 * @param asyncAfterEventsEnabled {@literal true} to publish {@code After*} events asynchronously, {@literal false}
+	 *          otherwise.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setAsyncAfterEventsEnabled(boolean asyncAfterEventsEnabled) {
+		this.asyncAfterEventsEnabled = asyncAfterEventsEnabled;
+		return this;
+	}
+
+	/**
+	 * Enables keyset (seek) pagination for the repository managing the given domain type. The collection resource will
+	 * be backed by the query method with the given name, which is expected to take a parameter annotated with
+	 * {@code @Param} named after the key property as well as a {@link org.springframework.data.domain.Pageable}. The
+	 * method is invoked with the key of the last row of the previous page, or {@literal null} for the first page, and
+	 * should return a {@link List} or {@link org.springframework.data.domain.Slice} to avoid a count query, e.g.:
+	 * 
+	 * <pre>
+	 * &#064;Query("select p from Person p where :id is null or p.id &gt; :id")
+	 * List&lt;Person&gt; findByIdGreaterThan(&#064;Param("id") Long id, Pageable pageable);
+	 * </pre>
+	 * 
+	 * Query methods exposed as search resources use keyset pagination if they declare a parameter named after the key
+	 * property as well.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param keyProperty the property to sort by and seek on, must not be {@literal null} or empty.
+	 * @param queryMethodName the name of the query method to back the collection resource, must not be {@literal null}
+	 *          or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration useKeysetPaginationFor(Class<?> domainType, String keyProperty,
+			String queryMethodName) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		keysetPaginations.put(domainType, new KeysetPagination(keyProperty, queryMethodName));
+		return this;
+	}
+
+	/**
+	 * Returns the {@link KeysetPagination} configured for the repository managing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return the {@link KeysetPagination} or {@literal null} if the repository uses offset based pagination.
+	 */
+	public KeysetPagination getKeysetPaginationFor(Class<?> domainType) {
+		return keysetPaginations.get(domainType);
+	}
+
+	/**
+	 * Exposes the collection resource of the repository managing the given domain type as slices instead of pages, i.e.
+	 * without calculating the total number of elements. The collection resource will be backed by the query method with
+	 * the given name, which is expected to take a {@link org.springframework.data.domain.Pageable} and return a
+	 * {@link org.springframework.data.domain.Slice}, e.g.:
+	 * 
+	 * <pre>
+	 * &#064;Query("select p from Person p")
+	 * Slice&lt;Person&gt; findAllSliced(Pageable pageable);
+	 * </pre>
+	 * 
+	 * The store then reads one more element than requested to find out whether there's a next slice instead of issuing
+	 * a count query.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param queryMethodName the name of the query method to back the collection resource, must not be {@literal null}
+	 *          or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration exposeSlicesFor(Class<?> domainType, String queryMethodName) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.hasText(queryMethodName, "Query method name must not be null or empty!");
+
+		sliceQueryMethods.put(domainType, queryMethodName);
+		return this;
+	}
+
+	/**
+	 * Returns the name of the query method backing the sliced collection resource of the repository managing the given
+	 * domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return the name of the query method or {@literal null} if the collection resource is not exposed as slices.
+	 */
+	public String getSliceQueryMethodFor(Class<?> domainType) {
+		return sliceQueryMethods.get(domainType);
+	}
+
+	/**
+	 * Configures the query method to be used to obtain the identifiers of the entities listed in compact representations
+	 * ({@code text/uri-list} and {@code application/x-spring-data-compact+json}) of the collection resource of the
+	 * repository managing the given domain type. The query method is expected to take a
+	 * {@link org.springframework.data.domain.Pageable} and to return the identifiers only, e.g.:
+	 * 
+	 * <pre>
+	 * &#064;Query("select p.id from Person p")
+	 * Page&lt;Long&gt; findAllIds(Pageable pageable);
+	 * </pre>
+	 * 
+	 * This prevents the entities from being loaded just to render links to them.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param queryMethodName the name of the query method returning the identifiers, must not be {@literal null} or
+	 *          empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration exposeIdQueryFor(Class<?> domainType, String queryMethodName) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.hasText(queryMethodName, "Query method name must not be null or empty!");
+
+		idQueryMethods.put(domainType, queryMethodName);
+		return this;
+	}
+
+	/**
+	 * Returns the name of the query method returning the identifiers for compact representations of the collection
+	 * resource of the repository managing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return the name of the query method or {@literal null} if none is configured.
+	 */
+	public String getIdQueryMethodFor(Class<?> domainType) {
+		return idQueryMethods.get(domainType);
+	}
+
+	/**
+	 * Configures the query method to be used to obtain pages of the elements of the given collection association of the
+	 * given domain type. The query method has to be declared on the repository of the association's target type. Without
+	 * it, a page of an association is cut out of all of its elements after loading them and can't be sorted, so large
+	 * associations should always be exposed through a query method.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property the name of the association property, must not be {@literal null} or empty.
+	 * @param queryMethodName the name of the query method, must not be {@literal null} or empty.
+	 * @param ownerParameter the name of the query method parameter to bind the identifier of the owning entity to, must
+	 *          not be {@literal null} or empty.
+	 * @return {@literal this}
+	 * @see AssociationQuery
+	 */
+	public RepositoryRestConfiguration exposeAssociationQueryFor(Class<?> domainType, String property,
+			String queryMethodName, String ownerParameter) {
+
+		putPropertySetting(associationQueries, domainType, property, new AssociationQuery(queryMethodName, ownerParameter));
+		return this;
+	}
+
+	/**
+	 * Returns the {@link AssociationQuery} configured for the given association property of the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the {@link AssociationQuery} or {@literal null} if none is configured.
+	 */
+	public AssociationQuery getAssociationQueryFor(Class<?> domainType, String property) {
+		return getPropertySetting(associationQueries, domainType, property);
+	}
+
+	/**
+	 * Configures the query method to be used to obtain the identifiers of the entities referred to by the given
+	 * association of the given domain type when embedding the association into the resources of many owners. The query
+	 * method has to be declared on the repository of the given domain type, take the identifiers of the owners as
+	 * collection parameter with the given name and return pairs of owner and target identifier, e.g.:
+	 * 
+	 * <pre>
+	 * &#064;Query("select p.id, s.id from Person p join p.siblings s where p.id in :ids")
+	 * List&lt;Object[]&gt; findSiblingIds(&#064;Param("ids") Collection&lt;Long&gt; ids);
+	 * </pre>
+	 * 
+	 * Without such a query the association is read from every owner to embed it.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property the name of the association property, must not be {@literal null} or empty.
+	 * @param queryMethodName the name of the query method, must not be {@literal null} or empty.
+	 * @param ownersParameter the name of the query method parameter to bind the identifiers of the owning entities to,
+	 *          must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration exposeEmbeddingQueryFor(Class<?> domainType, String property,
+			String queryMethodName, String ownersParameter) {
+
+		putPropertySetting(embeddingQueries, domainType, property, new AssociationQuery(queryMethodName, ownersParameter));
+		return this;
+	}
+
+	/**
+	 * Returns the {@link AssociationQuery} configured to look up the identifiers of the entities referred to by the given
+	 * association property of the given domain type for embedding.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the {@link AssociationQuery} or {@literal null} if none is configured.
+	 * @see #exposeEmbeddingQueryFor(Class, String, String, String)
+	 */
+	public AssociationQuery getEmbeddingQueryFor(Class<?> domainType, String property) {
+		return getPropertySetting(embeddingQueries, domainType, property);
+	}
+
+	/**
+	 * Configures the property of the association's target type pointing back to the owning entity for the given
+	 * collection association of the given domain type. Individual elements of the association are then looked up by
+	 * their identifier and verified to belong to the owner via the inverse property instead of scanning the association.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property the name of the association property, must not be {@literal null} or empty.
+	 * @param inverseProperty the name of the singular property of the association's target type referring to the owner,
+	 *          must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setInversePropertyFor(Class<?> domainType, String property,
+			String inverseProperty) {
+
+		Assert.hasText(inverseProperty, "Inverse property must not be null or empty!");
+
+		putPropertySetting(inverseProperties, domainType, property, inverseProperty);
+		return this;
+	}
+
+	/**
+	 * Returns the name of the inverse property configured for the given association property of the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the name of the inverse property or {@literal null} if none is configured.
+	 */
+	public String getInversePropertyFor(Class<?> domainType, String property) {
+		return getPropertySetting(inverseProperties, domainType, property);
+	}
+
+	/**
+	 * Registers a named set of properties for the given domain type. Clients can then use the name as value of the
+	 * {@code fields} request parameter to limit the properties rendered for the resources of the given type to the ones
+	 * given.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param name the name of the preset, must not be {@literal null} or empty.
+	 * @param properties the names of the properties to render, must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration exposeFieldsPresetFor(Class<?> domainType, String name, String... properties) {
+
+		Assert.hasText(name, "Preset name must not be null or empty!");
+		Assert.notEmpty(properties, "Properties must not be null or empty!");
+
+		putPropertySetting(fieldsPresets, domainType, name, Collections.unmodifiableList(Arrays.asList(properties)));
+		return this;
+	}
+
+	/**
+	 * Returns the names of the properties registered under the given preset name for the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return the property names or {@literal null} if no preset with the given name is registered.
+	 */
+	public List<String> getFieldsPresetFor(Class<?> domainType, String name) {
+		return getPropertySetting(fieldsPresets, domainType, name);
+	}
+
+	/**
+	 * Configures the query method to be used to obtain the collection resource of the repository managing the given
+	 * domain type if the client selects the fields preset with the given name. The query method is expected to take a
+	 * {@link org.springframework.data.domain.Pageable} and to only read the properties of the preset from the store,
+	 * e.g.:
+	 * 
+	 * <pre>
+	 * &#064;Query("select new Person(p.id, p.firstName, p.lastName) from Person p")
+	 * Page&lt;Person&gt; findAllNames(Pageable pageable);
+	 * </pre>
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param name the name of the preset registered via {@link #exposeFieldsPresetFor(Class, String, String...)}, must
+	 *          not be {@literal null} or empty.
+	 * @param queryMethodName the name of the query method, must not be {@literal null} or empty.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration exposeFieldsQueryFor(Class<?> domainType, String name, String queryMethodName) {
+
+		Assert.hasText(name, "Preset name must not be null or empty!");
+		Assert.hasText(queryMethodName, "Query method name must not be null or empty!");
+
+		putPropertySetting(fieldsQueryMethods, domainType, name, queryMethodName);
+		return this;
+	}
+
+	/**
+	 * Returns the name of the query method configured for the fields preset with the given name of the given domain
+	 * type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return the name of the query method or {@literal null} if none is configured.
+	 */
+	public String getFieldsQueryMethodFor(Class<?> domainType, String name) {
+		return getPropertySetting(fieldsQueryMethods, domainType, name);
+	}
+
+	private static <T> void putPropertySetting(Map<Class<?>, Map<String, T>> settings, Class<?> domainType,
+			String property, T value) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.hasText(property, "Property must not be null or empty!");
+
+		Map<String, T> settingsForType = settings.get(domainType);
+
+		if (settingsForType == null) {
+			settingsForType = new HashMap<String, T>();
+			settings.put(domainType, settingsForType);
+		}
+
+		settingsForType.put(property, value);
+	}
+
+	private static <T> T getPropertySetting(Map<Class<?>, Map<String, T>> settings, Class<?> domainType,
+			String property) {
+
+		Map<String, T> settingsForType = settings.get(domainType);
+		return settingsForType == null ? null : settingsForType.get(property);
+	}
+
 	/**
 	 * Start configuration a {@link ResourceMapping} for a specific domain type.
 	 * 
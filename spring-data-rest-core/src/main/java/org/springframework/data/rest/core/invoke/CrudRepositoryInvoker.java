@@ -17,10 +17,13 @@ package org.springframework.data.rest.core.invoke;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -41,17 +44,18 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 	private final boolean customDeleteMethod;
 
 	/**
-	 * Creates a new {@link CrudRepositoryInvoker} for the given {@link CrudRepository}, {@link RepositoryInformation} and
-	 * {@link ConversionService}.
+	 * Creates a new {@link CrudRepositoryInvoker} for the given {@link CrudRepository}, {@link RepositoryInformation},
+	 * {@link PersistentEntity} and {@link ConversionService}.
 	 * 
 	 * @param repository must not be {@literal null}.
 	 * @param information must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
 	 * @param conversionService must not be {@literal null}.
 	 */
 	public CrudRepositoryInvoker(CrudRepository<Object, Serializable> repository, RepositoryInformation information,
-			ConversionService conversionService) {
+			PersistentEntity<?, ?> entity, ConversionService conversionService) {
 
-		super(repository, information, conversionService);
+		super(repository, information, entity, conversionService);
 		this.repository = repository;
 		this.crudMethods = information.getCrudMethods();
 
@@ -97,6 +101,26 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		return customFindOneMethod ? super.<T> invokeFindOne(id) : (T) repository.findOne(convertId(id));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeFindSome(java.lang.Iterable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindSome(Iterable<? extends Serializable> ids) {
+
+		if (customFindOneMethod) {
+			return super.invokeFindSome(ids);
+		}
+
+		List<Serializable> convertedIds = new ArrayList<Serializable>();
+
+		for (Serializable id : ids) {
+			convertedIds.add(convertId(id));
+		}
+
+		return repository.findAll(convertedIds);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeSave(java.lang.Object)
@@ -106,6 +130,15 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		return customSaveMethod ? super.invokeSave(entity) : repository.save(entity);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeSaveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> entities) {
+		return customSaveMethod ? super.invokeSaveAll(entities) : repository.save(entities);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDelete(java.io.Serializable)
@@ -120,6 +153,34 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeDeleteEntity(java.lang.Object)
+	 */
+	@Override
+	public void invokeDeleteEntity(Object entity) {
+
+		if (customDeleteMethod) {
+			super.invokeDeleteEntity(entity);
+		} else {
+			repository.delete(entity);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeDeleteAll(java.lang.Iterable)
+	 */
+	@Override
+	public void invokeDeleteAll(Iterable<?> entities) {
+
+		if (customDeleteMethod) {
+			super.invokeDeleteAll(entities);
+		} else {
+			repository.delete(entities);
+		}
+	}
+
 	private boolean isRedeclaredMethod(Method method) {
 		return !method.getDeclaringClass().equals(CrudRepository.class);
 	}
@@ -16,10 +16,11 @@
 package org.springframework.data.rest.core.invoke;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -38,7 +39,7 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 
 	private final Repositories repositories;
 	private final ConversionService conversionService;
-	private final Map<Class<?>, RepositoryInvoker> invokers;
+	private final ConcurrentMap<Class<?>, RepositoryInvoker> invokers;
 
 	/**
 	 * Creates a new {@link DefaultRepositoryInvokerFactory} for the given {@link Repositories} and
@@ -54,8 +55,7 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 
 		this.repositories = repositories;
 		this.conversionService = conversionService;
-		this.invokers = new HashMap<Class<?>, RepositoryInvoker>();
-
+		this.invokers = new ConcurrentHashMap<Class<?>, RepositoryInvoker>();
 	}
 
 	/**
@@ -69,15 +69,16 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 
 		Object repository = repositories.getRepositoryFor(domainType);
 		RepositoryInformation information = repositories.getRepositoryInformationFor(domainType);
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(domainType);
 
 		if (repository instanceof PagingAndSortingRepository) {
 			return new PagingAndSortingRepositoryInvoker((PagingAndSortingRepository<Object, Serializable>) repository,
-					information, conversionService);
+					information, entity, conversionService);
 		} else if (repository instanceof CrudRepository) {
-			return new CrudRepositoryInvoker((CrudRepository<Object, Serializable>) repository, information,
+			return new CrudRepositoryInvoker((CrudRepository<Object, Serializable>) repository, information, entity,
 					conversionService);
 		} else {
-			return new ReflectionRepositoryInvoker(repository, information, conversionService);
+			return new ReflectionRepositoryInvoker(repository, information, entity, conversionService);
 		}
 	}
 
@@ -95,8 +96,8 @@ public class DefaultRepositoryInvokerFactory implements RepositoryInvokerFactory
 		}
 
 		invoker = prepareInvokers(domainType);
-		invokers.put(domainType, invoker);
+		RepositoryInvoker existing = invokers.putIfAbsent(domainType, invoker);
 
-		return invoker;
+		return existing == null ? invoker : existing;
 	}
 }
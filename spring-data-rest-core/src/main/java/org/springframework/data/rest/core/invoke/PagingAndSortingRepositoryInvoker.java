@@ -20,6 +20,7 @@ import java.io.Serializable;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
 
@@ -34,17 +35,18 @@ class PagingAndSortingRepositoryInvoker extends CrudRepositoryInvoker {
 	private final PagingAndSortingRepository<Object, Serializable> repository;
 
 	/**
-	 * Creates a new {@link PagingAndSortingRepositoryInvoker} using the given repository, {@link RepositoryInformation}
-	 * and {@link ConversionService}.
+	 * Creates a new {@link PagingAndSortingRepositoryInvoker} using the given repository, {@link RepositoryInformation},
+	 * {@link PersistentEntity} and {@link ConversionService}.
 	 * 
 	 * @param repository must not be {@literal null}.
 	 * @param information must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
 	 * @param conversionService must not be {@literal null}.
 	 */
 	public PagingAndSortingRepositoryInvoker(PagingAndSortingRepository<Object, Serializable> repository,
-			RepositoryInformation information, ConversionService conversionService) {
+			RepositoryInformation information, PersistentEntity<?, ?> entity, ConversionService conversionService) {
 
-		super(repository, information, conversionService);
+		super(repository, information, entity, conversionService);
 		this.repository = repository;
 	}
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.Param;
+import org.springframework.hateoas.core.AnnotationAttribute;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Invokes a single query method with a parameter binding plan calculated upfront. Parameter names, target
+ * {@link TypeDescriptor}s and the slots for {@link Pageable} and {@link Sort} are resolved once so that an invocation
+ * only has to look up and convert the raw request parameters.
+ * 
+ * @author agent
+ */
+class QueryMethodInvoker {
+
+	private static final AnnotationAttribute PARAM_ANNOTATION = new AnnotationAttribute(Param.class);
+	private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+	private static final TypeDescriptor STRING_ARRAY = TypeDescriptor.valueOf(String[].class);
+
+	private final Method method;
+	private final ParameterBinding[] bindings;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link QueryMethodInvoker} for the given query {@link Method} and {@link ConversionService}.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public QueryMethodInvoker(Method method, ConversionService conversionService) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		List<MethodParameter> parameters = new MethodParameters(method, PARAM_ANNOTATION).getParameters();
+
+		this.method = method;
+		this.bindings = new ParameterBinding[parameters.size()];
+		this.conversionService = conversionService;
+
+		for (int i = 0; i < bindings.length; i++) {
+			bindings[i] = new ParameterBinding(parameters.get(i));
+		}
+
+		ReflectionUtils.makeAccessible(method);
+	}
+
+	/**
+	 * Invokes the query method on the given repository binding the given raw parameters, {@link Pageable} and
+	 * {@link Sort}.
+	 * 
+	 * @param repository must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 */
+	public Object invoke(Object repository, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+		return ReflectionUtils.invokeMethod(method, repository, prepareParameters(parameters, pageable, sort));
+	}
+
+	private Object[] prepareParameters(Map<String, String[]> rawParameters, Pageable pageable, Sort sort) {
+
+		Object[] result = new Object[bindings.length];
+		Sort sortToUse = pageable == null ? sort : pageable.getSort();
+
+		for (int i = 0; i < result.length; i++) {
+
+			ParameterBinding binding = bindings[i];
+
+			switch (binding.type) {
+				case PAGEABLE:
+					result[i] = pageable;
+					break;
+				case SORT:
+					result[i] = sortToUse;
+					break;
+				default:
+					result[i] = binding.convert(rawParameters);
+			}
+		}
+
+		return result;
+	}
+
+	private static enum BindingType {
+		PAGEABLE, SORT, NAMED;
+	}
+
+	/**
+	 * Binding of a single method parameter.
+	 * 
+	 * @author agent
+	 */
+	private class ParameterBinding {
+
+		private final BindingType type;
+		private final String name;
+		private final TypeDescriptor targetType;
+
+		public ParameterBinding(MethodParameter parameter) {
+
+			Class<?> parameterType = parameter.getParameterType();
+
+			if (Pageable.class.isAssignableFrom(parameterType)) {
+				this.type = BindingType.PAGEABLE;
+				this.name = null;
+				this.targetType = null;
+			} else if (Sort.class.isAssignableFrom(parameterType)) {
+				this.type = BindingType.SORT;
+				this.name = null;
+				this.targetType = null;
+			} else {
+				this.type = BindingType.NAMED;
+				this.name = parameter.getParameterName();
+				this.targetType = new TypeDescriptor(parameter);
+			}
+		}
+
+		/**
+		 * Looks up the value for the parameter from the given raw parameters and converts it into the parameter type.
+		 * 
+		 * @param rawParameters must not be {@literal null}.
+		 * @return
+		 */
+		public Object convert(Map<String, String[]> rawParameters) {
+
+			if (!StringUtils.hasText(name)) {
+				throw new IllegalArgumentException("No @Param annotation found on query method " + method.getName()
+						+ " for parameter " + name);
+			}
+
+			String[] parameterValue = rawParameters.get(name);
+
+			if (parameterValue == null) {
+				return conversionService.convert(null, null, targetType);
+			}
+
+			return parameterValue.length == 1 ? conversionService.convert(parameterValue[0], STRING, targetType)
+					: conversionService.convert(parameterValue, STRING_ARRAY, targetType);
+		}
+	}
+}
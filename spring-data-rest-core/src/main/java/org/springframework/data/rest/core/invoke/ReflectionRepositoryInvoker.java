@@ -17,25 +17,24 @@ package org.springframework.data.rest.core.invoke;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.springframework.core.MethodParameter;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryInformation;
-import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RestResource;
-import org.springframework.hateoas.core.AnnotationAttribute;
-import org.springframework.hateoas.core.MethodParameters;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
-import org.springframework.util.StringUtils;
 
 /**
  * Base {@link RepositoryInvoker} using reflection to invoke methods on Spring Data Repositories.
@@ -44,32 +43,45 @@ import org.springframework.util.StringUtils;
  */
 class ReflectionRepositoryInvoker implements RepositoryInvoker {
 
-	private static final AnnotationAttribute PARAM_ANNOTATION = new AnnotationAttribute(Param.class);
+	private static final String DELETE_IN_BATCH = "deleteInBatch";
 
 	private final Object repository;
 	private final CrudMethods methods;
 	private final RepositoryInformation information;
+	private final PersistentEntity<?, ?> entity;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<Method, QueryMethodInvoker> queryMethodInvokers;
+	private final Method deleteInBatchMethod;
 
 	/**
-	 * Creates a new {@link ReflectionRepositoryInvoker} for the given repository, {@link RepositoryInformation} and
-	 * {@link ConversionService}.
+	 * Creates a new {@link ReflectionRepositoryInvoker} for the given repository, {@link RepositoryInformation},
+	 * {@link PersistentEntity} and {@link ConversionService}.
 	 * 
 	 * @param repository must not be {@literal null}.
 	 * @param information must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
 	 * @param conversionService must not be {@literal null}.
 	 */
 	public ReflectionRepositoryInvoker(Object repository, RepositoryInformation information,
-			ConversionService conversionService) {
+			PersistentEntity<?, ?> entity, ConversionService conversionService) {
 
 		Assert.notNull(repository, "Repository must not be null!");
 		Assert.notNull(information, "RepositoryInformation must not be null!");
+		Assert.notNull(entity, "PersistentEntity must not be null!");
 		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		this.repository = repository;
 		this.methods = information.getCrudMethods();
 		this.information = information;
+		this.entity = entity;
 		this.conversionService = conversionService;
+		this.queryMethodInvokers = new ConcurrentHashMap<Method, QueryMethodInvoker>();
+		this.deleteInBatchMethod = ReflectionUtils.findMethod(information.getRepositoryInterface(), DELETE_IN_BATCH,
+				Iterable.class);
+
+		for (Method method : information.getQueryMethods()) {
+			queryMethodInvokers.put(method, new QueryMethodInvoker(method, conversionService));
+		}
 	}
 
 	/* 
@@ -150,6 +162,24 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 		return invoke(methods.getSaveMethod(), object);
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeSaveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> invokeSaveAll(Iterable<T> objects) {
+
+		Assert.notNull(objects, "Objects must not be null!");
+
+		List<T> result = new ArrayList<T>();
+
+		for (T object : objects) {
+			result.add(invokeSave(object));
+		}
+
+		return result;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#hasFindOneMethod()
@@ -177,6 +207,29 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 		return invoke(methods.getFindOneMethod(), convertId(id));
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeFindSome(java.lang.Iterable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindSome(Iterable<? extends Serializable> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<Object> result = new ArrayList<Object>();
+
+		for (Serializable id : ids) {
+
+			Object object = invokeFindOne(id);
+
+			if (object != null) {
+				result.add(object);
+			}
+		}
+
+		return result;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#hasDeleteMethod()
@@ -211,58 +264,95 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 		}
 	}
 
-	private boolean exposes(Method method) {
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDeleteEntity(java.lang.Object)
+	 */
+	@Override
+	public void invokeDeleteEntity(Object object) {
 
-		RestResource annotation = AnnotationUtils.findAnnotation(method, RestResource.class);
-		return annotation == null ? true : annotation.exported();
+		Assert.notNull(object, "Object must not be null!");
+
+		Method method = methods.getDeleteMethod();
+		invoke(method, method.getParameterTypes()[0].equals(Serializable.class) ? getIdFor(object) : object);
 	}
 
-	/*
+	/* 
 	 * (non-Javadoc)
-	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDeleteAll(java.lang.Iterable)
 	 */
 	@Override
-	public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
-		return invoke(method, prepareParameters(method, parameters, pageable, sort));
+	public void invokeDeleteAll(Iterable<?> objects) {
+
+		Assert.notNull(objects, "Objects must not be null!");
+
+		for (Object object : objects) {
+			invokeDeleteEntity(object);
+		}
 	}
 
-	private Object[] prepareParameters(Method method, Map<String, String[]> rawParameters, Pageable pageable, Sort sort) {
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDeleteInBatch(java.lang.Iterable)
+	 */
+	@Override
+	public void invokeDeleteInBatch(Iterable<?> objects) {
 
-		List<MethodParameter> parameters = new MethodParameters(method, PARAM_ANNOTATION).getParameters();
+		Assert.notNull(objects, "Objects must not be null!");
 
-		if (parameters.isEmpty()) {
-			return new Object[0];
+		if (deleteInBatchMethod == null) {
+			invokeDeleteAll(objects);
+		} else {
+			invoke(deleteInBatchMethod, objects);
 		}
+	}
 
-		Object[] result = new Object[parameters.size()];
-		Sort sortToUse = pageable == null ? sort : pageable.getSort();
+	/**
+	 * Returns the identifier of the given domain object.
+	 * 
+	 * @param object must not be {@literal null}.
+	 * @return
+	 */
+	protected Serializable getIdFor(Object object) {
 
-		for (int i = 0; i < result.length; i++) {
+		Assert.notNull(object, "Object must not be null!");
+		return (Serializable) BeanWrapper.create(object, conversionService).getProperty(entity.getIdProperty());
+	}
 
-			MethodParameter param = parameters.get(i);
-			Class<?> targetType = param.getParameterType();
+	private boolean exposes(Method method) {
 
-			if (Pageable.class.isAssignableFrom(targetType)) {
-				result[i] = pageable;
-			} else if (Sort.class.isAssignableFrom(targetType)) {
-				result[i] = sortToUse;
-			} else {
+		RestResource annotation = AnnotationUtils.findAnnotation(method, RestResource.class);
+		return annotation == null ? true : annotation.exported();
+	}
 
-				String parameterName = param.getParameterName();
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+		return getQueryMethodInvoker(method).invoke(repository, parameters, pageable, sort);
+	}
 
-				if (!StringUtils.hasText(parameterName)) {
-					throw new IllegalArgumentException("No @Param annotation found on query method " + method.getName()
-							+ " for parameter " + parameterName);
-				}
+	/**
+	 * Returns the {@link QueryMethodInvoker} for the given query method, creating it on first access if it was not
+	 * prepared upfront.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private QueryMethodInvoker getQueryMethodInvoker(Method method) {
 
-				String[] parameterValue = rawParameters.get(parameterName);
-				Object value = parameterValue == null ? null : parameterValue.length == 1 ? parameterValue[0] : parameterValue;
+		QueryMethodInvoker invoker = queryMethodInvokers.get(method);
 
-				result[i] = conversionService.convert(value, TypeDescriptor.forObject(value), new TypeDescriptor(param));
-			}
+		if (invoker != null) {
+			return invoker;
 		}
 
-		return result;
+		invoker = new QueryMethodInvoker(method, conversionService);
+		QueryMethodInvoker existing = queryMethodInvokers.putIfAbsent(method, invoker);
+
+		return existing == null ? invoker : existing;
 	}
 
 	/**
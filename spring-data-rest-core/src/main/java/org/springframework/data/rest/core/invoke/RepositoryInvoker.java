@@ -29,13 +29,58 @@ public interface RepositoryInvoker extends RepositoryInvocationInformation {
 
 	<T> T invokeSave(T object);
 
+	/**
+	 * Saves all of the given objects. Uses a batch save on the repository if available and the plain save method is not
+	 * customized, falls back to invoking {@link #invokeSave(Object)} for every object otherwise.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @return the saved objects in the order of the given ones.
+	 */
+	<T> Iterable<T> invokeSaveAll(Iterable<T> objects);
+
 	<T> T invokeFindOne(Serializable id);
 
+	/**
+	 * Looks up all entities with the given identifiers. Uses {@code CrudRepository.findAll(Iterable)} if available and
+	 * the plain find one method is not customized, falls back to invoking {@link #invokeFindOne(Serializable)} for every
+	 * identifier otherwise.
+	 * 
+	 * @param ids must not be {@literal null}.
+	 * @return the entities found, in no particular order. Identifiers without an entity are skipped.
+	 */
+	Iterable<Object> invokeFindSome(Iterable<? extends Serializable> ids);
+
 	Iterable<Object> invokeFindAll(Pageable pageable);
 
 	Iterable<Object> invokeFindAll(Sort sort);
 
 	void invokeDelete(Serializable serializable);
 
+	/**
+	 * Deletes the given, already loaded domain object. Prefer this over {@link #invokeDelete(Serializable)} if the object
+	 * is at hand anyway, as it avoids looking it up again for repositories whose delete method takes the domain object.
+	 * 
+	 * @param object must not be {@literal null}.
+	 */
+	void invokeDeleteEntity(Object object);
+
+	/**
+	 * Deletes all of the given domain objects. Uses a batch delete on the repository if available and the plain delete
+	 * method is not customized, falls back to invoking the delete method for every object otherwise.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 */
+	void invokeDeleteAll(Iterable<?> objects);
+
+	/**
+	 * Deletes all of the given domain objects with a single store-level batch delete if the repository declares a
+	 * {@code deleteInBatch(Iterable)} method like {@code JpaRepository} does. Such a batch delete usually bypasses
+	 * cascades and lifecycle callbacks of the store. Falls back to {@link #invokeDeleteAll(Iterable)} if no such method
+	 * is available.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 */
+	void invokeDeleteInBatch(Iterable<?> objects);
+
 	Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort);
 }
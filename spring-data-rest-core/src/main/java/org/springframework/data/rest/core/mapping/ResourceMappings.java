@@ -21,6 +21,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.repository.core.RepositoryInformation;
@@ -47,8 +49,9 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 	private final RelProvider relProvider;
 
 	private final Map<Class<?>, ResourceMetadata> cache = new HashMap<Class<?>, ResourceMetadata>();
-	private final Map<Class<?>, SearchResourceMappings> searchCache = new HashMap<Class<?>, SearchResourceMappings>();
-	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new HashMap<PersistentProperty<?>, ResourceMapping>();
+	private final Map<String, ResourceMetadata> pathIndex = new HashMap<String, ResourceMetadata>();
+	private final ConcurrentMap<Class<?>, SearchResourceMappings> searchCache;
+	private final ConcurrentMap<PersistentProperty<?>, ResourceMapping> propertyCache;
 
 	/**
 	 * Creates a new {@link ResourceMappings} using the given {@link RepositoryRestConfiguration} and {@link Repositories}
@@ -76,8 +79,11 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 
 		this.repositories = repositories;
 		this.relProvider = relProvider;
+		this.searchCache = new ConcurrentHashMap<Class<?>, SearchResourceMappings>();
+		this.propertyCache = new ConcurrentHashMap<PersistentProperty<?>, ResourceMapping>();
 
 		this.populateCache(repositories);
+		this.populatePathIndex();
 	}
 
 	/**
@@ -112,6 +118,26 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 		}
 	}
 
+	/**
+	 * Indexes the {@link ResourceMetadata} by their path without the leading slash. If multiple repositories are exposed
+	 * under the same path, the primary one registered for the domain type wins.
+	 */
+	private final void populatePathIndex() {
+
+		for (ResourceMetadata metadata : cache.values()) {
+
+			String key = toPathIndexKey(metadata.getPath().toString());
+
+			if (!pathIndex.containsKey(key) || metadata == cache.get(metadata.getDomainType())) {
+				pathIndex.put(key, metadata);
+			}
+		}
+	}
+
+	private static String toPathIndexKey(String path) {
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+
 	/**
 	 * Returns the {@link ResourceMapping}s for the search resources of the given type.
 	 * 
@@ -122,14 +148,18 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 
 		Assert.notNull(type, "Type must not be null!");
 
-		if (searchCache.containsKey(type)) {
-			return searchCache.get(type);
+		SearchResourceMappings cached = searchCache.get(type);
+
+		if (cached != null) {
+			return cached;
 		}
 
 		Class<?> domainType = RepositoriesUtils.getDomainType(type);
+		cached = searchCache.get(domainType);
 
-		if (searchCache.containsKey(domainType)) {
-			return searchCache.get(domainType);
+		if (cached != null) {
+			searchCache.putIfAbsent(type, cached);
+			return cached;
 		}
 
 		RepositoryInformation repositoryInformation = repositories.getRepositoryInformationFor(domainType);
@@ -147,8 +177,10 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 		}
 
 		SearchResourceMappings searchResourceMappings = new SearchResourceMappings(mappings);
-		searchCache.put(type, searchResourceMappings);
-		searchCache.put(domainType, searchResourceMappings);
+		SearchResourceMappings existing = searchCache.putIfAbsent(domainType, searchResourceMappings);
+		searchResourceMappings = existing == null ? searchResourceMappings : existing;
+
+		searchCache.putIfAbsent(type, searchResourceMappings);
 		return searchResourceMappings;
 	}
 
@@ -178,13 +210,8 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 
 		Assert.hasText(path);
 
-		for (ResourceMetadata metadata : cache.values()) {
-			if (metadata.getPath().matches(path)) {
-				return metadata.isExported();
-			}
-		}
-
-		return false;
+		ResourceMetadata metadata = pathIndex.get(toPathIndexKey(path));
+		return metadata == null ? false : metadata.isExported();
 	}
 
 	/**
@@ -226,9 +253,9 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 		ResourceMetadata ownerTypeMapping = getMappingFor(property.getOwner().getType());
 		propertyMapping = new PersistentPropertyResourceMapping(property, propertyTypeMapping, ownerTypeMapping);
 
-		propertyCache.put(property, propertyMapping);
+		ResourceMapping existing = propertyCache.putIfAbsent(property, propertyMapping);
 
-		return propertyMapping;
+		return existing == null ? propertyMapping : existing;
 	}
 
 	/* 
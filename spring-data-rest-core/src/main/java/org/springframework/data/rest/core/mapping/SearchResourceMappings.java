@@ -77,6 +77,25 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 		return mapping == null ? null : mapping.getMethod();
 	}
 
+	/**
+	 * Returns the query method with the given name, no matter whether it's exported or not.
+	 * 
+	 * @param methodName must not be {@literal null} or empty.
+	 * @return the {@link Method} or {@literal null} if no query method with the given name exists.
+	 */
+	public Method getMappedMethodByName(String methodName) {
+
+		Assert.hasText(methodName, "Method name must not be null or empty!");
+
+		for (MethodResourceMapping mapping : mappings.values()) {
+			if (mapping.getMethod().getName().equals(methodName)) {
+				return mapping.getMethod();
+			}
+		}
+
+		return null;
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see org.springframework.data.rest.core.mapping.ResourceMapping#getPath()
@@ -17,6 +17,16 @@ package org.springframework.data.rest.core.support;
 
 import static org.springframework.data.rest.core.support.DomainObjectMerger.NullHandlingPolicy.*;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.Association;
@@ -24,13 +34,16 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.SimplePropertyHandler;
-import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
- * Component to be able to merge the first level of two objects.
+ * Component to be able to merge the first level of two objects. The properties to merge are inspected once per domain
+ * type and kept as a {@link MergePlan} so that subsequent merges don't need to traverse the {@link PersistentEntity}
+ * again.
  * 
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -40,6 +53,7 @@ public class DomainObjectMerger {
 
 	private final Repositories repositories;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<Class<?>, MergePlan> plans;
 
 	/**
 	 * Creates a new {@link DomainObjectMerger} for the given {@link Repositories} and {@link ConversionService}.
@@ -55,6 +69,7 @@ public class DomainObjectMerger {
 
 		this.repositories = repositories;
 		this.conversionService = conversionService;
+		this.plans = new ConcurrentHashMap<Class<?>, MergePlan>();
 	}
 
 	/**
@@ -64,65 +79,199 @@ public class DomainObjectMerger {
 	 * @param target can be {@literal null}.
 	 * @param nullPolicy how to handle {@literal null} values in the source object.
 	 */
-	public void merge(Object from, Object target, final NullHandlingPolicy nullPolicy) {
+	public void merge(Object from, Object target, NullHandlingPolicy nullPolicy) {
+		mergeAndGetChangedProperties(from, target, nullPolicy);
+	}
+
+	/**
+	 * Merges the given target object into the source one and returns the names of the properties changed.
+	 * 
+	 * @param from can be {@literal null}.
+	 * @param target can be {@literal null}.
+	 * @param nullPolicy how to handle {@literal null} values in the source object.
+	 * @return the names of the properties that were changed on the target object, never {@literal null}.
+	 */
+	public Set<String> mergeAndGetChangedProperties(Object from, Object target, NullHandlingPolicy nullPolicy) {
 
 		if (from == null || target == null) {
-			return;
+			return Collections.emptySet();
 		}
 
-		final BeanWrapper<?, Object> fromWrapper = BeanWrapper.create(from, conversionService);
-		final BeanWrapper<?, Object> targetWrapper = BeanWrapper.create(target, conversionService);
-		final PersistentEntity<?, ?> entity = repositories.getPersistentEntity(target.getClass());
+		return getMergePlan(target.getClass()).merge(from, target, nullPolicy);
+	}
+
+	/**
+	 * Returns the {@link MergePlan} for the given type, creating it on first access.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private MergePlan getMergePlan(Class<?> type) {
 
-		entity.doWithProperties(new SimplePropertyHandler() {
+		MergePlan plan = plans.get(type);
 
-			/*
-			 * (non-Javadoc)
-			 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
-			 */
-			@Override
-			public void doWithPersistentProperty(PersistentProperty<?> persistentProperty) {
+		if (plan != null) {
+			return plan;
+		}
 
-				Object sourceValue = fromWrapper.getProperty(persistentProperty);
-				Object targetValue = targetWrapper.getProperty(persistentProperty);
+		plan = new MergePlan(repositories.getPersistentEntity(type), conversionService);
+		MergePlan existing = plans.putIfAbsent(type, plan);
 
-				if (entity.isIdProperty(persistentProperty)) {
-					return;
-				}
+		return existing == null ? plan : existing;
+	}
 
-				if (ObjectUtils.nullSafeEquals(sourceValue, targetValue)) {
-					return;
+	/**
+	 * Strategy to express whether {@literal null} values should be ignored or set on the target domain object.
+	 */
+	public static enum NullHandlingPolicy {
+		APPLY_NULLS, IGNORE_NULLS;
+	}
+
+	/**
+	 * The properties of a {@link PersistentEntity} to be merged, inspected upfront. Identifier properties are excluded
+	 * and associations are only merged if the source value is not {@literal null}.
+	 * 
+	 * @author agent
+	 */
+	private static class MergePlan {
+
+		private final PropertyAccessor[] accessors;
+
+		/**
+		 * Creates a new {@link MergePlan} for the given {@link PersistentEntity}.
+		 * 
+		 * @param entity must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
+		 */
+		public MergePlan(final PersistentEntity<?, ?> entity, final ConversionService conversionService) {
+
+			final List<PropertyAccessor> accessors = new ArrayList<PropertyAccessor>();
+
+			entity.doWithProperties(new SimplePropertyHandler() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
+				 */
+				@Override
+				public void doWithPersistentProperty(PersistentProperty<?> persistentProperty) {
+
+					if (!entity.isIdProperty(persistentProperty)) {
+						accessors.add(new PropertyAccessor(persistentProperty, false, conversionService));
+					}
 				}
+			});
+
+			entity.doWithAssociations(new SimpleAssociationHandler() {
 
-				if (nullPolicy == APPLY_NULLS || sourceValue != null) {
-					targetWrapper.setProperty(persistentProperty, sourceValue);
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
+				 */
+				@Override
+				public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+					accessors.add(new PropertyAccessor(association.getInverse(), true, conversionService));
 				}
-			}
-		});
+			});
+
+			this.accessors = accessors.toArray(new PropertyAccessor[accessors.size()]);
+		}
 
-		entity.doWithAssociations(new SimpleAssociationHandler() {
+		/**
+		 * Merges the given source object into the given target.
+		 * 
+		 * @param from must not be {@literal null}.
+		 * @param target must not be {@literal null}.
+		 * @param nullPolicy must not be {@literal null}.
+		 * @return the names of the properties changed.
+		 */
+		public Set<String> merge(Object from, Object target, NullHandlingPolicy nullPolicy) {
 
-			/*
-			 * (non-Javadoc)
-			 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
-			 */
-			@Override
-			public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+			Set<String> changed = new LinkedHashSet<String>();
 
-				PersistentProperty<?> persistentProperty = association.getInverse();
-				Object fromVal = fromWrapper.getProperty(persistentProperty);
+			for (PropertyAccessor accessor : accessors) {
 
-				if (fromVal != null && !fromVal.equals(targetWrapper.getProperty(persistentProperty))) {
-					targetWrapper.setProperty(persistentProperty, fromVal);
+				Object sourceValue = accessor.getValue(from);
+
+				if (sourceValue == null && (accessor.association || nullPolicy == IGNORE_NULLS)) {
+					continue;
 				}
+
+				if (ObjectUtils.nullSafeEquals(sourceValue, accessor.getValue(target))) {
+					continue;
+				}
+
+				accessor.setValue(target, sourceValue);
+				changed.add(accessor.name);
 			}
-		});
+
+			return changed;
+		}
 	}
 
 	/**
-	 * Strategy to express whether {@literal null} values should be ignored or set on the target domain object.
+	 * Reads and writes a single {@link PersistentProperty} preferring its accessor methods over direct field access.
+	 * 
+	 * @author agent
 	 */
-	public static enum NullHandlingPolicy {
-		APPLY_NULLS, IGNORE_NULLS;
+	private static class PropertyAccessor {
+
+		private final String name;
+		private final boolean association;
+		private final Method getter;
+		private final Method setter;
+		private final Field field;
+		private final ConversionService conversionService;
+
+		/**
+		 * Creates a new {@link PropertyAccessor} for the given {@link PersistentProperty}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param association whether the property is the inverse side of an association.
+		 * @param conversionService must not be {@literal null}.
+		 */
+		public PropertyAccessor(PersistentProperty<?> property, boolean association, ConversionService conversionService) {
+
+			this.name = property.getName();
+			this.association = association;
+			this.getter = property.getGetter();
+			this.setter = property.getSetter();
+			this.field = property.getField();
+			this.conversionService = conversionService;
+
+			if (getter != null) {
+				ReflectionUtils.makeAccessible(getter);
+			}
+
+			if (setter != null) {
+				ReflectionUtils.makeAccessible(setter);
+			}
+
+			if (field != null) {
+				ReflectionUtils.makeAccessible(field);
+			}
+		}
+
+		public Object getValue(Object bean) {
+			return getter != null ? ReflectionUtils.invokeMethod(getter, bean) : ReflectionUtils.getField(field, bean);
+		}
+
+		public void setValue(Object bean, Object value) {
+
+			if (setter != null) {
+				ReflectionUtils.invokeMethod(setter, bean, convertIfNecessary(value, setter.getParameterTypes()[0]));
+			} else {
+				ReflectionUtils.setField(field, bean, convertIfNecessary(value, field.getType()));
+			}
+		}
+
+		private Object convertIfNecessary(Object value, Class<?> type) {
+
+			if (value == null || ClassUtils.isAssignableValue(type, value)) {
+				return value;
+			}
+
+			return conversionService.convert(value, type);
+		}
 	}
 }
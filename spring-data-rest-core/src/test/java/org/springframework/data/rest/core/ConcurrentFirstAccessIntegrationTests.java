@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.domain.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.data.rest.core.invoke.DefaultRepositoryInvokerFactory;
+import org.springframework.data.rest.core.invoke.RepositoryInvoker;
+import org.springframework.data.rest.core.mapping.ResourceMapping;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * Stress tests for the lazily populated caches of {@link ResourceMappings} and {@link DefaultRepositoryInvokerFactory}
+ * hammering the first access from multiple threads at once.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+public class ConcurrentFirstAccessIntegrationTests {
+
+	static final int THREADS = 16;
+	static final int ROUNDS = 50;
+
+	@Autowired ListableBeanFactory factory;
+
+	Repositories repositories;
+	ExecutorService executor;
+
+	@Before
+	public void setUp() {
+
+		this.repositories = new Repositories(factory);
+		this.executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void returnsSameSearchResourceMappingsForConcurrentFirstAccess() throws Exception {
+
+		for (int i = 0; i < ROUNDS; i++) {
+
+			final ResourceMappings mappings = new ResourceMappings(new RepositoryRestConfiguration(), repositories);
+
+			assertAllSame(runConcurrently(new Callable<SearchResourceMappings>() {
+
+				@Override
+				public SearchResourceMappings call() throws Exception {
+					return mappings.getSearchResourceMappings(Person.class);
+				}
+			}));
+		}
+	}
+
+	@Test
+	public void returnsSamePropertyMappingForConcurrentFirstAccess() throws Exception {
+
+		final PersistentProperty<?> property = repositories.getPersistentEntity(Person.class).getPersistentProperty(
+				"siblings");
+
+		for (int i = 0; i < ROUNDS; i++) {
+
+			final ResourceMetadata metadata = new ResourceMappings(new RepositoryRestConfiguration(), repositories)
+					.getMappingFor(Person.class);
+
+			assertAllSame(runConcurrently(new Callable<ResourceMapping>() {
+
+				@Override
+				public ResourceMapping call() throws Exception {
+					return metadata.getMappingFor(property);
+				}
+			}));
+		}
+	}
+
+	@Test
+	public void returnsSameInvokerForConcurrentFirstAccess() throws Exception {
+
+		for (int i = 0; i < ROUNDS; i++) {
+
+			final DefaultRepositoryInvokerFactory invokerFactory = new DefaultRepositoryInvokerFactory(repositories,
+					new DefaultConversionService());
+
+			assertAllSame(runConcurrently(new Callable<RepositoryInvoker>() {
+
+				@Override
+				public RepositoryInvoker call() throws Exception {
+					return invokerFactory.getInvokerFor(Person.class);
+				}
+			}));
+		}
+	}
+
+	/**
+	 * Executes the given {@link Callable} in {@value #THREADS} threads that are released at the same time.
+	 * 
+	 * @param callable must not be {@literal null}.
+	 * @return the results of all executions.
+	 * @throws Exception
+	 */
+	private <T> List<T> runConcurrently(final Callable<T> callable) throws Exception {
+
+		final CountDownLatch ready = new CountDownLatch(THREADS);
+		final CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<T>> futures = new ArrayList<Future<T>>(THREADS);
+
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(new Callable<T>() {
+
+				@Override
+				public T call() throws Exception {
+
+					ready.countDown();
+					start.await();
+
+					return callable.call();
+				}
+			}));
+		}
+
+		assertThat(ready.await(10, TimeUnit.SECONDS), is(true));
+		start.countDown();
+
+		List<T> results = new ArrayList<T>(THREADS);
+
+		for (Future<T> future : futures) {
+			results.add(future.get(10, TimeUnit.SECONDS));
+		}
+
+		return results;
+	}
+
+	private static void assertAllSame(List<?> results) {
+
+		Object first = results.get(0);
+		assertThat(first, is(notNullValue()));
+
+		for (Object result : results) {
+			assertThat(result, is(sameInstance(first)));
+		}
+	}
+}
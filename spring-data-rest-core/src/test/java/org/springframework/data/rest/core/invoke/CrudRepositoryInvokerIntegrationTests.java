@@ -18,6 +18,8 @@ package org.springframework.data.rest.core.invoke;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Test;
@@ -57,6 +59,19 @@ public class CrudRepositoryInvokerIntegrationTests extends AbstractIntegrationTe
 		invoker.invokeSave(new Order(person));
 	}
 
+	@Test
+	public void invokesRedeclaredSaveForEveryElementOnSaveAll() {
+
+		RepositoryInvoker invoker = getInvokerFor(orderRepository, OrderRepository.class);
+
+		Person person = personRepository.findOne(1L);
+		Iterable<Order> result = invoker.invokeSaveAll(Arrays.asList(new Order(person), new Order(person)));
+
+		for (Order order : result) {
+			assertThat(order.getId(), is(notNullValue()));
+		}
+	}
+
 	/**
 	 * @see DATAREST-216
 	 */
@@ -83,6 +98,32 @@ public class CrudRepositoryInvokerIntegrationTests extends AbstractIntegrationTe
 		invoker.invokeDelete(order.getId());
 	}
 
+	@Test
+	public void invokesDeleteWithEntityOnCrudRepository() {
+
+		Person person = personRepository.findOne(1L);
+		Order order = orderRepository.save(new Order(person));
+
+		RepositoryInvoker invoker = getInvokerFor(orderRepository, CrudRepository.class);
+		invoker.invokeDeleteEntity(order);
+
+		assertThat(orderRepository.findOne(order.getId()), is(nullValue()));
+	}
+
+	@Test
+	public void invokesDeleteAllOnCrudRepository() {
+
+		Person person = personRepository.findOne(1L);
+		Order first = orderRepository.save(new Order(person));
+		Order second = orderRepository.save(new Order(person));
+
+		RepositoryInvoker invoker = getInvokerFor(orderRepository, CrudRepository.class);
+		invoker.invokeDeleteAll(Arrays.asList(first, second));
+
+		assertThat(orderRepository.findOne(first.getId()), is(nullValue()));
+		assertThat(orderRepository.findOne(second.getId()), is(nullValue()));
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private RepositoryInvoker getInvokerFor(Object repository, Class<?> expectedType) {
 
@@ -91,7 +132,7 @@ public class CrudRepositoryInvokerIntegrationTests extends AbstractIntegrationTe
 		ConversionService conversionService = new DefaultFormattingConversionService();
 
 		return new CrudRepositoryInvoker((CrudRepository) proxy, repositories.getRepositoryInformationFor(Order.class),
-				conversionService);
+				repositories.getPersistentEntity(Order.class), conversionService);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Unit tests for {@link QueryMethodInvoker}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class QueryMethodInvokerUnitTests {
+
+	@Mock SampleRepository repository;
+
+	@Test
+	public void bindsAndConvertsNamedParametersAndPageable() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findBy", String.class, Integer.class, Pageable.class);
+		QueryMethodInvoker invoker = new QueryMethodInvoker(method, new DefaultConversionService());
+
+		Map<String, String[]> parameters = new HashMap<String, String[]>();
+		parameters.put("name", new String[] { "Dave" });
+		parameters.put("age", new String[] { "42" });
+
+		Pageable pageable = new PageRequest(0, 10);
+		invoker.invoke(repository, parameters, pageable, null);
+
+		verify(repository).findBy("Dave", 42, pageable);
+	}
+
+	@Test
+	public void bindsNullForMissingParameters() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findBy", String.class, Integer.class, Pageable.class);
+		QueryMethodInvoker invoker = new QueryMethodInvoker(method, new DefaultConversionService());
+
+		invoker.invoke(repository, Collections.<String, String[]> emptyMap(), null, null);
+
+		verify(repository).findBy(null, null, null);
+	}
+
+	@Test
+	public void bindsSortOfPageableToSortParameter() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByName", String.class, Sort.class);
+		QueryMethodInvoker invoker = new QueryMethodInvoker(method, new DefaultConversionService());
+
+		Sort sort = new Sort("name");
+		invoker.invoke(repository, Collections.singletonMap("name", new String[] { "Dave" }),
+				new PageRequest(0, 10, sort), null);
+
+		verify(repository).findByName("Dave", sort);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsInvocationIfParameterIsNotNamed() throws Exception {
+
+		Method method = SampleRepository.class.getMethod("findByUnnamed", String.class);
+		QueryMethodInvoker invoker = new QueryMethodInvoker(method, new DefaultConversionService());
+
+		invoker.invoke(repository, Collections.<String, String[]> emptyMap(), null, null);
+	}
+
+	interface SampleRepository {
+
+		List<Object> findBy(@Param("name") String name, @Param("age") Integer age, Pageable pageable);
+
+		List<Object> findByName(@Param("name") String name, Sort sort);
+
+		List<Object> findByUnnamed(String name);
+	}
+}
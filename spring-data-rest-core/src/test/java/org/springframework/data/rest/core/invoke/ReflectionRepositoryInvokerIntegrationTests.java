@@ -17,8 +17,11 @@ package org.springframework.data.rest.core.invoke;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -30,6 +33,8 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.AbstractIntegrationTests;
@@ -57,7 +62,8 @@ public class ReflectionRepositoryInvokerIntegrationTests extends AbstractIntegra
 	public void setUp() {
 
 		information = repositories.getRepositoryInformationFor(Person.class);
-		invoker = new ReflectionRepositoryInvoker(repository, information, conversionService);
+		invoker = new ReflectionRepositoryInvoker(repository, information,
+				repositories.getPersistentEntity(Person.class), conversionService);
 	}
 
 	@Test
@@ -88,12 +94,50 @@ public class ReflectionRepositoryInvokerIntegrationTests extends AbstractIntegra
 	public void fallsBackToPlainFindAllIfRepositoryIsNotPaging() {
 
 		ReflectionRepositoryInvoker invoker = new ReflectionRepositoryInvoker(orderRepository,
-				repositories.getRepositoryInformationFor(Order.class), conversionService);
+				repositories.getRepositoryInformationFor(Order.class), repositories.getPersistentEntity(Order.class),
+				conversionService);
 		Iterable<Object> result = invoker.invokeFindAll(new PageRequest(0, 10));
 
 		assertThat(result, is(instanceOf(List.class)));
 	}
 
+	@Test
+	public void deletesEveryObjectOnDeleteAll() {
+
+		Person person = repository.save(new Person("Dave", "Matthews"));
+		invoker.invokeDeleteAll(Arrays.asList(person));
+
+		assertThat(repository.findOne(person.getId()), is(nullValue()));
+	}
+
+	@Test
+	public void fallsBackToDeleteAllIfNoBatchDeleteIsAvailable() {
+
+		Person person = repository.save(new Person("Dave", "Matthews"));
+		invoker.invokeDeleteInBatch(Arrays.asList(person));
+
+		assertThat(repository.findOne(person.getId()), is(nullValue()));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void usesBatchDeleteIfDeclaredOnRepository() {
+
+		BatchDeletingRepository batchRepository = mock(BatchDeletingRepository.class);
+		RepositoryInformation information = mock(RepositoryInformation.class);
+
+		when(information.getCrudMethods()).thenReturn(mock(CrudMethods.class));
+		when(information.getQueryMethods()).thenReturn(Collections.<Method> emptyList());
+		when(information.getRepositoryInterface()).thenReturn((Class) BatchDeletingRepository.class);
+
+		List<Person> people = Arrays.asList(new Person("Dave", "Matthews"));
+		new ReflectionRepositoryInvoker(batchRepository, information, repositories.getPersistentEntity(Person.class),
+				conversionService).invokeDeleteInBatch(people);
+
+		verify(batchRepository).deleteInBatch(people);
+		verifyNoMoreInteractions(batchRepository);
+	}
+
 	@Test
 	public void invokesQueryMethod() throws Exception {
 
@@ -119,4 +163,9 @@ public class ReflectionRepositoryInvokerIntegrationTests extends AbstractIntegra
 		Page<?> page = (Page<?>) result;
 		assertThat(page.getNumberOfElements(), is(1));
 	}
+
+	interface BatchDeletingRepository extends CrudRepository<Person, Long> {
+
+		void deleteInBatch(Iterable<Person> entities);
+	}
 }
@@ -118,6 +118,15 @@ public class ResourceMappingsIntegrationTests {
 		assertThat(mappings.exportsTopLevelResourceFor("creditCards"), is(false));
 	}
 
+	@Test
+	public void looksUpTopLevelResourceByPathWithLeadingSlash() {
+
+		assertThat(mappings.exportsTopLevelResourceFor("/people"), is(true));
+		assertThat(mappings.exportsTopLevelResourceFor("//people"), is(false));
+		assertThat(mappings.exportsTopLevelResourceFor("peoples"), is(false));
+		assertThat(mappings.exportsTopLevelResourceFor("unknown"), is(false));
+	}
+
 	/**
 	 * @see DATAREST-107
 	 */
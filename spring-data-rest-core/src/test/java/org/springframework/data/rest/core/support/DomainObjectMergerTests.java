@@ -19,8 +19,11 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.springframework.data.rest.core.support.DomainObjectMerger.NullHandlingPolicy.*;
 
+import java.util.Set;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.convert.ConversionService;
@@ -82,4 +85,71 @@ public class DomainObjectMergerTests {
 		assertThat(existingDomainObject.getFirstName(), equalTo(incoming.getFirstName()));
 		assertThat(existingDomainObject.getLastName(), equalTo(incoming.getLastName()));
 	}
+
+	@Test
+	public void reportsChangedPropertiesOnly() {
+
+		Repositories repositories = new Repositories(context.getBeanFactory());
+		ConversionService conversionService = new DefaultConversionService();
+
+		Person incoming = new Person("Bilbo", null);
+		Person existingDomainObject = new Person("Frodo", "Baggins");
+
+		DomainObjectMerger merger = new DomainObjectMerger(repositories, conversionService);
+		Set<String> changed = merger.mergeAndGetChangedProperties(incoming, existingDomainObject, IGNORE_NULLS);
+
+		assertThat(changed, contains("firstName"));
+		assertThat(existingDomainObject.getFirstName(), is("Bilbo"));
+		assertThat(existingDomainObject.getLastName(), is("Baggins"));
+	}
+
+	@Test
+	public void ignoresNullValuesIfConfigured() {
+
+		Repositories repositories = new Repositories(context.getBeanFactory());
+		ConversionService conversionService = new DefaultConversionService();
+
+		Person incoming = new Person(null, null);
+		Person existingDomainObject = new Person("Frodo", "Baggins");
+
+		DomainObjectMerger merger = new DomainObjectMerger(repositories, conversionService);
+		Set<String> changed = merger.mergeAndGetChangedProperties(incoming, existingDomainObject, IGNORE_NULLS);
+
+		assertThat(changed, is(empty()));
+		assertThat(existingDomainObject.getFirstName(), is("Frodo"));
+		assertThat(existingDomainObject.getLastName(), is("Baggins"));
+	}
+
+	@Test
+	public void reportsPropertiesClearedByNullValues() {
+
+		Repositories repositories = new Repositories(context.getBeanFactory());
+		ConversionService conversionService = new DefaultConversionService();
+
+		Person incoming = new Person("Frodo", null);
+		Person existingDomainObject = new Person("Frodo", "Baggins");
+
+		DomainObjectMerger merger = new DomainObjectMerger(repositories, conversionService);
+		Set<String> changed = merger.mergeAndGetChangedProperties(incoming, existingDomainObject, APPLY_NULLS);
+
+		assertThat(changed, contains("lastName"));
+		assertThat(existingDomainObject.getLastName(), is(nullValue()));
+	}
+
+	@Test
+	public void inspectsDomainTypeOnlyOnce() {
+
+		Repositories repositories = Mockito.spy(new Repositories(context.getBeanFactory()));
+		ConversionService conversionService = new DefaultConversionService();
+
+		DomainObjectMerger merger = new DomainObjectMerger(repositories, conversionService);
+		merger.merge(new Person("Bilbo", "Baggins"), new Person("Frodo", "Baggins"), APPLY_NULLS);
+
+		Person existingDomainObject = new Person("Frodo", "Baggins");
+		merger.merge(new Person("Samwise", "Gamgee"), existingDomainObject, APPLY_NULLS);
+
+		Mockito.verify(repositories, Mockito.times(1)).getPersistentEntity(Person.class);
+		assertThat(existingDomainObject.getFirstName(), is("Samwise"));
+		assertThat(existingDomainObject.getLastName(), is("Gamgee"));
+	}
 }
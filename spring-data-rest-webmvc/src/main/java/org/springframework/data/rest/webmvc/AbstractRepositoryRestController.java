@@ -22,25 +22,33 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceAware;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
+import org.springframework.data.rest.webmvc.support.RepositoryExecutors;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -48,9 +56,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 /**
  * @author Jon Brisbin
@@ -65,9 +80,12 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 
 	@Autowired(required = false) private ValidationExceptionHandler handler;
 	@Autowired(required = false) private PlatformTransactionManager txMgr;
+	@Autowired(required = false) private SlicedResourcesAssembler<Object> sliceAssembler;
+	@Autowired(required = false) private RepositoryExecutors executors;
 
 	private MessageSource messageSource;
 	private PagedResourcesAssembler<Object> assembler;
+	private TransactionTemplate txTmpl;
 
 	public AbstractRepositoryRestController(PagedResourcesAssembler<Object> assembler,
 			PersistentEntityResourceAssembler<Object> entityResourceAssembler) {
@@ -88,12 +106,74 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 	@Override
 	public void afterPropertiesSet() throws Exception {
 
-		// FIXME:
+		if (null != txMgr) {
+			txTmpl = new TransactionTemplate(txMgr);
+			txTmpl.afterPropertiesSet();
+		}
+	}
+
+	/**
+	 * Executes the given {@link TransactionCallback} in a transaction if a {@link PlatformTransactionManager} is
+	 * available or directly otherwise.
+	 * 
+	 * @param callback must not be {@literal null}.
+	 * @return the result of the callback.
+	 */
+	protected <T> T executeInTransaction(TransactionCallback<T> callback) {
+		return txTmpl == null ? callback.doInTransaction(new SimpleTransactionStatus(false)) : txTmpl.execute(callback);
+	}
 
-		// if (null != txMgr) {
-		// txTmpl = new TransactionTemplate(txMgr);
-		// txTmpl.afterPropertiesSet();
-		// }
+	/**
+	 * Returns the {@link ApplicationEventPublisher} to publish repository events through. Publishes {@code After*} events
+	 * asynchronously if configured.
+	 * 
+	 * @param publisher must not be {@literal null}.
+	 * @return
+	 * @see RepositoryExecutors#getEventPublisher(ApplicationEventPublisher)
+	 */
+	protected ApplicationEventPublisher getEventPublisher(ApplicationEventPublisher publisher) {
+		return executors == null ? publisher : executors.getEventPublisher(publisher);
+	}
+
+	/**
+	 * Creates a {@link WebAsyncTask} to execute the given {@link Callable} on the executor of the repository backing the
+	 * given {@link RootResourceInformation}. The {@link RequestAttributes} of the current request are exposed to the
+	 * executing thread for the duration of the call so that links can be built from the current request.
+	 * 
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param callable must not be {@literal null}.
+	 * @return
+	 */
+	protected <T> WebAsyncTask<T> executeAsync(RootResourceInformation resourceInformation, final Callable<T> callable) {
+
+		Assert.state(executors != null, "No RepositoryExecutors configured!");
+		Assert.notNull(callable, "Callable must not be null!");
+
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return executors.submit(resourceInformation.getDomainType(), new Callable<T>() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.concurrent.Callable#call()
+			 */
+			@Override
+			public T call() throws Exception {
+
+				RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+				RequestContextHolder.setRequestAttributes(attributes);
+
+				try {
+					return callable.call();
+				} finally {
+					if (previous == null) {
+						RequestContextHolder.resetRequestAttributes();
+					} else {
+						RequestContextHolder.setRequestAttributes(previous);
+					}
+				}
+			}
+		});
 	}
 
 	@ExceptionHandler({ NullPointerException.class })
@@ -121,7 +201,7 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 	 * @return
 	 */
 	@ExceptionHandler({ InvocationTargetException.class, IllegalArgumentException.class, ClassCastException.class,
-			ConversionFailedException.class })
+			ConversionFailedException.class, InvalidCursorException.class })
 	@ResponseBody
 	public ResponseEntity handleMiscFailures(Throwable t) {
 		if (null != t.getCause() && t.getCause() instanceof ResourceNotFoundException) {
@@ -151,6 +231,31 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 		return errorResponse(null, ex, HttpStatus.CONFLICT);
 	}
 
+	/**
+	 * Send {@code 412 Precondition Failed} and include the current {@link ETag} in case an {@code If-Match} header didn't
+	 * match the entity.
+	 * 
+	 * @param o_O
+	 * @return
+	 */
+	@ExceptionHandler
+	@ResponseBody
+	public ResponseEntity<Void> handle(ETagDoesntMatchException o_O) {
+		return new ResponseEntity<Void>(o_O.getExpectedETag().addTo(new HttpHeaders()), HttpStatus.PRECONDITION_FAILED);
+	}
+
+	/**
+	 * Send {@code 503 Service Unavailable} in case the executor for asynchronous repository calls is saturated.
+	 * 
+	 * @param o_O
+	 * @return
+	 */
+	@ExceptionHandler
+	@ResponseBody
+	public ResponseEntity<ExceptionMessage> handle(RejectedExecutionException o_O) {
+		return response(null, new ExceptionMessage(o_O), HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	/**
 	 * Send {@code 405 Method Not Allowed} and include the supported {@link HttpMethod}s in the {@code Allow} header.
 	 * 
@@ -215,18 +320,33 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 		return new Link(selfLink.getHref(), rel);
 	}
 
-	@SuppressWarnings({ "unchecked" })
 	protected Resources resultToResources(Object result) {
+		return resultToResources(result, perAssembler);
+	}
+
+	/**
+	 * Turns the given result of a repository call into {@link Resources} using the given {@link ResourceAssembler} to
+	 * create the {@link Resource} for every element.
+	 * 
+	 * @param result can be {@literal null}.
+	 * @param resourceAssembler must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked" })
+	protected Resources resultToResources(Object result,
+			ResourceAssembler<Object, ? extends Resource<Object>> resourceAssembler) {
 
 		if (result instanceof Page) {
 			Page<Object> page = (Page<Object>) result;
-			return entitiesToResources(page, assembler);
+			return entitiesToResources(page, assembler, resourceAssembler);
+		} else if (result instanceof Slice && sliceAssembler != null) {
+			return sliceAssembler.toResource((Slice<Object>) result, resourceAssembler);
 		} else if (result instanceof Iterable) {
-			return entitiesToResources((Iterable<Object>) result);
+			return entitiesToResources((Iterable<Object>) result, resourceAssembler);
 		} else if (null == result) {
 			return new Resources(EMPTY_RESOURCE_LIST);
 		} else {
-			Resource<Object> resource = perAssembler.toResource(result);
+			Resource<Object> resource = resourceAssembler.toResource(result);
 			return new Resources(Collections.singletonList(resource));
 		}
 	}
@@ -234,15 +354,36 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 	protected Resources<? extends Resource<Object>> entitiesToResources(Page<Object> page,
 			PagedResourcesAssembler<Object> assembler) {
 
-		return assembler.toResource(page, perAssembler);
+		return entitiesToResources(page, assembler, perAssembler);
+	}
+
+	/**
+	 * Turns the given {@link Page} into {@link Resources} using the given {@link PagedResourcesAssembler} and the given
+	 * {@link ResourceAssembler} to create the {@link Resource} for every element.
+	 * 
+	 * @param page must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param resourceAssembler must not be {@literal null}.
+	 * @return
+	 */
+	protected Resources<? extends Resource<Object>> entitiesToResources(Page<Object> page,
+			PagedResourcesAssembler<Object> assembler,
+			ResourceAssembler<Object, ? extends Resource<Object>> resourceAssembler) {
+
+		return assembler.toResource(page, resourceAssembler);
 	}
 
 	protected Resources<Resource<Object>> entitiesToResources(Iterable<Object> entities) {
+		return entitiesToResources(entities, perAssembler);
+	}
+
+	private static Resources<Resource<Object>> entitiesToResources(Iterable<Object> entities,
+			ResourceAssembler<Object, ? extends Resource<Object>> resourceAssembler) {
 
 		List<Resource<Object>> resources = new ArrayList<Resource<Object>>();
 
 		for (Object obj : entities) {
-			resources.add(obj == null ? null : perAssembler.toResource(obj));
+			resources.add(obj == null ? null : resourceAssembler.toResource(obj));
 		}
 
 		return new Resources<Resource<Object>>(resources);
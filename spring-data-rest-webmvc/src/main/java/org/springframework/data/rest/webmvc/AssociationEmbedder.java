@@ -0,0 +1,496 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.EntityUriResolver;
+import org.springframework.data.rest.core.config.AssociationQuery;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.mapping.ResourceMapping;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.hateoas.EntityLinks;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Inlines associations of {@link PersistentEntityResource}s into their {@code _embedded} section. Associations are
+ * embedded if they are annotated with {@link RestResource#embedded()} or their relation type is listed in the
+ * {@value #EMBED_PARAMETER} request parameter. If an embedding query is configured for an association, the
+ * identifiers of the associated entities of all resources handed into {@link #embedAssociations(Object, WebRequest)}
+ * are looked up with a single query without touching the association and the entities are loaded with a single
+ * repository call. Otherwise the association is read from every resource, which initializes lazily loaded
+ * associations one by one. Embedding collection associations of large collection resources thus requires an embedding
+ * query to be configured.
+ * 
+ * @see RepositoryRestConfiguration#exposeEmbeddingQueryFor(Class, String, String, String)
+ * 
+ * @author agent
+ */
+public class AssociationEmbedder {
+
+	public static final String EMBED_PARAMETER = "embed";
+
+	private final Repositories repositories;
+	private final ResourceMappings mappings;
+	private final RepositoryRestConfiguration config;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final EntityUriResolver resolver;
+	private final EntityLinks entityLinks;
+	private final ConcurrentMap<Class<?>, List<EmbeddableAssociation>> associations;
+
+	/**
+	 * Creates a new {@link AssociationEmbedder} for the given {@link Repositories}, {@link ResourceMappings},
+	 * {@link RepositoryRestConfiguration}, {@link RepositoryInvokerFactory}, {@link EntityUriResolver} and
+	 * {@link EntityLinks}.
+	 * 
+	 * @param repositories must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 */
+	public AssociationEmbedder(Repositories repositories, ResourceMappings mappings, RepositoryRestConfiguration config,
+			RepositoryInvokerFactory invokerFactory, EntityUriResolver resolver, EntityLinks entityLinks) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
+		Assert.notNull(resolver, "EntityUriResolver must not be null!");
+		Assert.notNull(entityLinks, "EntityLinks must not be null!");
+
+		this.repositories = repositories;
+		this.mappings = mappings;
+		this.config = config;
+		this.invokerFactory = invokerFactory;
+		this.resolver = resolver;
+		this.entityLinks = entityLinks;
+		this.associations = new ConcurrentHashMap<Class<?>, List<EmbeddableAssociation>>();
+	}
+
+	/**
+	 * Embeds the associations requested by the given {@link WebRequest} or configured to be embedded by default into
+	 * the given value if it is a {@link PersistentEntityResource} or {@link Resources} of those. Other values are
+	 * ignored.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 */
+	public void embedAssociations(Object value, WebRequest request) {
+
+		Assert.notNull(request, "WebRequest must not be null!");
+
+		Map<Class<?>, List<PersistentEntityResource<?>>> resources = getResourcesByType(value);
+
+		if (resources.isEmpty()) {
+			return;
+		}
+
+		Set<String> requested = getRequestedRels(request);
+
+		for (Entry<Class<?>, List<PersistentEntityResource<?>>> entry : resources.entrySet()) {
+			for (EmbeddableAssociation association : getAssociations(entry.getKey())) {
+				if (association.embeddedByDefault || requested.contains(association.rel)) {
+					embed(association, entry.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Embeds the given {@link EmbeddableAssociation} into all of the given {@link PersistentEntityResource}s. Uses the
+	 * embedding query configured for the association if available or reads the association from every resource
+	 * otherwise. For maps, the values are embedded.
+	 * 
+	 * @param association must not be {@literal null}.
+	 * @param resources must not be {@literal null}.
+	 */
+	private void embed(EmbeddableAssociation association, List<PersistentEntityResource<?>> resources) {
+
+		AssociationQuery query = config.getEmbeddingQueryFor(association.owner.getType(),
+				association.property.getName());
+
+		if (query == null) {
+			embedLoaded(association, resources);
+		} else {
+			embedQueried(association, query, resources);
+		}
+	}
+
+	/**
+	 * Embeds the given {@link EmbeddableAssociation} by reading it from every {@link PersistentEntityResource}. The
+	 * associated entities are embedded as they are without looking them up again.
+	 * 
+	 * @param association must not be {@literal null}.
+	 * @param resources must not be {@literal null}.
+	 */
+	private void embedLoaded(EmbeddableAssociation association, List<PersistentEntityResource<?>> resources) {
+
+		PersistentProperty<?> property = association.property;
+		PersistentEntity<?, ?> target = association.target;
+
+		for (PersistentEntityResource<?> resource : resources) {
+
+			Object value = BeanWrapper.create(resource.getContent(), null).getProperty(property);
+
+			if (value == null) {
+				continue;
+			}
+
+			List<PersistentEntityResource<?>> embedded = new ArrayList<PersistentEntityResource<?>>();
+
+			for (Object element : getElements(property, value)) {
+				if (element != null) {
+					embedded.add(toResource(target, element, getId(target, element)));
+				}
+			}
+
+			addEmbedded(resource, association, embedded);
+		}
+	}
+
+	/**
+	 * Embeds the given {@link EmbeddableAssociation} into all of the given {@link PersistentEntityResource}s using the
+	 * given embedding {@link AssociationQuery} to look up the identifiers of the associated entities of all resources
+	 * without touching the association. The associated entities are then loaded with a single repository call.
+	 * 
+	 * @param association must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param resources must not be {@literal null}.
+	 */
+	private void embedQueried(EmbeddableAssociation association, AssociationQuery query,
+			List<PersistentEntityResource<?>> resources) {
+
+		PersistentEntity<?, ?> owner = association.owner;
+		PersistentEntity<?, ?> target = association.target;
+
+		Map<Object, PersistentEntityResource<?>> resourcesById = new LinkedHashMap<Object, PersistentEntityResource<?>>();
+
+		for (PersistentEntityResource<?> resource : resources) {
+
+			Object id = BeanWrapper.create(resource.getContent(), null).getProperty(owner.getIdProperty());
+
+			if (id != null) {
+				resourcesById.put(id, resource);
+			}
+		}
+
+		if (resourcesById.isEmpty()) {
+			return;
+		}
+
+		String[] ownerIds = new String[resourcesById.size()];
+		int index = 0;
+
+		for (Object id : resourcesById.keySet()) {
+			ownerIds[index++] = id.toString();
+		}
+
+		Method method = getQueryMethod(owner.getType(), query.getQueryMethodName());
+		Map<String, String[]> parameters = Collections.singletonMap(query.getOwnerParameter(), ownerIds);
+		Object result = invokerFactory.getInvokerFor(owner.getType()).invokeQueryMethod(method, parameters, null, null);
+
+		if (!(result instanceof Iterable)) {
+			throw new IllegalStateException(String.format("Embedding query %s must return an Iterable!", method));
+		}
+
+		Map<Object, List<Serializable>> targetIds = new HashMap<Object, List<Serializable>>();
+		Set<Serializable> allIds = new LinkedHashSet<Serializable>();
+
+		for (Object row : (Iterable<?>) result) {
+
+			if (!(row instanceof Object[]) || ((Object[]) row).length != 2) {
+				throw new IllegalStateException(String.format(
+						"Embedding query %s must return pairs of owner and target identifier!", method));
+			}
+
+			Object[] pair = (Object[]) row;
+
+			if (pair[0] == null || pair[1] == null) {
+				continue;
+			}
+
+			List<Serializable> ids = targetIds.get(pair[0]);
+
+			if (ids == null) {
+				ids = new ArrayList<Serializable>();
+				targetIds.put(pair[0], ids);
+			}
+
+			ids.add((Serializable) pair[1]);
+			allIds.add((Serializable) pair[1]);
+		}
+
+		Map<Object, Object> loaded = resolver.findAll(target.getType(), allIds);
+
+		for (Entry<Object, PersistentEntityResource<?>> entry : resourcesById.entrySet()) {
+
+			List<Serializable> ids = targetIds.get(entry.getKey());
+			List<PersistentEntityResource<?>> embedded = new ArrayList<PersistentEntityResource<?>>();
+
+			if (ids != null) {
+				for (Serializable id : ids) {
+
+					Object entity = loaded.get(id);
+
+					if (entity != null) {
+						embedded.add(toResource(target, entity, id));
+					}
+				}
+			}
+
+			addEmbedded(entry.getValue(), association, embedded);
+		}
+	}
+
+	/**
+	 * Embeds the given {@link PersistentEntityResource}s into the given one. Single-valued associations are embedded as
+	 * single resource.
+	 * 
+	 * @param resource must not be {@literal null}.
+	 * @param association must not be {@literal null}.
+	 * @param embedded must not be {@literal null}.
+	 */
+	private static void addEmbedded(PersistentEntityResource<?> resource, EmbeddableAssociation association,
+			List<PersistentEntityResource<?>> embedded) {
+
+		PersistentProperty<?> property = association.property;
+
+		if (property.isCollectionLike() || property.isMap()) {
+			resource.embed(association.rel, embedded);
+		} else if (!embedded.isEmpty()) {
+			resource.embed(association.rel, embedded.get(0));
+		}
+	}
+
+	/**
+	 * Returns the query method with the given name declared on the repository managing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null} or empty.
+	 * @return
+	 */
+	private Method getQueryMethod(Class<?> domainType, String methodName) {
+
+		for (Method method : repositories.getRepositoryInformationFor(domainType).getQueryMethods()) {
+			if (method.getName().equals(methodName)) {
+				return method;
+			}
+		}
+
+		throw new IllegalStateException(String.format("No query method %s found on repository for %s!", methodName,
+				domainType.getName()));
+	}
+
+	/**
+	 * Returns the associated entities contained in the given value of the given association property.
+	 * 
+	 * @param property must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private static Collection<?> getElements(PersistentProperty<?> property, Object value) {
+
+		if (property.isMap()) {
+			return ((Map<?, ?>) value).values();
+		}
+
+		if (property.isCollectionLike()) {
+			return value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value);
+		}
+
+		return Collections.singleton(value);
+	}
+
+	private PersistentEntityResource<Object> toResource(PersistentEntity<?, ?> entity, Object instance,
+			Serializable id) {
+
+		PersistentEntityResource<Object> resource = PersistentEntityResource.wrap(entity, instance);
+		resource.add(entityLinks.linkForSingleResource(entity.getType(), id).withSelfRel());
+
+		return resource;
+	}
+
+	private static Serializable getId(PersistentEntity<?, ?> entity, Object instance) {
+		return (Serializable) BeanWrapper.create(instance, null).getProperty(entity.getIdProperty());
+	}
+
+	/**
+	 * Returns the {@link PersistentEntityResource}s contained in the given value grouped by domain type.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	private static Map<Class<?>, List<PersistentEntityResource<?>>> getResourcesByType(Object value) {
+
+		Map<Class<?>, List<PersistentEntityResource<?>>> result =
+				new LinkedHashMap<Class<?>, List<PersistentEntityResource<?>>>();
+
+		if (value instanceof PersistentEntityResource) {
+			addResource((PersistentEntityResource<?>) value, result);
+		} else if (value instanceof Resources && !(value instanceof StreamingResources)) {
+			for (Object element : (Resources<?>) value) {
+				if (element instanceof PersistentEntityResource) {
+					addResource((PersistentEntityResource<?>) element, result);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static void addResource(PersistentEntityResource<?> resource,
+			Map<Class<?>, List<PersistentEntityResource<?>>> resources) {
+
+		Class<?> type = resource.getPersistentEntity().getType();
+		List<PersistentEntityResource<?>> list = resources.get(type);
+
+		if (list == null) {
+			list = new ArrayList<PersistentEntityResource<?>>();
+			resources.put(type, list);
+		}
+
+		list.add(resource);
+	}
+
+	private static Set<String> getRequestedRels(WebRequest request) {
+
+		String[] values = request.getParameterValues(EMBED_PARAMETER);
+
+		if (values == null) {
+			return Collections.emptySet();
+		}
+
+		Set<String> result = new HashSet<String>();
+
+		for (String value : values) {
+			for (String rel : StringUtils.commaDelimitedListToStringArray(value)) {
+				if (StringUtils.hasText(rel)) {
+					result.add(rel.trim());
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@link EmbeddableAssociation}s of the given domain type, i.e. all of its associations exported as
+	 * resources.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private List<EmbeddableAssociation> getAssociations(Class<?> type) {
+
+		List<EmbeddableAssociation> cached = associations.get(type);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		final ResourceMetadata ownerMetadata = mappings.getMappingFor(type);
+		final PersistentEntity<?, ?> owner = repositories.getPersistentEntity(type);
+		final List<EmbeddableAssociation> result = new ArrayList<EmbeddableAssociation>();
+
+		if (ownerMetadata != null) {
+
+			owner.doWithAssociations(new SimpleAssociationHandler() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.data.mapping.SimpleAssociationHandler#doWithAssociation(org.springframework.data.mapping.Association)
+				 */
+				@Override
+				public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
+
+					PersistentProperty<?> property = association.getInverse();
+
+					if (!ownerMetadata.isManagedResource(property)) {
+						return;
+					}
+
+					ResourceMapping propertyMapping = ownerMetadata.getMappingFor(property);
+					PersistentEntity<?, ?> target = repositories.getPersistentEntity(property.getActualType());
+
+					if (propertyMapping.isExported() && target != null && target.hasIdProperty()) {
+						result.add(new EmbeddableAssociation(owner, property, propertyMapping.getRel(), target));
+					}
+				}
+			});
+		}
+
+		List<EmbeddableAssociation> unmodifiable = Collections.unmodifiableList(result);
+		List<EmbeddableAssociation> existing = associations.putIfAbsent(type, unmodifiable);
+
+		return existing == null ? unmodifiable : existing;
+	}
+
+	/**
+	 * An exported association along with its owning {@link PersistentEntity}, its relation type and the
+	 * {@link PersistentEntity} it points to.
+	 * 
+	 * @author agent
+	 */
+	private static class EmbeddableAssociation {
+
+		final PersistentEntity<?, ?> owner;
+		final PersistentProperty<?> property;
+		final String rel;
+		final PersistentEntity<?, ?> target;
+		final boolean embeddedByDefault;
+
+		public EmbeddableAssociation(PersistentEntity<?, ?> owner, PersistentProperty<?> property, String rel,
+				PersistentEntity<?, ?> target) {
+
+			RestResource annotation = property.findAnnotation(RestResource.class);
+
+			this.owner = owner;
+			this.property = property;
+			this.rel = rel;
+			this.target = target;
+			this.embeddedByDefault = annotation != null && annotation.embedded();
+		}
+	}
+}
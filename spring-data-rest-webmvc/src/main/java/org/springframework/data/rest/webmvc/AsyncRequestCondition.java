@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.condition.AbstractRequestCondition;
+
+/**
+ * Custom request condition to select between the synchronous and the asynchronous variant of a handler method mapped
+ * to the same request. Handler methods returning a {@link WebAsyncTask} are considered asynchronous. They only match
+ * if asynchronous execution is enabled in the {@link RepositoryRestConfiguration} and are preferred over their
+ * synchronous counterparts in that case. The condition is only applied to the exporter's own controllers, custom
+ * {@link RepositoryRestController}s are mapped as usual.
+ * 
+ * @author agent
+ */
+class AsyncRequestCondition extends AbstractRequestCondition<AsyncRequestCondition> {
+
+	private final RepositoryRestConfiguration config;
+	private final boolean async;
+
+	/**
+	 * Creates a new {@link AsyncRequestCondition} for the given handler method.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 */
+	public AsyncRequestCondition(Method method, RepositoryRestConfiguration config) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+
+		this.config = config;
+		this.async = WebAsyncTask.class.isAssignableFrom(method.getReturnType());
+	}
+
+	/**
+	 * Returns whether the given handler method shall be equipped with an {@link AsyncRequestCondition}, i.e. whether
+	 * it's declared by one of the controllers shipped with Spring Data REST.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public static boolean supports(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+		return AbstractRepositoryRestController.class.isAssignableFrom(method.getDeclaringClass());
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.condition.AbstractRequestCondition#getContent()
+	 */
+	@Override
+	protected Collection<?> getContent() {
+		return async ? Collections.singleton("async") : Collections.emptySet();
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.condition.AbstractRequestCondition#getToStringInfix()
+	 */
+	@Override
+	protected String getToStringInfix() {
+		return " && ";
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.condition.RequestCondition#combine(java.lang.Object)
+	 */
+	@Override
+	public AsyncRequestCondition combine(AsyncRequestCondition other) {
+		return other;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.condition.RequestCondition#getMatchingCondition(javax.servlet.http.HttpServletRequest)
+	 */
+	@Override
+	public AsyncRequestCondition getMatchingCondition(HttpServletRequest request) {
+		return !async || config.isAsyncEnabled() ? this : null;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.condition.RequestCondition#compareTo(java.lang.Object, javax.servlet.http.HttpServletRequest)
+	 */
+	@Override
+	public int compareTo(AsyncRequestCondition other, HttpServletRequest request) {
+		return async == other.async ? 0 : async ? -1 : 1;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * The outcome of processing a single element of a batch request. Carries the HTTP status that would have been returned
+ * for an individual request, the URI of the affected item resource if available and an error message in case of a
+ * failure.
+ * 
+ * @author agent
+ */
+@JsonInclude(Include.NON_NULL)
+public class BatchResult {
+
+	private final int status;
+	private final String href;
+	private final String message;
+
+	private BatchResult(HttpStatus status, String href, String message) {
+
+		Assert.notNull(status, "HttpStatus must not be null!");
+
+		this.status = status.value();
+		this.href = href;
+		this.message = message;
+	}
+
+	/**
+	 * Creates a {@link BatchResult} for a successfully processed element.
+	 * 
+	 * @param status must not be {@literal null}.
+	 * @param href the URI of the item resource, can be {@literal null}.
+	 * @return
+	 */
+	public static BatchResult success(HttpStatus status, String href) {
+		return new BatchResult(status, href, null);
+	}
+
+	/**
+	 * Creates a {@link BatchResult} for an element that could not be processed.
+	 * 
+	 * @param status must not be {@literal null}.
+	 * @param message can be {@literal null}.
+	 * @return
+	 */
+	public static BatchResult failure(HttpStatus status, String message) {
+		return new BatchResult(status, null, message);
+	}
+
+	/**
+	 * Returns the status code for the element.
+	 * 
+	 * @return
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns the URI of the item resource for the element.
+	 * 
+	 * @return the URI or {@literal null} if not available.
+	 */
+	public String getHref() {
+		return href;
+	}
+
+	/**
+	 * Returns the error message in case the element could not be processed.
+	 * 
+	 * @return the message or {@literal null} if processed successfully.
+	 */
+	public String getMessage() {
+		return message;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+/**
+ * Exception being thrown in case a continuation token handed in via the {@value KeysetPaginator#CURSOR_PARAMETER}
+ * parameter can't be decoded.
+ * 
+ * @author agent
+ */
+public class InvalidCursorException extends RuntimeException {
+
+	private static final long serialVersionUID = -3717829563093271838L;
+
+	/**
+	 * Creates a new {@link InvalidCursorException} for the given continuation token and cause.
+	 * 
+	 * @param cursor the invalid continuation token.
+	 * @param cause can be {@literal null}.
+	 */
+	public InvalidCursorException(String cursor, Throwable cause) {
+		super(String.format("Invalid cursor %s!", cursor), cause);
+	}
+}
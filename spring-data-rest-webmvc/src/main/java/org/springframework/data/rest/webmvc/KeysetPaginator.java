@@ -0,0 +1,289 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.core.config.KeysetPagination;
+import org.springframework.data.rest.core.mapping.MethodResourceMapping;
+import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Helper to execute query methods using keyset (seek) pagination. Instead of skipping rows, the key of the last row of
+ * the previous page is handed into the query method, which then only has to read the rows of the requested page. One
+ * more element than the page size is requested to find out whether there's a next page so that no count query is
+ * necessary. The key of the last row is converted into a {@link String} using the {@link ConversionService} that is
+ * also used to bind the query method parameters and exposed as opaque continuation token in the
+ * {@value #CURSOR_PARAMETER} parameter of the {@code next} link. As the rows are always sorted by the key, sort
+ * requests for other properties are rejected.
+ * 
+ * @author agent
+ */
+class KeysetPaginator {
+
+	static final String CURSOR_PARAMETER = "cursor";
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final Pattern TOKEN_PATTERN = Pattern.compile("[A-Za-z0-9_-]*");
+
+	private final KeysetPagination pagination;
+	private final PersistentProperty<?> keyProperty;
+	private final int pageSize;
+	private final ConversionService conversionService;
+
+	/**
+	 * Creates a new {@link KeysetPaginator} for the given {@link KeysetPagination}, {@link PersistentEntity}, page size
+	 * and {@link ConversionService}.
+	 * 
+	 * @param pagination must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param pageSize must be greater than zero.
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public KeysetPaginator(KeysetPagination pagination, PersistentEntity<?, ?> entity, int pageSize,
+			ConversionService conversionService) {
+
+		Assert.notNull(pagination, "KeysetPagination must not be null!");
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.pagination = pagination;
+		this.keyProperty = entity.getPersistentProperty(pagination.getKeyProperty());
+		this.pageSize = pageSize;
+		this.conversionService = conversionService;
+
+		Assert.notNull(keyProperty, String.format("No property %s found on %s!", pagination.getKeyProperty(),
+				entity.getType().getName()));
+	}
+
+	/**
+	 * Returns the query method configured to back the collection resource.
+	 * 
+	 * @param mappings must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case the repository doesn't declare the configured query method.
+	 */
+	public Method getQueryMethod(SearchResourceMappings mappings) {
+
+		Method method = mappings.getMappedMethodByName(pagination.getQueryMethodName());
+
+		if (method != null) {
+			return method;
+		}
+
+		throw new IllegalStateException(String.format("No query method %s found for keyset pagination!",
+				pagination.getQueryMethodName()));
+	}
+
+	/**
+	 * Returns whether the given query method can be executed using keyset pagination, i.e. whether it declares a
+	 * parameter named after the key property.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @return
+	 */
+	public boolean supports(Method method, SearchResourceMappings mappings) {
+
+		for (MethodResourceMapping mapping : mappings) {
+			if (mapping.getMethod().equals(method)) {
+				return mapping.getParameterNames().contains(keyProperty.getName());
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Verifies the given {@link Sort} requested by the client is compatible with the keyset, i.e. it only sorts by the
+	 * key property in ascending order.
+	 * 
+	 * @param sort can be {@literal null}.
+	 * @throws IllegalArgumentException in case the {@link Sort} refers to other properties or directions.
+	 */
+	public void verify(Sort sort) {
+
+		if (sort == null) {
+			return;
+		}
+
+		for (Order order : sort) {
+			if (!order.getProperty().equals(keyProperty.getName()) || !order.isAscending()) {
+				throw new IllegalArgumentException(String.format("Keyset pagination only supports sorting by %s ascending!",
+						keyProperty.getName()));
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link Pageable} to invoke the query method with. It requests the first page sorted by the key
+	 * property with one more element than the actual page size.
+	 * 
+	 * @return
+	 */
+	public Pageable getPageable() {
+		return new PageRequest(0, pageSize + 1, new Sort(Direction.ASC, keyProperty.getName()));
+	}
+
+	/**
+	 * Returns the parameters to invoke the query method with. Binds the key contained in the given cursor to the
+	 * parameter named after the key property.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @param cursor can be {@literal null} or empty for the first page.
+	 * @return
+	 * @throws InvalidCursorException in case the cursor can't be decoded.
+	 */
+	public Map<String, String[]> getParameters(Map<String, String[]> parameters, String cursor) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		Map<String, String[]> result = new HashMap<String, String[]>(parameters);
+		result.remove(keyProperty.getName());
+
+		if (StringUtils.hasText(cursor)) {
+			result.put(keyProperty.getName(), new String[] { decode(cursor) });
+		}
+
+		return result;
+	}
+
+	/**
+	 * Turns the given query method result into {@link Resources} containing the elements of the current page and a
+	 * {@code next} link in case there are more elements.
+	 * 
+	 * @param result can be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param currentRequest the {@link UriComponentsBuilder} for the current request, must not be {@literal null}.
+	 * @return
+	 */
+	public Resources<Resource<Object>> toResources(Object result,
+			ResourceAssembler<Object, ? extends Resource<Object>> assembler, UriComponentsBuilder currentRequest) {
+
+		Assert.notNull(assembler, "ResourceAssembler must not be null!");
+		Assert.notNull(currentRequest, "UriComponentsBuilder must not be null!");
+
+		List<Resource<Object>> resources = new ArrayList<Resource<Object>>();
+		Object last = null;
+		boolean hasNext = false;
+
+		for (Object element : toIterable(result)) {
+
+			if (resources.size() == pageSize) {
+				hasNext = true;
+				break;
+			}
+
+			resources.add(element == null ? null : assembler.toResource(element));
+			last = element;
+		}
+
+		List<Link> links = new ArrayList<Link>();
+
+		if (hasNext && last != null) {
+
+			BeanWrapper<?, Object> wrapper = BeanWrapper.create(last, null);
+			Object key = wrapper.getProperty(keyProperty);
+
+			if (key != null) {
+				String cursor = encode(conversionService.convert(key, String.class));
+				String href = currentRequest.replaceQueryParam(CURSOR_PARAMETER, cursor).build().toUriString();
+				links.add(new Link(href, Link.REL_NEXT));
+			}
+		}
+
+		return new Resources<Resource<Object>>(resources, links);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Iterable<Object> toIterable(Object result) {
+
+		if (result instanceof Slice) {
+			return ((Slice<Object>) result).getContent();
+		} else if (result instanceof Iterable) {
+			return (Iterable<Object>) result;
+		} else if (result == null) {
+			return Collections.emptyList();
+		} else {
+			return Collections.singletonList(result);
+		}
+	}
+
+	/**
+	 * Encodes the given key into an opaque, URL safe continuation token.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @return
+	 */
+	static String encode(String key) {
+
+		String token = DatatypeConverter.printBase64Binary(key.getBytes(UTF_8));
+		return StringUtils.trimTrailingCharacter(token, '=').replace('+', '-').replace('/', '_');
+	}
+
+	/**
+	 * Decodes the key from the given continuation token.
+	 * 
+	 * @param token must not be {@literal null}.
+	 * @return
+	 * @throws InvalidCursorException in case the token is not a valid continuation token.
+	 */
+	static String decode(String token) {
+
+		if (!TOKEN_PATTERN.matcher(token).matches() || token.length() % 4 == 1) {
+			throw new InvalidCursorException(token, null);
+		}
+
+		StringBuilder builder = new StringBuilder(token.replace('-', '+').replace('_', '/'));
+
+		while (builder.length() % 4 != 0) {
+			builder.append('=');
+		}
+
+		try {
+			return new String(DatatypeConverter.parseBase64Binary(builder.toString()), UTF_8);
+		} catch (IllegalArgumentException o_O) {
+			throw new InvalidCursorException(token, o_O);
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A batch of entities read lazily from a request body. The body can either be a JSON array or a stream of JSON
+ * documents separated by whitespace (e.g. newline delimited JSON). Elements are only deserialized while iterating so
+ * that arbitrarily large batches can be processed in chunks. Elements that cannot be read are handed out as
+ * {@link UnreadableElement}. If an element is syntactically broken, the rest of the body cannot be read anymore and
+ * the {@link UnreadableElement} is the last element of the batch. The batch can only be iterated once.
+ * 
+ * @author agent
+ */
+public class PersistentEntityBatch implements Iterable<Object> {
+
+	private final PersistentEntity<?, ?> entity;
+	private final ObjectMapper mapper;
+	private final JsonParser parser;
+
+	private boolean consumed = false;
+
+	/**
+	 * Creates a new {@link PersistentEntityBatch} for the given {@link PersistentEntity} reading elements from the given
+	 * {@link JsonParser} using the given {@link ObjectMapper}.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 */
+	public PersistentEntityBatch(PersistentEntity<?, ?> entity, ObjectMapper mapper, JsonParser parser) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(parser, "JsonParser must not be null!");
+
+		this.entity = entity;
+		this.mapper = mapper;
+		this.parser = parser;
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the elements contained in the batch.
+	 * 
+	 * @return
+	 */
+	public PersistentEntity<?, ?> getPersistentEntity() {
+		return entity;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Object> iterator() {
+
+		Assert.state(!consumed, "PersistentEntityBatch can only be iterated once!");
+		this.consumed = true;
+
+		return new BatchIterator();
+	}
+
+	/**
+	 * {@link Iterator} deserializing one element after the other.
+	 * 
+	 * @author agent
+	 */
+	private class BatchIterator implements Iterator<Object> {
+
+		private boolean started = false;
+		private boolean array = false;
+		private boolean finished = false;
+		private boolean prefetched = false;
+		private Object next;
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			if (!prefetched && !finished) {
+				prefetch();
+			}
+
+			return prefetched;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			Object result = next;
+
+			this.next = null;
+			this.prefetched = false;
+
+			return result;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private void prefetch() {
+
+			JsonNode node;
+
+			try {
+
+				JsonToken token = parser.nextToken();
+
+				if (!started) {
+
+					this.started = true;
+
+					if (token == JsonToken.START_ARRAY) {
+						this.array = true;
+						token = parser.nextToken();
+					}
+				}
+
+				if (token == null || array && token == JsonToken.END_ARRAY) {
+					this.finished = true;
+					parser.close();
+					return;
+				}
+
+				node = mapper.readTree(parser);
+
+			} catch (IOException o_O) {
+
+				this.finished = true;
+				this.next = new UnreadableElement(o_O);
+				this.prefetched = true;
+				return;
+			}
+
+			try {
+				this.next = node.isNull() ? null : mapper.treeToValue(node, entity.getType());
+			} catch (IOException o_O) {
+				this.next = new UnreadableElement(o_O);
+			}
+
+			this.prefetched = true;
+		}
+	}
+
+	/**
+	 * Placeholder for an element of the batch that could not be read.
+	 * 
+	 * @author agent
+	 */
+	public static class UnreadableElement {
+
+		private final String message;
+
+		private UnreadableElement(IOException exception) {
+			this.message = exception.getMessage();
+		}
+
+		/**
+		 * Returns the message of the error that prevented the element from being read.
+		 * 
+		 * @return
+		 */
+		public String getMessage() {
+			return message;
+		}
+	}
+}
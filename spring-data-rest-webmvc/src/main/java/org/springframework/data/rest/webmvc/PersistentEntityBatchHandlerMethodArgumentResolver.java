@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityBatch} instances reading the request
+ * body lazily as well as {@link PersistentEntityUpdates} and {@link PersistentEntityMergePatch} instances.
+ * 
+ * @author agent
+ */
+public class PersistentEntityBatchHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final ObjectMapper mapper;
+	private final RootResourceInformationHandlerMethodArgumentResolver repoRequestResolver;
+
+	/**
+	 * Creates a new {@link PersistentEntityBatchHandlerMethodArgumentResolver} using the given {@link ObjectMapper} to
+	 * read the individual elements and the given {@link RootResourceInformationHandlerMethodArgumentResolver} to
+	 * determine the element type.
+	 * 
+	 * @param mapper must not be {@literal null}.
+	 * @param repositoryRequestResolver must not be {@literal null}.
+	 */
+	public PersistentEntityBatchHandlerMethodArgumentResolver(ObjectMapper mapper,
+			RootResourceInformationHandlerMethodArgumentResolver repositoryRequestResolver) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(repositoryRequestResolver, "RootResourceInformationHandlerMethodArgumentResolver must not be null!");
+
+		this.mapper = mapper;
+		this.repoRequestResolver = repositoryRequestResolver;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
+	 */
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		Class<?> type = parameter.getParameterType();
+		return PersistentEntityBatch.class.isAssignableFrom(type) || PersistentEntityUpdates.class.isAssignableFrom(type)
+				|| PersistentEntityMergePatch.class.isAssignableFrom(type);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest, org.springframework.web.bind.support.WebDataBinderFactory)
+	 */
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+
+		RootResourceInformation resourceInformation = repoRequestResolver.resolveArgument(parameter, mavContainer,
+				webRequest, binderFactory);
+
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		JsonParser parser = mapper.getFactory().createParser(request.getInputStream());
+
+		if (PersistentEntityUpdates.class.isAssignableFrom(parameter.getParameterType())) {
+			return PersistentEntityUpdates.read(entity, mapper, parser);
+		}
+
+		if (PersistentEntityMergePatch.class.isAssignableFrom(parameter.getParameterType())) {
+			return new PersistentEntityMergePatch(entity, resourceInformation.getResourceMetadata(), mapper, parser);
+		}
+
+		return new PersistentEntityBatch(entity, mapper, parser);
+	}
+}
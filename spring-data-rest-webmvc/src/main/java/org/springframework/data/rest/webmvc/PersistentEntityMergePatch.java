@@ -0,0 +1,260 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.beans.BeanUtils;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A JSON Merge Patch document applied directly to an already loaded entity. The document is read from a
+ * {@link JsonParser} as a whole once the patch is applied, not when the request is resolved. Only the properties
+ * present in the document are touched, an explicit {@literal null} value clears the property. Nested objects and maps
+ * are merged recursively as defined in RFC 7386 if the target already holds a value for them, an explicit
+ * {@literal null} value removes a map entry. Collections and arrays are replaced as a whole. Exported associations are
+ * never merged into but replaced by the linked entities. The identifier and the version of the entity are never
+ * changed. Can only be applied once as it consumes the underlying stream.
+ * 
+ * @author agent
+ */
+public class PersistentEntityMergePatch {
+
+	public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+	private final PersistentEntity<?, ?> entity;
+	private final ResourceMetadata metadata;
+	private final ObjectMapper mapper;
+	private final JsonParser parser;
+
+	private boolean applied;
+
+	/**
+	 * Creates a new {@link PersistentEntityMergePatch} for the given {@link PersistentEntity} reading the patch document
+	 * from the given {@link JsonParser} using the given {@link ObjectMapper}. The given {@link ResourceMetadata} is used
+	 * to detect exported associations.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 */
+	public PersistentEntityMergePatch(PersistentEntity<?, ?> entity, ResourceMetadata metadata, ObjectMapper mapper,
+			JsonParser parser) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(metadata, "ResourceMetadata must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(parser, "JsonParser must not be null!");
+
+		this.entity = entity;
+		this.metadata = metadata;
+		this.mapper = mapper;
+		this.parser = parser;
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the object to be patched.
+	 * 
+	 * @return
+	 */
+	public PersistentEntity<?, ?> getPersistentEntity() {
+		return entity;
+	}
+
+	/**
+	 * Applies the patch document to the given target object.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @return the given target object.
+	 * @throws HttpMessageNotReadableException in case the document is not a JSON object or cannot be read.
+	 * @throws IllegalStateException in case the patch has already been applied.
+	 */
+	public <T> T applyTo(T target) {
+
+		Assert.notNull(target, "Target must not be null!");
+		Assert.state(!applied, "Merge patch has already been applied!");
+
+		this.applied = true;
+
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+		BeanWrapper<?, Object> wrapper = BeanWrapper.create((Object) target, null);
+		Object id = idProperty == null ? null : wrapper.getProperty(idProperty);
+		Object version = versionProperty == null ? null : wrapper.getProperty(versionProperty);
+
+		try {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new HttpMessageNotReadableException("A merge patch document must be a JSON object!");
+			}
+
+			ObjectNode patch = mapper.readTree(parser);
+			parser.close();
+
+			merge(patch, target, entity);
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not apply merge patch to " + entity.getType(), o_O);
+		}
+
+		if (idProperty != null) {
+			wrapper.setProperty(idProperty, id);
+		}
+
+		if (versionProperty != null) {
+			wrapper.setProperty(versionProperty, version);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Merges the given patch into the given target. Objects contained in the patch are merged recursively into the
+	 * current value of the according property if that is a nested object or a {@link Map}. All other values replace the
+	 * current ones. Properties of the given {@link PersistentEntity} that are exported associations are always replaced.
+	 * 
+	 * @param patch must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param owner the {@link PersistentEntity} of the target, {@literal null} for nested objects.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	private void merge(ObjectNode patch, Object target, PersistentEntity<?, ?> owner) throws IOException {
+
+		ObjectNode remainder = mapper.createObjectNode();
+		Iterator<Entry<String, JsonNode>> fields = patch.fields();
+
+		while (fields.hasNext()) {
+
+			Entry<String, JsonNode> field = fields.next();
+			BeanPropertyDefinition property = field.getValue().isObject() && !isExportedAssociation(owner, field.getKey())
+					? getProperty(target, field.getKey()) : null;
+			Object current = property == null ? null : property.getAccessor().getValue(target);
+
+			if (current instanceof Map) {
+				JavaType type = mapper.getTypeFactory().constructType(property.getAccessor().getGenericType());
+				mergeMap((ObjectNode) field.getValue(), (Map<Object, Object>) current, type);
+			} else if (isNestedObject(current)) {
+				merge((ObjectNode) field.getValue(), current, null);
+			} else {
+				remainder.put(field.getKey(), field.getValue());
+			}
+		}
+
+		mapper.readerForUpdating(target).readValue(remainder);
+	}
+
+	/**
+	 * Merges the given patch into the given {@link Map} key by key. Entries set to {@literal null} are removed, objects
+	 * are merged recursively into existing nested objects or {@link Map}s, all other values replace the current ones.
+	 * 
+	 * @param patch must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param type the declared type of the {@link Map}, must not be {@literal null}.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	private void mergeMap(ObjectNode patch, Map<Object, Object> target, JavaType type) throws IOException {
+
+		JavaType keyType = type.isMapLikeType() ? type.getKeyType() : mapper.constructType(Object.class);
+		JavaType valueType = type.isMapLikeType() ? type.getContentType() : mapper.constructType(Object.class);
+		Iterator<Entry<String, JsonNode>> fields = patch.fields();
+
+		while (fields.hasNext()) {
+
+			Entry<String, JsonNode> field = fields.next();
+			JsonNode value = field.getValue();
+			Object key = mapper.convertValue(field.getKey(), keyType);
+			Object current = target.get(key);
+
+			if (value.isNull()) {
+				target.remove(key);
+			} else if (value.isObject() && current instanceof Map) {
+				mergeMap((ObjectNode) value, (Map<Object, Object>) current, valueType);
+			} else if (value.isObject() && isNestedObject(current)) {
+				merge((ObjectNode) value, current, null);
+			} else {
+				target.put(key, mapper.readValue(mapper.treeAsTokens(value), valueType));
+			}
+		}
+	}
+
+	private boolean isExportedAssociation(PersistentEntity<?, ?> owner, String name) {
+
+		if (owner == null) {
+			return false;
+		}
+
+		PersistentProperty<?> property = owner.getPersistentProperty(name);
+		return property != null && property.isAssociation() && metadata.isExported(property);
+	}
+
+	/**
+	 * Returns the readable property with the given JSON name of the given target or {@literal null} if there is none.
+	 * 
+	 * @param target must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @return
+	 */
+	private BeanPropertyDefinition getProperty(Object target, String name) {
+
+		JavaType type = mapper.constructType(target.getClass());
+
+		for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(type).findProperties()) {
+
+			AnnotatedMember accessor = property.getAccessor();
+
+			if (property.getName().equals(name) && accessor != null) {
+				accessor.fixAccess();
+				return property;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean isNestedObject(Object value) {
+
+		if (value == null) {
+			return false;
+		}
+
+		Class<?> type = value.getClass();
+
+		return !BeanUtils.isSimpleValueType(type) && !type.isArray() && !(value instanceof Map)
+				&& !(value instanceof Collection);
+	}
+}
@@ -16,11 +16,18 @@
 package org.springframework.data.rest.webmvc;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -33,6 +40,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 public class PersistentEntityResource<T> extends Resource<T> {
 
 	private final PersistentEntity<?, ?> entity;
+	private final Map<String, Object> embedded = new LinkedHashMap<String, Object>();
+	private Set<String> fields;
 
 	public static <T> PersistentEntityResource<T> wrap(PersistentEntity<?, ?> entity, T obj) {
 		return new PersistentEntityResource<T>(entity, obj);
@@ -51,4 +60,48 @@ public class PersistentEntityResource<T> extends Resource<T> {
 	public PersistentEntity<?, ? extends PersistentProperty<?>> getPersistentEntity() {
 		return entity;
 	}
+
+	/**
+	 * Registers the given value to be rendered in the {@code _embedded} section of the resource under the given
+	 * relation type. The value is usually a {@link PersistentEntityResource} or a {@link java.util.List} of those.
+	 * 
+	 * @param rel must not be {@literal null} or empty.
+	 * @param value can be {@literal null}.
+	 */
+	public void embed(String rel, Object value) {
+
+		Assert.hasText(rel, "Rel must not be null or empty!");
+		this.embedded.put(rel, value);
+	}
+
+	/**
+	 * Returns the values to be rendered in the {@code _embedded} section of the resource keyed by relation type.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	@JsonIgnore
+	public Map<String, Object> getEmbedded() {
+		return Collections.unmodifiableMap(embedded);
+	}
+
+	/**
+	 * Limits the properties of the content to be rendered to the ones with the given names.
+	 * 
+	 * @param fields must not be {@literal null}.
+	 */
+	public void limitTo(Collection<String> fields) {
+
+		Assert.notNull(fields, "Fields must not be null!");
+		this.fields = Collections.unmodifiableSet(new HashSet<String>(fields));
+	}
+
+	/**
+	 * Returns the names of the properties of the content to be rendered.
+	 * 
+	 * @return the property names or {@literal null} if all properties are to be rendered.
+	 */
+	@JsonIgnore
+	public Set<String> getFields() {
+		return fields;
+	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Partial documents for multiple entities keyed by the (raw) identifier of the entity they shall be applied to. Read
+ * from a JSON object like <code>{ "1" : { "firstname" : "Dave" }, "2" : { "lastname" : "Matthews" } }</code>.
+ * 
+ * @author agent
+ */
+public class PersistentEntityUpdates {
+
+	private final PersistentEntity<?, ?> entity;
+	private final Map<String, Object> updates;
+
+	/**
+	 * Creates a new {@link PersistentEntityUpdates} for the given {@link PersistentEntity} and updates.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param updates must not be {@literal null}.
+	 */
+	public PersistentEntityUpdates(PersistentEntity<?, ?> entity, Map<String, Object> updates) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(updates, "Updates must not be null!");
+
+		this.entity = entity;
+		this.updates = Collections.unmodifiableMap(updates);
+	}
+
+	/**
+	 * Reads {@link PersistentEntityUpdates} for the given {@link PersistentEntity} from the given {@link JsonParser}
+	 * using the given {@link ObjectMapper} to read the partial documents.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @return
+	 */
+	public static PersistentEntityUpdates read(PersistentEntity<?, ?> entity, ObjectMapper mapper, JsonParser parser) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(parser, "JsonParser must not be null!");
+
+		Map<String, Object> updates = new LinkedHashMap<String, Object>();
+
+		try {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new HttpMessageNotReadableException("Expected a JSON object mapping identifiers to partial documents!");
+			}
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String id = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+
+				updates.put(id, token == JsonToken.VALUE_NULL ? null : mapper.readValue(parser, entity.getType()));
+			}
+
+			parser.close();
+
+		} catch (IOException o_O) {
+			throw new HttpMessageNotReadableException("Could not read updates for " + entity.getType(), o_O);
+		}
+
+		return new PersistentEntityUpdates(entity, updates);
+	}
+
+	/**
+	 * Returns the {@link PersistentEntity} of the objects to be updated.
+	 * 
+	 * @return
+	 */
+	public PersistentEntity<?, ?> getPersistentEntity() {
+		return entity;
+	}
+
+	/**
+	 * Returns the raw identifiers of the objects to be updated in the order given in the request.
+	 * 
+	 * @return
+	 */
+	public Set<String> getIds() {
+		return updates.keySet();
+	}
+
+	/**
+	 * Returns the partial document to apply to the object with the given raw identifier.
+	 * 
+	 * @param id
+	 * @return the partial document or {@literal null} if none given.
+	 */
+	public Object getUpdateFor(String id) {
+		return updates.get(id);
+	}
+}
@@ -18,20 +18,38 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.data.rest.core.support.DomainObjectMerger.NullHandlingPolicy.*;
 import static org.springframework.http.HttpMethod.*;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.core.convert.ConversionException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.EntityUriResolver;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.core.config.KeysetPagination;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
 import org.springframework.data.rest.core.event.AfterDeleteEvent;
@@ -44,22 +62,38 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
 import org.springframework.data.rest.core.support.DomainObjectMerger.NullHandlingPolicy;
+import org.springframework.data.rest.webmvc.PersistentEntityBatch.UnreadableElement;
+import org.springframework.data.rest.webmvc.SlicedResources.SliceMetadata;
+import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
+import org.springframework.data.rest.webmvc.support.ExceptionMessage;
+import org.springframework.data.rest.webmvc.support.HttpHeadersPreparer;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * @author Jon Brisbin
@@ -70,12 +104,17 @@ import org.springframework.web.bind.annotation.ResponseBody;
 class RepositoryEntityController extends AbstractRepositoryRestController implements ApplicationEventPublisherAware {
 
 	private static final String BASE_MAPPING = "/{repository}";
+	static final String BATCH_PARAMETER = "batch";
+	static final String IDS_PARAMETER = "ids";
 
 	private final EntityLinks entityLinks;
 	private final PersistentEntityResourceAssembler<Object> perAssembler;
 	private final RepositoryRestConfiguration config;
 	private final ConversionService conversionService;
 	private final DomainObjectMerger domainObjectMerger;
+	private final HttpHeadersPreparer headersPreparer;
+	private final EntityUriResolver resolver;
+	private final SparseFieldsetResolver fieldsetResolver;
 
 	private ApplicationEventPublisher publisher;
 
@@ -83,7 +122,8 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			EntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
 			PersistentEntityResourceAssembler<Object> perAssembler,
-			@Qualifier("defaultConversionService") ConversionService conversionService, DomainObjectMerger domainObjectMerger) {
+			@Qualifier("defaultConversionService") ConversionService conversionService, DomainObjectMerger domainObjectMerger,
+			EntityUriResolver resolver) {
 
 		super(assembler, perAssembler);
 
@@ -92,6 +132,9 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		this.config = config;
 		this.conversionService = conversionService;
 		this.domainObjectMerger = domainObjectMerger;
+		this.headersPreparer = new HttpHeadersPreparer(conversionService);
+		this.resolver = resolver;
+		this.fieldsetResolver = new SparseFieldsetResolver(config);
 	}
 
 	/*
@@ -100,13 +143,149 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
-		this.publisher = publisher;
+		this.publisher = getEventPublisher(publisher);
 	}
 
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
 	public Resources<?> listEntities(final RootResourceInformation resourceInformation, Pageable pageable, Sort sort)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+		return listEntities(resourceInformation, pageable, sort, null);
+	}
+
+	/**
+	 * <code>GET /{repository}</code> - Asynchronous variant of
+	 * {@link #listEntities(RootResourceInformation, Pageable, Sort)} used in case asynchronous execution is enabled.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @return
+	 * @see RepositoryRestConfiguration#isAsyncEnabled()
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
+	public WebAsyncTask<Resources<?>> listEntitiesAsync(final RootResourceInformation resourceInformation,
+			final Pageable pageable, final Sort sort) {
+
+		return executeAsync(resourceInformation, new Callable<Resources<?>>() {
+
+			@Override
+			public Resources<?> call() throws Exception {
+				return listEntities(resourceInformation, pageable, sort, null);
+			}
+		});
+	}
+
+	/**
+	 * <code>GET /{repository}?cursor=&hellip;</code> - Returns the page of the collection resource identified by the
+	 * given continuation token in case keyset pagination is configured for the repository. Compact representations are
+	 * not mapped here but rendered by
+	 * {@link #listEntitiesCompactFromCursor(RootResourceInformation, Pageable, Sort, String)}, requests selecting fields
+	 * are handled by {@link #listEntitiesWithFields(RootResourceInformation, Pageable, Sort, String, String)}.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param cursor
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = { KeysetPaginator.CURSOR_PARAMETER,
+			"!" + SparseFieldsetResolver.FIELDS_PARAMETER }, produces = { "!application/x-spring-data-compact+json",
+			"!text/uri-list" })
+	public Resources<?> listEntitiesFromCursor(final RootResourceInformation resourceInformation, Pageable pageable,
+			Sort sort, @RequestParam(KeysetPaginator.CURSOR_PARAMETER) String cursor) throws ResourceNotFoundException,
+			HttpRequestMethodNotSupportedException {
+		return listEntities(resourceInformation, pageable, sort, cursor);
+	}
+
+	/**
+	 * <code>GET /{repository}?fields=&hellip;</code> - Returns the collection resource limited to the given fields. If a
+	 * query method is configured for the fields preset selected via
+	 * {@link RepositoryRestConfiguration#exposeFieldsQueryFor(Class, String, String)}, it is used instead of the default
+	 * finder to only read the selected properties from the store. Paging, streaming and keyset pagination apply as for
+	 * {@link #listEntities(RootResourceInformation, Pageable, Sort)}. Unknown fields are rejected. Compact
+	 * representations are not mapped here but rendered by
+	 * {@link #listEntitiesCompact(RootResourceInformation, Pageable, Sort)}.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param fields
+	 * @param cursor can be {@literal null}.
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = SparseFieldsetResolver.FIELDS_PARAMETER,
+			produces = { "!application/x-spring-data-compact+json", "!text/uri-list" })
+	public Resources<?> listEntitiesWithFields(RootResourceInformation resourceInformation, Pageable pageable, Sort sort,
+			@RequestParam(SparseFieldsetResolver.FIELDS_PARAMETER) String fields,
+			@RequestParam(value = KeysetPaginator.CURSOR_PARAMETER, required = false) String cursor)
+			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+
+		Set<String> selected = fieldsetResolver.resolveFields(resourceInformation.getPersistentEntity(), fields);
+		String queryMethodName = config.getFieldsQueryMethodFor(resourceInformation.getDomainType(), fields.trim());
+
+		return listEntities(resourceInformation, pageable, sort, cursor, queryMethodName, selected);
+	}
+
+	/**
+	 * <code>GET /{repository}?fields=&hellip;</code> - Asynchronous variant of
+	 * {@link #listEntitiesWithFields(RootResourceInformation, Pageable, Sort, String, String)} used in case asynchronous
+	 * execution is enabled.
+	 * 
+	 * @param resourceInformation
+	 * @param pageable
+	 * @param sort
+	 * @param fields
+	 * @param cursor can be {@literal null}.
+	 * @return
+	 * @see RepositoryRestConfiguration#isAsyncEnabled()
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = SparseFieldsetResolver.FIELDS_PARAMETER,
+			produces = { "!application/x-spring-data-compact+json", "!text/uri-list" })
+	public WebAsyncTask<Resources<?>> listEntitiesWithFieldsAsync(final RootResourceInformation resourceInformation,
+			final Pageable pageable, final Sort sort,
+			@RequestParam(SparseFieldsetResolver.FIELDS_PARAMETER) final String fields,
+			@RequestParam(value = KeysetPaginator.CURSOR_PARAMETER, required = false) final String cursor) {
+
+		return executeAsync(resourceInformation, new Callable<Resources<?>>() {
+
+			@Override
+			public Resources<?> call() throws Exception {
+				return listEntitiesWithFields(resourceInformation, pageable, sort, fields, cursor);
+			}
+		});
+	}
+
+	private Resources<?> listEntities(RootResourceInformation resourceInformation, Pageable pageable, Sort sort,
+			String cursor) throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+		return listEntities(resourceInformation, pageable, sort, cursor, null, null);
+	}
+
+	/**
+	 * Reads the collection resource. Keyset pagination is used if configured for the domain type. Otherwise the given
+	 * query method, the query method configured to obtain slices or the default finder is used, in that order.
+	 * 
+	 * @param resourceInformation must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param cursor can be {@literal null}.
+	 * @param queryMethodName the name of the query method to read the collection with, can be {@literal null}.
+	 * @param fields the properties to render for the item resources, can be {@literal null}.
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	private Resources<?> listEntities(RootResourceInformation resourceInformation, Pageable pageable, Sort sort,
+			String cursor, String queryMethodName, Set<String> fields) throws ResourceNotFoundException,
+			HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
 
@@ -116,15 +295,88 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results;
+		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+		SearchResourceMappings searchMappings = metadata.getSearchResourceMappings();
+		List<Link> links = getSearchLinks(metadata);
+
+		KeysetPagination keysetPagination = config.getKeysetPaginationFor(metadata.getDomainType());
+
+		if (keysetPagination != null) {
+
+			int pageSize = pageable == null ? config.getDefaultPageSize() : pageable.getPageSize();
+			KeysetPaginator paginator = new KeysetPaginator(keysetPagination, resourceInformation.getPersistentEntity(),
+					pageSize, conversionService);
+
+			paginator.verify(sort);
+			paginator.verify(pageable == null ? null : pageable.getSort());
+
+			Map<String, String[]> parameters = paginator.getParameters(Collections.<String, String[]> emptyMap(), cursor);
+			Object result = invoker.invokeQueryMethod(paginator.getQueryMethod(searchMappings), parameters,
+					paginator.getPageable(), null);
+
+			Resources<?> resources = paginator.toResources(result, perAssembler,
+					ServletUriComponentsBuilder.fromCurrentRequest());
+			resources.add(links);
+			return resources;
+		}
+
+		String sliceQueryMethodName = config.getSliceQueryMethodFor(metadata.getDomainType());
+		Iterable<Object> results;
 
-		if (pageable != null) {
+		if (queryMethodName != null) {
+			results = invokeCollectionQueryMethod(invoker, searchMappings, queryMethodName, pageable, sort);
+		} else if (pageable != null && sliceQueryMethodName != null) {
+			results = invokeCollectionQueryMethod(invoker, searchMappings, sliceQueryMethodName, pageable, null);
+		} else if (pageable != null) {
 			results = invoker.invokeFindAll(pageable);
 		} else {
 			results = invoker.invokeFindAll(sort);
 		}
 
-		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
+		if (config.isStreamUnpagedCollections() && !(results instanceof Slice)) {
+
+			StreamingResources resources = new StreamingResources(metadata.getDomainType(), results, perAssembler, links);
+
+			if (fields != null) {
+				resources.limitTo(fields);
+			}
+
+			return resources;
+		}
+
+		Resources<?> resources = resultToResources(results);
+		resources.add(links);
+		return resources;
+	}
+
+	/**
+	 * Invokes the query method with the given name to obtain the collection resource, e.g. a {@link Slice} of it or the
+	 * properties of a fields preset.
+	 * 
+	 * @param invoker must not be {@literal null}.
+	 * @param searchMappings must not be {@literal null}.
+	 * @param methodName must not be {@literal null} or empty.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static Iterable<Object> invokeCollectionQueryMethod(RepositoryInvoker invoker,
+			SearchResourceMappings searchMappings, String methodName, Pageable pageable, Sort sort) {
+
+		Method method = searchMappings.getMappedMethodByName(methodName);
+
+		if (method == null) {
+			throw new IllegalStateException(String.format("No query method %s found to obtain the collection resource!",
+					methodName));
+		}
+
+		Map<String, String[]> parameters = Collections.emptyMap();
+		return (Iterable<Object>) invoker.invokeQueryMethod(method, parameters, pageable, sort);
+	}
+
+	private List<Link> getSearchLinks(ResourceMetadata metadata) {
+
 		SearchResourceMappings searchMappings = metadata.getSearchResourceMappings();
 		List<Link> links = new ArrayList<Link>();
 
@@ -133,27 +385,103 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 					.withRel(searchMappings.getRel()));
 		}
 
-		Resources<?> resources = resultToResources(results);
-		resources.add(links);
-		return resources;
+		return links;
 	}
 
+	/**
+	 * <code>GET /{repository}</code> - Returns the collection resource as links to its items only. If a query method
+	 * returning identifiers is configured via {@link RepositoryRestConfiguration#exposeIdQueryFor(Class, String)}, the
+	 * links are built from the identifiers it returns without loading the entities.
+	 * 
+	 * @param repoRequest
+	 * @param pageable
+	 * @param sort
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
 	@ResponseBody
-	@SuppressWarnings({ "unchecked" })
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, produces = {
 			"application/x-spring-data-compact+json", "text/uri-list" })
 	public Resources<?> listEntitiesCompact(final RootResourceInformation repoRequest, Pageable pageable, Sort sort)
 			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
 
-		Resources<?> resources = listEntities(repoRequest, pageable, sort);
+		ResourceMetadata metadata = repoRequest.getResourceMetadata();
+		Class<?> domainType = metadata.getDomainType();
+		String idQueryMethodName = config.getIdQueryMethodFor(domainType);
+
+		if (idQueryMethodName == null || config.getKeysetPaginationFor(domainType) != null) {
+			return toCompactResources(repoRequest, listEntities(repoRequest, pageable, sort), new ArrayList<Link>());
+		}
+
+		repoRequest.verifySupportedMethod(HttpMethod.GET, ResourceType.COLLECTION);
+
+		RepositoryInvoker invoker = repoRequest.getInvoker();
+
+		if (null == invoker) {
+			throw new ResourceNotFoundException();
+		}
+
+		Method method = metadata.getSearchResourceMappings().getMappedMethodByName(idQueryMethodName);
+
+		if (method == null) {
+			throw new IllegalStateException(String.format("No query method %s found to obtain identifiers!",
+					idQueryMethodName));
+		}
+
+		Map<String, String[]> parameters = Collections.emptyMap();
+		Object ids = invoker.invokeQueryMethod(method, parameters, pageable, sort);
+
+		Resources<?> resources = resultToResources(ids, new IdResourceAssembler(domainType));
+		return toCompactResources(repoRequest, resources, getSearchLinks(metadata));
+	}
+
+	/**
+	 * <code>GET /{repository}?cursor=&hellip;</code> - Returns the page of the collection resource identified by the
+	 * given continuation token as links to its items only.
+	 * 
+	 * @param repoRequest
+	 * @param pageable
+	 * @param sort
+	 * @param cursor
+	 * @return
+	 * @throws ResourceNotFoundException
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, params = KeysetPaginator.CURSOR_PARAMETER,
+			produces = { "application/x-spring-data-compact+json", "text/uri-list" })
+	public Resources<?> listEntitiesCompactFromCursor(RootResourceInformation repoRequest, Pageable pageable, Sort sort,
+			@RequestParam(KeysetPaginator.CURSOR_PARAMETER) String cursor) throws ResourceNotFoundException,
+			HttpRequestMethodNotSupportedException {
+		return toCompactResources(repoRequest, listEntities(repoRequest, pageable, sort, cursor), new ArrayList<Link>());
+	}
+
+	/**
+	 * Turns the given {@link Resources} into ones without content but the links of the given ones, the additional links
+	 * given and an item link for every element of the original content.
+	 * 
+	 * @param repoRequest must not be {@literal null}.
+	 * @param resources must not be {@literal null}.
+	 * @param additionalLinks must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked" })
+	private Resources<?> toCompactResources(RootResourceInformation repoRequest, Resources<?> resources,
+			List<Link> additionalLinks) {
+
 		List<Link> links = new ArrayList<Link>(resources.getLinks());
+		links.addAll(additionalLinks);
 
 		for (Resource<?> resource : ((Resources<Resource<?>>) resources).getContent()) {
-			PersistentEntityResource<?> persistentEntityResource = (PersistentEntityResource<?>) resource;
-			links.add(resourceLink(repoRequest, persistentEntityResource));
+			links.add(resourceLink(repoRequest, resource));
 		}
+
 		if (resources instanceof PagedResources) {
 			return new PagedResources<Object>(Collections.emptyList(), ((PagedResources<?>) resources).getMetadata(), links);
+		} else if (resources instanceof SlicedResources) {
+			SliceMetadata metadata = ((SlicedResources<?>) resources).getMetadata();
+			return new SlicedResources<Object>(Collections.emptyList(), metadata, links);
 		} else {
 			return new Resources<Object>(Collections.emptyList(), links);
 		}
@@ -178,16 +506,227 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	}
 
 	/**
-	 * <code>GET /{repository}/{id}</code> - Returns a single entity.
+	 * <code>POST /{repository}?batch</code> - Creates all entities contained in the request body, which is either a JSON
+	 * array or a stream of JSON documents (e.g. newline delimited JSON). Elements are read lazily and handed to the
+	 * repository in chunks of {@link RepositoryRestConfiguration#getBatchChunkSize()}. The response contains a
+	 * {@link BatchResult} per element in the order of the request. Every chunk is saved in a transaction of its own if a
+	 * {@link org.springframework.transaction.PlatformTransactionManager} is available. If a chunk fails, it's rolled back
+	 * and its elements are saved one by one, so that only the elements actually failing are reported (see
+	 * {@link #toFailure(RuntimeException)}). {@link AfterCreateEvent}s are published once the chunk was committed.
+	 * Elements that cannot be read are reported as {@code 400 Bad Request}. A syntactically broken element ends the
+	 * batch as the rest of the body cannot be read anymore, chunks saved before stay persisted.
+	 * 
+	 * @param resourceInformation
+	 * @param batch
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.POST, params = BATCH_PARAMETER)
+	public ResponseEntity<List<BatchResult>> postEntities(RootResourceInformation resourceInformation,
+			PersistentEntityBatch batch) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.POST, ResourceType.COLLECTION);
+
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		int chunkSize = config.getBatchChunkSize();
+
+		List<BatchResult> results = new ArrayList<BatchResult>();
+		List<Object> chunk = new ArrayList<Object>(chunkSize);
+		List<Integer> indexes = new ArrayList<Integer>(chunkSize);
+
+		for (Object element : batch) {
+
+			int index = results.size();
+
+			if (element instanceof UnreadableElement) {
+				results.add(BatchResult.failure(HttpStatus.BAD_REQUEST, ((UnreadableElement) element).getMessage()));
+				continue;
+			}
+
+			if (element == null) {
+				results.add(BatchResult.failure(HttpStatus.BAD_REQUEST, "Batch element must not be null!"));
+				continue;
+			}
+
+			try {
+				publisher.publishEvent(new BeforeCreateEvent(element));
+			} catch (RuntimeException o_O) {
+				results.add(toFailure(o_O));
+				continue;
+			}
+
+			results.add(null);
+			chunk.add(element);
+			indexes.add(index);
+
+			if (chunk.size() == chunkSize) {
+				saveChunk(chunk, indexes, invoker, entity, results);
+				chunk.clear();
+				indexes.clear();
+			}
+		}
+
+		saveChunk(chunk, indexes, invoker, entity, results);
+
+		return new ResponseEntity<List<BatchResult>>(results, HttpStatus.OK);
+	}
+
+	/**
+	 * Saves the given chunk of entities in a transaction and records the outcome for each of them at the given indexes of
+	 * the results. {@link AfterCreateEvent}s are only published after the transaction was committed. If the chunk fails,
+	 * the transaction is rolled back, identifiers and versions assigned while saving are reset and the elements are saved
+	 * individually to find out which of them actually fail.
+	 * 
+	 * @param chunk
+	 * @param indexes
+	 * @param invoker
+	 * @param entity
+	 * @param results
+	 */
+	private void saveChunk(final List<Object> chunk, List<Integer> indexes, final RepositoryInvoker invoker,
+			PersistentEntity<?, ?> entity, List<BatchResult> results) {
+
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> identities = getIdentities(chunk, entity);
+		List<Object> saved;
+
+		try {
+
+			saved = executeInTransaction(new TransactionCallback<List<Object>>() {
+
+				@Override
+				public List<Object> doInTransaction(TransactionStatus status) {
+
+					List<Object> result = new ArrayList<Object>(chunk.size());
+
+					for (Object element : invoker.invokeSaveAll(chunk)) {
+						result.add(element);
+					}
+
+					return result;
+				}
+			});
+
+		} catch (RuntimeException o_O) {
+
+			resetIdentities(chunk, identities, entity);
+
+			if (chunk.size() == 1) {
+				results.set(indexes.get(0), toFailure(o_O));
+				return;
+			}
+
+			for (int i = 0; i < chunk.size(); i++) {
+				saveChunk(Collections.singletonList(chunk.get(i)), Collections.singletonList(indexes.get(i)), invoker,
+						entity, results);
+			}
+
+			return;
+		}
+
+		for (int i = 0; i < saved.size(); i++) {
+
+			Object element = saved.get(i);
+
+			publisher.publishEvent(new AfterCreateEvent(element));
+
+			String href = perAssembler.getSelfLinkFor(element).getHref();
+			results.set(indexes.get(i), BatchResult.success(HttpStatus.CREATED, href));
+		}
+	}
+
+	/**
+	 * Captures the identifier and version of the given entities.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	private static List<Object[]> getIdentities(List<Object> objects, PersistentEntity<?, ?> entity) {
+
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+		List<Object[]> identities = new ArrayList<Object[]>(objects.size());
+
+		for (Object object : objects) {
+
+			BeanWrapper<?, Object> wrapper = BeanWrapper.create(object, null);
+
+			identities.add(new Object[] { idProperty == null ? null : wrapper.getProperty(idProperty),
+					versionProperty == null ? null : wrapper.getProperty(versionProperty) });
+		}
+
+		return identities;
+	}
+
+	/**
+	 * Resets identifier and version of the given entities to the given values captured before saving them, so that
+	 * saving them again after a rollback creates them instead of trying to update rows that don't exist.
+	 * 
+	 * @param objects must not be {@literal null}.
+	 * @param identities must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	private static void resetIdentities(List<Object> objects, List<Object[]> identities, PersistentEntity<?, ?> entity) {
+
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+
+		for (int i = 0; i < objects.size(); i++) {
+
+			BeanWrapper<?, Object> wrapper = BeanWrapper.create(objects.get(i), null);
+			Object[] identity = identities.get(i);
+
+			if (idProperty != null) {
+				wrapper.setProperty(idProperty, identity[0]);
+			}
+
+			if (versionProperty != null) {
+				wrapper.setProperty(versionProperty, identity[1]);
+			}
+		}
+	}
+
+	/**
+	 * Turns the given exception thrown while processing an element of a batch into a {@link BatchResult}. Constraint
+	 * violations are reported as {@code 400 Bad Request}, persistence and transaction failures as {@code 409 Conflict}
+	 * and all other failures, e.g. of event listeners, as {@code 500 Internal Server Error}.
+	 * 
+	 * @param exception must not be {@literal null}.
+	 * @return
+	 */
+	private static BatchResult toFailure(RuntimeException exception) {
+
+		if (exception instanceof RepositoryConstraintViolationException) {
+			return BatchResult.failure(HttpStatus.BAD_REQUEST, exception.getMessage());
+		}
+
+		if (exception instanceof DataAccessException || exception instanceof TransactionException) {
+			return BatchResult.failure(HttpStatus.CONFLICT, exception.getMessage());
+		}
+
+		return BatchResult.failure(HttpStatus.INTERNAL_SERVER_ERROR, exception.getMessage());
+	}
+
+	/**
+	 * <code>GET /{repository}/{id}</code> - Returns a single entity. Answers with {@code 304 Not Modified} if the
+	 * {@code If-None-Match} or {@code If-Modified-Since} header indicates the client already has the current state.
 	 * 
 	 * @param resourceInformation
 	 * @param id
+	 * @param requestHeaders
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
 	 */
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.GET)
 	public ResponseEntity<Resource<?>> getSingleEntity(RootResourceInformation resourceInformation,
-			@PathVariable String id) throws HttpRequestMethodNotSupportedException {
+			@PathVariable String id, @RequestHeader HttpHeaders requestHeaders)
+			throws HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
 
@@ -203,21 +742,33 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			return new ResponseEntity<Resource<?>>(HttpStatus.NOT_FOUND);
 		}
 
-		return new ResponseEntity<Resource<?>>(perAssembler.toResource(domainObj), HttpStatus.OK);
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		HttpHeaders headers = headersPreparer.prepareHeaders(entity, domainObj);
+
+		if (headersPreparer.isObjectStillValid(entity, domainObj, requestHeaders)) {
+			return new ResponseEntity<Resource<?>>(headers, HttpStatus.NOT_MODIFIED);
+		}
+
+		return new ResponseEntity<Resource<?>>(perAssembler.toResource(domainObj), headers, HttpStatus.OK);
 	}
 
 	/**
-	 * <code>PUT /{repository}/{id}</code> - Updates an existing entity or creates one at exactly that place.
+	 * <code>PUT /{repository}/{id}</code> - Updates an existing entity or creates one at exactly that place. Answers with
+	 * {@code 412 Precondition Failed} if an {@code If-Match} header is given that doesn't match the current entity or
+	 * the entity doesn't exist yet.
 	 * 
 	 * @param resourceInformation
 	 * @param payload
 	 * @param id
+	 * @param ifMatch
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
 	 */
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.PUT)
 	public ResponseEntity<? extends ResourceSupport> putEntity(RootResourceInformation resourceInformation,
-			PersistentEntityResource<Object> payload, @PathVariable String id) throws HttpRequestMethodNotSupportedException {
+			PersistentEntityResource<Object> payload, @PathVariable String id,
+			@RequestHeader(value = "If-Match", required = false) String ifMatch)
+			throws HttpRequestMethodNotSupportedException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.PUT, ResourceType.ITEM);
 
@@ -226,29 +777,38 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 		if (domainObject == null) {
 
+			if (StringUtils.hasText(ifMatch)) {
+				throw new ETagDoesntMatchException(ETag.NO_ETAG, ifMatch);
+			}
+
 			BeanWrapper<?, Object> incomingWrapper = BeanWrapper.create(payload.getContent(), conversionService);
 			incomingWrapper.setProperty(payload.getPersistentEntity().getIdProperty(), id);
 
 			return createAndReturn(incomingWrapper.getBean(), invoker);
 		}
 
-		return mergeAndReturn(payload.getContent(), domainObject, invoker, PUT);
+		ETag.from(domainObject, resourceInformation.getPersistentEntity()).verify(ifMatch);
+
+		return mergeAndReturn(payload.getContent(), domainObject, resourceInformation, PUT);
 	}
 
 	/**
-	 * <code>PUT /{repository}/{id}</code> - Updates an existing entity or creates one at exactly that place.
+	 * <code>PATCH /{repository}/{id}</code> - Updates an existing entity. Answers with {@code 412 Precondition Failed}
+	 * if an {@code If-Match} header is given that doesn't match the current entity.
 	 * 
 	 * @param resourceInformation
 	 * @param payload
 	 * @param id
+	 * @param ifMatch
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
 	 * @throws ResourceNotFoundException
 	 */
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.PATCH)
 	public ResponseEntity<ResourceSupport> patchEntity(RootResourceInformation resourceInformation,
-			PersistentEntityResource<Object> payload, @PathVariable String id) throws HttpRequestMethodNotSupportedException,
-			ResourceNotFoundException {
+			PersistentEntityResource<Object> payload, @PathVariable String id,
+			@RequestHeader(value = "If-Match", required = false) String ifMatch)
+			throws HttpRequestMethodNotSupportedException, ResourceNotFoundException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.PATCH, ResourceType.ITEM);
 
@@ -258,11 +818,250 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		return mergeAndReturn(payload.getContent(), domainObject, resourceInformation.getInvoker(), PATCH);
+		ETag.from(domainObject, resourceInformation.getPersistentEntity()).verify(ifMatch);
+
+		return mergeAndReturn(payload.getContent(), domainObject, resourceInformation, PATCH);
+	}
+
+	/**
+	 * <code>PATCH /{repository}/{id}</code> with a JSON Merge Patch document - Applies the properties present in the
+	 * request body directly to the existing entity without creating an intermediate instance. Explicit {@literal null}
+	 * values clear the according properties.
+	 * 
+	 * @param resourceInformation
+	 * @param patch
+	 * @param id
+	 * @param ifMatch
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @throws ResourceNotFoundException
+	 */
+	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.PATCH,
+			consumes = PersistentEntityMergePatch.MEDIA_TYPE)
+	public ResponseEntity<ResourceSupport> mergePatchEntity(RootResourceInformation resourceInformation,
+			PersistentEntityMergePatch patch, @PathVariable String id,
+			@RequestHeader(value = "If-Match", required = false) String ifMatch)
+			throws HttpRequestMethodNotSupportedException, ResourceNotFoundException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.PATCH, ResourceType.ITEM);
+
+		Object domainObject = conversionService.convert(id, resourceInformation.getDomainType());
+
+		if (domainObject == null) {
+			throw new ResourceNotFoundException();
+		}
+
+		ETag.from(domainObject, resourceInformation.getPersistentEntity()).verify(ifMatch);
+
+		return saveAndReturn(patch.applyTo(domainObject), resourceInformation, PATCH);
+	}
+
+	/**
+	 * <code>PATCH /{repository}</code> - Applies partial documents to multiple entities. The request body is a JSON
+	 * object mapping identifiers to partial documents. Identifiers that can't be converted into the identifier type or
+	 * refer to the same entity as another one are rejected with {@code 400 Bad Request} before anything is looked up.
+	 * All targets are loaded with a single lookup and merged. Only if all of them could be merged and passed the
+	 * {@link BeforeSaveEvent} listeners, they're saved in chunks of
+	 * {@link RepositoryRestConfiguration#getBatchChunkSize()}. Otherwise nothing is saved and the identifiers that did
+	 * not fail themselves are reported with {@code 424 Failed Dependency}. The whole operation runs in a single
+	 * transaction if a {@link org.springframework.transaction.PlatformTransactionManager} is available. The response
+	 * maps every identifier to a {@link BatchResult}.
+	 * 
+	 * @param resourceInformation
+	 * @param updates
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.PATCH)
+	public ResponseEntity<Map<String, BatchResult>> patchEntities(final RootResourceInformation resourceInformation,
+			final PersistentEntityUpdates updates) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.PATCH, ResourceType.ITEM);
+
+		final Map<String, BatchResult> results = new LinkedHashMap<String, BatchResult>();
+
+		try {
+
+			executeInTransaction(new TransactionCallback<Void>() {
+
+				@Override
+				public Void doInTransaction(TransactionStatus status) {
+
+					if (!applyUpdates(resourceInformation, updates, results)) {
+						status.setRollbackOnly();
+					}
+
+					return null;
+				}
+			});
+
+		} catch (RuntimeException o_O) {
+
+			BatchResult failure = toFailure(o_O);
+
+			for (String id : updates.getIds()) {
+				results.put(id, failure);
+			}
+		}
+
+		return new ResponseEntity<Map<String, BatchResult>>(results, HttpStatus.OK);
+	}
+
+	/**
+	 * Loads all entities referred to by the given {@link PersistentEntityUpdates} and merges the partial documents into
+	 * them. Saves them in chunks if all of them could be prepared successfully. Records the outcome per identifier in the
+	 * given results.
+	 * 
+	 * @param resourceInformation
+	 * @param updates
+	 * @param results
+	 * @return whether the updates were saved.
+	 */
+	private boolean applyUpdates(RootResourceInformation resourceInformation, PersistentEntityUpdates updates,
+			Map<String, BatchResult> results) {
+
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		PersistentProperty<?> idProperty = entity.getIdProperty();
+		RepositoryInvoker invoker = resourceInformation.getInvoker();
+
+		Map<Serializable, String> rawIds = new HashMap<Serializable, String>();
+
+		for (String rawId : updates.getIds()) {
+
+			Serializable id;
+
+			try {
+				id = (Serializable) conversionService.convert(rawId, idProperty.getType());
+			} catch (ConversionException o_O) {
+				results.put(rawId, BatchResult.failure(HttpStatus.BAD_REQUEST, o_O.getMessage()));
+				continue;
+			}
+
+			if (id == null) {
+				results.put(rawId, BatchResult.failure(HttpStatus.BAD_REQUEST, "Invalid identifier " + rawId + "!"));
+				continue;
+			}
+
+			String duplicate = rawIds.put(id, rawId);
+
+			if (duplicate != null) {
+				String message = String.format("Identifiers %s and %s refer to the same entity!", duplicate, rawId);
+				results.put(duplicate, BatchResult.failure(HttpStatus.BAD_REQUEST, message));
+				results.put(rawId, BatchResult.failure(HttpStatus.BAD_REQUEST, message));
+			}
+		}
+
+		if (!results.isEmpty()) {
+
+			BatchResult dependencyFailure = BatchResult.failure(HttpStatus.FAILED_DEPENDENCY, null);
+
+			for (String rawId : updates.getIds()) {
+				if (!results.containsKey(rawId)) {
+					results.put(rawId, dependencyFailure);
+				}
+			}
+
+			return false;
+		}
+
+		Map<String, Object> targets = new HashMap<String, Object>();
+
+		for (Object target : invoker.invokeFindSome(rawIds.keySet())) {
+
+			String rawId = rawIds.get(BeanWrapper.create(target, conversionService).getProperty(idProperty));
+
+			if (rawId != null) {
+				targets.put(rawId, target);
+			}
+		}
+
+		Map<String, Object> prepared = new LinkedHashMap<String, Object>();
+
+		for (String rawId : updates.getIds()) {
+
+			if (results.containsKey(rawId)) {
+				continue;
+			}
+
+			Object target = targets.get(rawId);
+			Object update = updates.getUpdateFor(rawId);
+
+			if (target == null) {
+				results.put(rawId, BatchResult.failure(HttpStatus.NOT_FOUND, null));
+				continue;
+			}
+
+			if (update == null) {
+				results.put(rawId, BatchResult.failure(HttpStatus.BAD_REQUEST, "Update must not be null!"));
+				continue;
+			}
+
+			domainObjectMerger.merge(update, target, IGNORE_NULLS);
+
+			try {
+				publisher.publishEvent(new BeforeSaveEvent(target));
+				prepared.put(rawId, target);
+			} catch (RepositoryConstraintViolationException o_O) {
+				results.put(rawId, BatchResult.failure(HttpStatus.BAD_REQUEST, o_O.getMessage()));
+			}
+		}
+
+		if (!results.isEmpty()) {
+
+			BatchResult dependencyFailure = BatchResult.failure(HttpStatus.FAILED_DEPENDENCY, null);
+
+			for (String rawId : prepared.keySet()) {
+				results.put(rawId, dependencyFailure);
+			}
+
+			return false;
+		}
+
+		int chunkSize = config.getBatchChunkSize();
+		List<Object> chunk = new ArrayList<Object>(chunkSize);
+		List<String> chunkIds = new ArrayList<String>(chunkSize);
+
+		for (Entry<String, Object> entry : prepared.entrySet()) {
+
+			chunk.add(entry.getValue());
+			chunkIds.add(entry.getKey());
+
+			if (chunk.size() == chunkSize) {
+				saveUpdatedChunk(chunk, chunkIds, invoker, results);
+			}
+		}
+
+		saveUpdatedChunk(chunk, chunkIds, invoker, results);
+
+		return true;
+	}
+
+	private void saveUpdatedChunk(List<Object> chunk, List<String> chunkIds, RepositoryInvoker invoker,
+			Map<String, BatchResult> results) {
+
+		if (chunk.isEmpty()) {
+			return;
+		}
+
+		Iterator<String> ids = chunkIds.iterator();
+
+		for (Object saved : invoker.invokeSaveAll(chunk)) {
+
+			publisher.publishEvent(new AfterSaveEvent(saved));
+
+			String href = perAssembler.getSelfLinkFor(saved).getHref();
+			results.put(ids.next(), BatchResult.success(HttpStatus.OK, href));
+		}
+
+		chunk.clear();
+		chunkIds.clear();
 	}
 
 	/**
-	 * <code>DELETE /{repository}/{id}</code> - Deletes the entity backing the item resource.
+	 * <code>DELETE /{repository}/{id}</code> - Deletes the entity backing the item resource. The entity is loaded once
+	 * and handed to the repository for deletion within the same transaction if a
+	 * {@link org.springframework.transaction.PlatformTransactionManager} is available.
 	 * 
 	 * @param resourceInformation
 	 * @param id
@@ -276,7 +1075,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 
 		resourceInformation.verifySupportedMethod(HttpMethod.DELETE, ResourceType.ITEM);
 
-		RepositoryInvoker invoker = resourceInformation.getInvoker();
+		final RepositoryInvoker invoker = resourceInformation.getInvoker();
 
 		// TODO: re-enable not exposing delete method if hidden
 
@@ -285,11 +1084,129 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		// throw new HttpRequestMethodNotSupportedException("DELETE");
 		// }
 
-		Object domainObj = invoker.invokeFindOne(id);
+		executeInTransaction(new TransactionCallback<Void>() {
+
+			@Override
+			public Void doInTransaction(TransactionStatus status) {
+
+				Object domainObj = invoker.invokeFindOne(id);
 
-		publisher.publishEvent(new BeforeDeleteEvent(domainObj));
-		invoker.invokeDelete(id);
-		publisher.publishEvent(new AfterDeleteEvent(domainObj));
+				if (domainObj == null) {
+					throw new ResourceNotFoundException();
+				}
+
+				publisher.publishEvent(new BeforeDeleteEvent(domainObj));
+				invoker.invokeDeleteEntity(domainObj);
+				publisher.publishEvent(new AfterDeleteEvent(domainObj));
+
+				return null;
+			}
+		});
+
+		return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * <code>DELETE /{repository}?ids=...</code> - Deletes the entities with the given identifiers.
+	 * 
+	 * @param resourceInformation
+	 * @param ids
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE, params = IDS_PARAMETER)
+	public ResponseEntity<?> deleteEntities(RootResourceInformation resourceInformation,
+			@RequestParam(IDS_PARAMETER) String[] ids) throws HttpRequestMethodNotSupportedException {
+		return deleteEntitiesWithIds(resourceInformation, Arrays.asList(ids));
+	}
+
+	/**
+	 * <code>DELETE /{repository}</code> - Deletes the entities referred to by the URIs given in a {@code text/uri-list}
+	 * request body. All URIs have to point to item resources of the current repository, otherwise the request is
+	 * rejected before anything is deleted.
+	 * 
+	 * @param resourceInformation
+	 * @param incoming
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE, consumes = "text/uri-list")
+	public ResponseEntity<?> deleteEntities(RootResourceInformation resourceInformation,
+			@RequestBody Resources<Object> incoming) throws HttpRequestMethodNotSupportedException {
+
+		List<Serializable> ids = new ArrayList<Serializable>(incoming.getLinks().size());
+
+		for (Link link : incoming.getLinks()) {
+			ids.add(resolver.getId(link.getHref(), resourceInformation.getDomainType()));
+		}
+
+		return deleteEntitiesWithIds(resourceInformation, ids);
+	}
+
+	/**
+	 * Looks up all entities with the given identifiers in a single query and deletes them in one go. If any of the
+	 * identifiers doesn't refer to an entity, nothing is deleted and {@code 404 Not Found} is returned, listing the
+	 * missing identifiers. Runs in a single transaction if a
+	 * {@link org.springframework.transaction.PlatformTransactionManager} is available, so that stores don't have to
+	 * re-attach the loaded entities for deletion. Uses a store-level batch delete if enabled.
+	 * 
+	 * @param resourceInformation
+	 * @param ids
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 * @see RepositoryRestConfiguration#isDeleteInBatchEnabled()
+	 */
+	private ResponseEntity<?> deleteEntitiesWithIds(RootResourceInformation resourceInformation,
+			final List<? extends Serializable> ids) throws HttpRequestMethodNotSupportedException {
+
+		resourceInformation.verifySupportedMethod(HttpMethod.DELETE, ResourceType.ITEM);
+
+		final RepositoryInvoker invoker = resourceInformation.getInvoker();
+		final PersistentProperty<?> idProperty = resourceInformation.getPersistentEntity().getIdProperty();
+		final Map<Object, Serializable> missing = new LinkedHashMap<Object, Serializable>();
+
+		for (Serializable id : ids) {
+			missing.put(conversionService.convert(id, idProperty.getType()), id);
+		}
+
+		try {
+			executeInTransaction(new TransactionCallback<Void>() {
+
+				@Override
+				public Void doInTransaction(TransactionStatus status) {
+
+					List<Object> domainObjects = new ArrayList<Object>(ids.size());
+
+					for (Object domainObject : invoker.invokeFindSome(ids)) {
+						missing.remove(BeanWrapper.create(domainObject, conversionService).getProperty(idProperty));
+						domainObjects.add(domainObject);
+					}
+
+					if (!missing.isEmpty()) {
+						throw new ResourceNotFoundException(String.format("No entities found for identifiers %s!",
+								missing.values()));
+					}
+
+					for (Object domainObject : domainObjects) {
+						publisher.publishEvent(new BeforeDeleteEvent(domainObject));
+					}
+
+					if (config.isDeleteInBatchEnabled()) {
+						invoker.invokeDeleteInBatch(domainObjects);
+					} else {
+						invoker.invokeDeleteAll(domainObjects);
+					}
+
+					for (Object domainObject : domainObjects) {
+						publisher.publishEvent(new AfterDeleteEvent(domainObject));
+					}
+
+					return null;
+				}
+			});
+		} catch (ResourceNotFoundException o_O) {
+			return notFound(null, new ExceptionMessage(o_O));
+		}
 
 		return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
 	}
@@ -304,16 +1221,31 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @return
 	 */
 	private ResponseEntity<ResourceSupport> mergeAndReturn(Object incoming, Object domainObject,
-			RepositoryInvoker invoker, HttpMethod httpMethod) {
+			RootResourceInformation resourceInformation, HttpMethod httpMethod) {
 
 		NullHandlingPolicy nullPolicy = httpMethod.equals(PATCH) ? IGNORE_NULLS : APPLY_NULLS;
 		domainObjectMerger.merge(incoming, domainObject, nullPolicy);
 
+		return saveAndReturn(domainObject, resourceInformation, httpMethod);
+	}
+
+	/**
+	 * Saves the given, already updated domain object and renders it into the response if needed. The response carries
+	 * the {@code ETag} and {@code Last-Modified} headers of the saved entity.
+	 * 
+	 * @param domainObject
+	 * @param resourceInformation
+	 * @param httpMethod
+	 * @return
+	 */
+	private ResponseEntity<ResourceSupport> saveAndReturn(Object domainObject,
+			RootResourceInformation resourceInformation, HttpMethod httpMethod) {
+
 		publisher.publishEvent(new BeforeSaveEvent(domainObject));
-		Object obj = invoker.invokeSave(domainObject);
+		Object obj = resourceInformation.getInvoker().invokeSave(domainObject);
 		publisher.publishEvent(new AfterSaveEvent(domainObject));
 
-		HttpHeaders headers = new HttpHeaders();
+		HttpHeaders headers = headersPreparer.prepareHeaders(resourceInformation.getPersistentEntity(), obj);
 
 		if (PUT.equals(httpMethod)) {
 			headers.setLocation(URI.create(perAssembler.getSelfLinkFor(obj).getHref()));
@@ -346,4 +1278,27 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 				: null;
 		return ControllerUtils.toResponseEntity(HttpStatus.CREATED, headers, resource);
 	}
+
+	/**
+	 * {@link ResourceAssembler} to create {@link Resource}s linking to the item resources of the given identifiers.
+	 * 
+	 * @author agent
+	 */
+	private class IdResourceAssembler implements ResourceAssembler<Object, Resource<Object>> {
+
+		private final Class<?> domainType;
+
+		public IdResourceAssembler(Class<?> domainType) {
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.ResourceAssembler#toResource(java.lang.Object)
+		 */
+		@Override
+		public Resource<Object> toResource(Object id) {
+			return new Resource<Object>(id, entityLinks.linkForSingleResource(domainType, id).withSelfRel());
+		}
+	}
 }
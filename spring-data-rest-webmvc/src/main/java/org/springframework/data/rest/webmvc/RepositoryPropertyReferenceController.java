@@ -18,13 +18,17 @@ package org.springframework.data.rest.webmvc;
 import static org.springframework.data.rest.webmvc.ControllerUtils.*;
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -32,18 +36,27 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.EntityUriResolver;
+import org.springframework.data.rest.core.config.AssociationQuery;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
 import org.springframework.data.rest.core.invoke.RepositoryInvoker;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.util.Function;
+import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
+import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter.LinkHandler;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -54,12 +67,15 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 /**
  * @author Jon Brisbin
@@ -72,23 +88,37 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		ApplicationEventPublisherAware {
 
 	private static final String BASE_MAPPING = "/{repository}/{id}/{property}";
+	private static final String SORT_REQUIRES_QUERY = "Sorting the elements of an association requires an association "
+			+ "query to be configured!";
+	private static final String SINGLE_LINK_REQUIRED = "Must send only 1 link to update a property reference that isn't "
+			+ "a List or a Map.";
 
 	private final Repositories repositories;
 	private final PersistentEntityResourceAssembler<Object> perAssembler;
 	private final ConversionService conversionService;
+	private final RepositoryRestConfiguration config;
+	private final RepositoryInvokerFactory invokerFactory;
+	private final EntityUriResolver resolver;
+	private final UriListHttpMessageConverter uriListConverter;
 
 	private ApplicationEventPublisher publisher;
 
 	@Autowired
 	public RepositoryPropertyReferenceController(Repositories repositories,
 			@Qualifier("defaultConversionService") ConversionService conversionService,
-			PagedResourcesAssembler<Object> assembler, PersistentEntityResourceAssembler<Object> perAssembler) {
+			PagedResourcesAssembler<Object> assembler, PersistentEntityResourceAssembler<Object> perAssembler,
+			RepositoryRestConfiguration config, RepositoryInvokerFactory invokerFactory, EntityUriResolver resolver,
+			UriListHttpMessageConverter uriListConverter) {
 
 		super(assembler, perAssembler);
 
 		this.repositories = repositories;
 		this.perAssembler = perAssembler;
 		this.conversionService = conversionService;
+		this.config = config;
+		this.invokerFactory = invokerFactory;
+		this.resolver = resolver;
+		this.uriListConverter = uriListConverter;
 	}
 
 	/* 
@@ -97,12 +127,80 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.publisher = applicationEventPublisher;
+		this.publisher = getEventPublisher(applicationEventPublisher);
 	}
 
+	/**
+	 * Asynchronous variant of
+	 * {@link #followPropertyReference(RootResourceInformation, String, String, Pageable, WebRequest)} used in case
+	 * asynchronous execution is enabled.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param request
+	 * @return
+	 * @see RepositoryRestConfiguration#isAsyncEnabled()
+	 */
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
-	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
-			@PathVariable String id, @PathVariable String property) throws Exception {
+	public WebAsyncTask<ResponseEntity<ResourceSupport>> followPropertyReferenceAsync(
+			final RootResourceInformation repoRequest, @PathVariable final String id, @PathVariable final String property,
+			final Pageable pageable, WebRequest request) {
+
+		final boolean paged = isPagingRequested(request);
+
+		return executeAsync(repoRequest, new Callable<ResponseEntity<ResourceSupport>>() {
+
+			@Override
+			public ResponseEntity<ResourceSupport> call() throws Exception {
+				return paged ? followPagedPropertyReference(repoRequest, id, property, pageable) : followPropertyReference(
+						repoRequest, id, property);
+			}
+		});
+	}
+
+	/**
+	 * <code>GET /{repository}/{id}/{property}</code> - Returns the value of the given property. A collection association
+	 * is returned as page if any of the paging parameters is given.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @param request
+	 * @return
+	 * @throws Exception
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET)
+	public ResponseEntity<ResourceSupport> followPropertyReference(RootResourceInformation repoRequest,
+			@PathVariable String id, @PathVariable String property, Pageable pageable, WebRequest request)
+			throws Exception {
+
+		return isPagingRequested(request) ? followPagedPropertyReference(repoRequest, id, property, pageable)
+				: followPropertyReference(repoRequest, id, property);
+	}
+
+	/**
+	 * Returns whether the given request carries any of the page, size or sort parameters.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isPagingRequested(WebRequest request) {
+
+		for (String parameter : new String[] { config.getPageParamName(), config.getLimitParamName(),
+				config.getSortParamName() }) {
+			if (request.getParameter(parameter) != null) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
+			String id, String property) throws Exception {
 
 		final HttpHeaders headers = new HttpHeaders();
 
@@ -148,6 +246,129 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, headers, responseResource);
 	}
 
+	/**
+	 * <code>GET /{repository}/{id}/{property}?page=&hellip;</code> - Returns a page of the elements of a collection
+	 * association. Used if any of the page, size or sort parameters is given. If an {@link AssociationQuery} is
+	 * configured for the association, the page is obtained from the repository of the association's target type without
+	 * initializing the association. Otherwise the page is cut out of the elements of the association, which requires
+	 * loading all of them. Large associations should thus have an {@link AssociationQuery} configured. Sorting is only
+	 * supported through an {@link AssociationQuery}, requests with a sort parameter are rejected with
+	 * {@code 400 Bad Request} otherwise.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param pageable
+	 * @return
+	 * @throws Exception
+	 * @see RepositoryRestConfiguration#exposeAssociationQueryFor(Class, String, String, String)
+	 */
+	private ResponseEntity<ResourceSupport> followPagedPropertyReference(final RootResourceInformation repoRequest,
+			String id, String property, final Pageable pageable) throws Exception {
+
+		PersistentEntity<?, ?> entity = repoRequest.getPersistentEntity();
+		PersistentProperty<?> persistentProperty = entity.getPersistentProperty(property);
+
+		if (persistentProperty == null || !persistentProperty.isCollectionLike()) {
+			return followPropertyReference(repoRequest, id, property);
+		}
+
+		AssociationQuery query = config.getAssociationQueryFor(entity.getType(), property);
+
+		if (query == null) {
+
+			if (pageable.getSort() != null) {
+				throw new IllegalArgumentException(SORT_REQUIRES_QUERY);
+			}
+
+			Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
+
+				@Override
+				public ResourceSupport apply(ReferencedProperty prop) {
+
+					if (null == prop.propertyValue) {
+						throw new ResourceNotFoundException();
+					}
+
+					return resultToResources(toPage((Iterable<Object>) prop.propertyValue, pageable));
+				}
+			};
+
+			ResourceSupport resource = doWithReferencedProperty(repoRequest, id, property, handler, HttpMethod.GET);
+			return ControllerUtils.toResponseEntity(HttpStatus.OK, null, resource);
+		}
+
+		RepositoryInvoker invoker = repoRequest.getInvoker();
+
+		if (!invoker.exposesFindOne()) {
+			throw new HttpRequestMethodNotSupportedException(HttpMethod.GET.name());
+		}
+
+		if (null == invoker.invokeFindOne(id)) {
+			throw new ResourceNotFoundException();
+		}
+
+		Class<?> targetType = persistentProperty.getActualType();
+		Method method = getQueryMethod(targetType, query.getQueryMethodName());
+		Map<String, String[]> parameters = Collections.singletonMap(query.getOwnerParameter(), new String[] { id });
+
+		Object result = invokerFactory.getInvokerFor(targetType).invokeQueryMethod(method, parameters, pageable, null);
+		return ControllerUtils.toResponseEntity(HttpStatus.OK, null, resultToResources(result));
+	}
+
+	/**
+	 * Returns the {@link Page} of the given elements selected by the given {@link Pageable}. The total is determined by
+	 * iterating all elements in case they're not given as {@link Collection}.
+	 * 
+	 * @param elements must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the given {@link Pageable} requests sorting.
+	 */
+	static Page<Object> toPage(Iterable<Object> elements, Pageable pageable) {
+
+		if (pageable.getSort() != null) {
+			throw new IllegalArgumentException(SORT_REQUIRES_QUERY);
+		}
+
+		List<Object> content = new ArrayList<Object>(pageable.getPageSize());
+		int offset = pageable.getOffset();
+		long total = 0;
+
+		for (Object element : elements) {
+
+			if (total >= offset && content.size() < pageable.getPageSize()) {
+				content.add(element);
+			} else if (elements instanceof Collection && content.size() == pageable.getPageSize()) {
+				break;
+			}
+
+			total++;
+		}
+
+		total = elements instanceof Collection ? ((Collection<?>) elements).size() : total;
+		return new PageImpl<Object>(content, pageable, total);
+	}
+
+	/**
+	 * Returns the query method with the given name declared on the repository managing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null} or empty.
+	 * @return
+	 */
+	private Method getQueryMethod(Class<?> domainType, String methodName) {
+
+		for (Method method : repositories.getRepositoryInformationFor(domainType).getQueryMethods()) {
+			if (method.getName().equals(methodName)) {
+				return method;
+			}
+		}
+
+		throw new IllegalStateException(String.format("No query method %s found on repository for %s!", methodName,
+				domainType.getName()));
+	}
+
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.DELETE)
 	public ResponseEntity<? extends ResourceSupport> deletePropertyReference(final RootResourceInformation repoRequest,
 			@PathVariable String id, @PathVariable String property) throws Exception {
@@ -188,10 +409,32 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
 	}
 
+	/**
+	 * <code>GET /{repository}/{id}/{property}/{propertyId}</code> - Returns the element with the given identifier of a
+	 * collection or map association. If an inverse property is configured for the association, the element is looked
+	 * up directly and verified to belong to the owner through it. Otherwise the association is scanned for the element.
+	 * 
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param propertyId
+	 * @return
+	 * @throws Exception
+	 * @see RepositoryRestConfiguration#setInversePropertyFor(Class, String, String)
+	 */
 	@RequestMapping(value = BASE_MAPPING + "/{propertyId}", method = RequestMethod.GET)
 	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
 			@PathVariable String id, @PathVariable String property, final @PathVariable String propertyId) throws Exception {
 
+		PersistentEntity<?, ?> entity = repoRequest.getPersistentEntity();
+		PersistentProperty<?> persistentProperty = entity.getPersistentProperty(property);
+		String inverseProperty = config.getInversePropertyFor(entity.getType(), property);
+
+		if (persistentProperty != null && inverseProperty != null
+				&& (persistentProperty.isCollectionLike() || persistentProperty.isMap())) {
+			return followInverseProperty(repoRequest, id, persistentProperty, inverseProperty, propertyId);
+		}
+
 		final HttpHeaders headers = new HttpHeaders();
 
 		Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
@@ -239,6 +482,64 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, headers, responseResource);
 	}
 
+	/**
+	 * Looks up the association element with the given identifier and verifies it points back to the owner with the
+	 * given identifier through the given inverse property. Both the repository of the owner and the one of the element
+	 * have to expose {@code findOne}.
+	 * 
+	 * @param repoRequest must not be {@literal null}.
+	 * @param id the identifier of the owner, must not be {@literal null}.
+	 * @param property the association property, must not be {@literal null}.
+	 * @param inverseProperty the name of the property of the element pointing to the owner, must not be {@literal null}.
+	 * @param propertyId the identifier of the element, must not be {@literal null}.
+	 * @return
+	 * @throws HttpRequestMethodNotSupportedException
+	 */
+	private ResponseEntity<ResourceSupport> followInverseProperty(RootResourceInformation repoRequest, String id,
+			PersistentProperty<?> property, String inverseProperty, String propertyId)
+			throws HttpRequestMethodNotSupportedException {
+
+		if (!repoRequest.getInvoker().exposesFindOne()) {
+			throw new HttpRequestMethodNotSupportedException(HttpMethod.GET.name());
+		}
+
+		Class<?> targetType = property.getActualType();
+		PersistentEntity<?, ?> targetEntity = repositories.getPersistentEntity(targetType);
+		PersistentProperty<?> inverse = targetEntity == null ? null : targetEntity.getPersistentProperty(inverseProperty);
+
+		if (inverse == null || inverse.isCollectionLike() || inverse.isMap()) {
+			throw new IllegalStateException(String.format("No singular property %s found on %s!", inverseProperty,
+					targetType.getName()));
+		}
+
+		RepositoryInvoker targetInvoker = invokerFactory.getInvokerFor(targetType);
+
+		if (!targetInvoker.exposesFindOne()) {
+			throw new HttpRequestMethodNotSupportedException(HttpMethod.GET.name());
+		}
+
+		Object element = targetInvoker.invokeFindOne(propertyId);
+
+		if (element == null) {
+			throw new ResourceNotFoundException();
+		}
+
+		Object owner = BeanWrapper.create(element, null).getProperty(inverse);
+		PersistentEntity<?, ?> ownerEntity = repoRequest.getPersistentEntity();
+		Object ownerId = owner == null ? null : BeanWrapper.create(owner, null).getProperty(ownerEntity.getIdProperty());
+
+		if (ownerId == null || !id.equals(ownerId.toString())) {
+			throw new ResourceNotFoundException();
+		}
+
+		PersistentEntityResource<Object> resource = perAssembler.toResource(element);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Content-Location", resource.getId().getHref());
+
+		return ControllerUtils.toResponseEntity(HttpStatus.OK, headers, resource);
+	}
+
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, produces = {
 			"application/x-spring-data-compact+json", "text/uri-list" })
 	public ResponseEntity<ResourceSupport> followPropertyReferenceCompact(RootResourceInformation repoRequest,
@@ -259,7 +560,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		List<Link> links = new ArrayList<Link>();
 
 		ControllerLinkBuilder linkBuilder = linkTo(methodOn(RepositoryPropertyReferenceController.class)
-				.followPropertyReference(repoRequest, id, property));
+				.followPropertyReference(repoRequest, id, property, null, null));
 
 		if (resource instanceof Resource) {
 
@@ -289,19 +590,65 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 	@RequestMapping(value = BASE_MAPPING, //
 			method = { RequestMethod.PATCH, RequestMethod.PUT }, //
-			consumes = { "application/json", "application/x-spring-data-compact+json", "text/uri-list" })
+			consumes = { "application/json", "application/x-spring-data-compact+json" })
 	@ResponseBody
 	public ResponseEntity<? extends ResourceSupport> createPropertyReference(
 			final RootResourceInformation resourceInformation, final HttpMethod requestMethod,
 			final @RequestBody Resources<Object> incoming, @PathVariable String id, @PathVariable String property)
 			throws Exception {
 
+		return updatePropertyReference(resourceInformation, requestMethod, id, property, new IncomingLinks() {
+
+			@Override
+			public void read(LinkHandler handler) throws IOException {
+
+				if (!incoming.getLinks().isEmpty()) {
+					handler.handle(incoming.getLinks());
+				}
+			}
+		});
+	}
+
+	/**
+	 * <code>PUT|PATCH /{repository}/{id}/{property}</code> with a {@code text/uri-list} body - Reads the URIs in batches
+	 * of {@link RepositoryRestConfiguration#getBatchChunkSize()} while parsing the body and resolves every batch with a
+	 * single repository call, so that neither all URIs nor all {@link Link}s have to be held in memory at once.
+	 * 
+	 * @param resourceInformation
+	 * @param requestMethod
+	 * @param request
+	 * @param id
+	 * @param property
+	 * @return
+	 * @throws Exception
+	 */
+	@RequestMapping(value = BASE_MAPPING, //
+			method = { RequestMethod.PATCH, RequestMethod.PUT }, //
+			consumes = "text/uri-list")
+	@ResponseBody
+	public ResponseEntity<? extends ResourceSupport> createPropertyReferenceFromUriList(
+			RootResourceInformation resourceInformation, HttpMethod requestMethod, final ServletServerHttpRequest request,
+			@PathVariable String id, @PathVariable String property) throws Exception {
+
+		return updatePropertyReference(resourceInformation, requestMethod, id, property, new IncomingLinks() {
+
+			@Override
+			public void read(LinkHandler handler) throws IOException {
+				uriListConverter.read(request, config.getBatchChunkSize(), handler);
+			}
+		});
+	}
+
+	private ResponseEntity<? extends ResourceSupport> updatePropertyReference(
+			final RootResourceInformation resourceInformation, final HttpMethod requestMethod, String id, String property,
+			final IncomingLinks incoming) throws Exception {
+
 		final RepositoryInvoker invoker = resourceInformation.getInvoker();
 
 		Function<ReferencedProperty, ResourceSupport> handler = new Function<ReferencedProperty, ResourceSupport>() {
 
 			@Override
-			public ResourceSupport apply(ReferencedProperty prop) throws HttpRequestMethodNotSupportedException {
+			public ResourceSupport apply(final ReferencedProperty prop) throws Exception {
 
 				Class<?> propertyType = prop.property.getType();
 
@@ -314,11 +661,16 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						coll = (Collection<Object>) prop.propertyValue;
 					}
 
+					final Collection<Object> target = coll;
+
 					// Add to the existing collection
-					for (Link l : incoming.getLinks()) {
-						Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
-						coll.add(propVal);
-					}
+					incoming.read(new LinkHandler() {
+
+						@Override
+						public void handle(List<Link> links) {
+							target.addAll(loadPropertyValues(prop, links));
+						}
+					});
 
 					prop.wrapper.setProperty(prop.property, coll);
 
@@ -331,11 +683,21 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						m = (Map<String, Object>) prop.propertyValue;
 					}
 
+					final Map<String, Object> target = m;
+
 					// Add to the existing collection
-					for (Link l : incoming.getLinks()) {
-						Object propVal = loadPropertyValue(prop.propertyType, l.getHref());
-						m.put(l.getRel(), propVal);
-					}
+					incoming.read(new LinkHandler() {
+
+						@Override
+						public void handle(List<Link> links) {
+
+							List<Object> values = loadPropertyValues(prop, links);
+
+							for (int i = 0; i < links.size(); i++) {
+								target.put(links.get(i).getRel(), values.get(i));
+							}
+						}
+					});
 
 					prop.wrapper.setProperty(prop.property, m);
 
@@ -346,12 +708,26 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 								"Cannot PATCH a reference to this singular property since the property type is not a List or a Map.");
 					}
 
-					if (incoming.getLinks().size() != 1) {
-						throw new IllegalArgumentException(
-								"Must send only 1 link to update a property reference that isn't a List or a Map.");
+					final List<Link> links = new ArrayList<Link>(1);
+
+					incoming.read(new LinkHandler() {
+
+						@Override
+						public void handle(List<Link> batch) {
+
+							if (links.size() + batch.size() > 1) {
+								throw new IllegalArgumentException(SINGLE_LINK_REQUIRED);
+							}
+
+							links.addAll(batch);
+						}
+					});
+
+					if (links.size() != 1) {
+						throw new IllegalArgumentException(SINGLE_LINK_REQUIRED);
 					}
 
-					Object propVal = loadPropertyValue(prop.propertyType, incoming.getLinks().get(0).getHref());
+					Object propVal = loadPropertyValue(prop.propertyType, links.get(0).getHref());
 					prop.wrapper.setProperty(prop.property, propVal);
 				}
 
@@ -428,11 +804,42 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	}
 
 	private Object loadPropertyValue(Class<?> type, String href) {
-
 		String id = href.substring(href.lastIndexOf('/') + 1);
 		return conversionService.convert(id, type);
 	}
 
+	/**
+	 * Loads the entities the given {@link Link}s point to with a single call to the repository managing the target type
+	 * of the given {@link ReferencedProperty}.
+	 * 
+	 * @param prop must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return the entities in the order of the given {@link Link}s.
+	 * @throws IllegalArgumentException in case any of the {@link Link}s can't be resolved.
+	 * @see EntityUriResolver#resolve(List, Class)
+	 */
+	private List<Object> loadPropertyValues(ReferencedProperty prop, List<Link> links) {
+
+		if (prop.entity == null) {
+
+			List<Object> result = new ArrayList<Object>(links.size());
+
+			for (Link link : links) {
+				result.add(loadPropertyValue(prop.propertyType, link.getHref()));
+			}
+
+			return result;
+		}
+
+		List<String> uris = new ArrayList<String>(links.size());
+
+		for (Link link : links) {
+			uris.add(link.getHref());
+		}
+
+		return resolver.resolve(uris, prop.entity.getType());
+	}
+
 	private ResourceSupport doWithReferencedProperty(RootResourceInformation repoRequest, String id, String propertyPath,
 			Function<ReferencedProperty, ResourceSupport> handler, HttpMethod method) throws Exception {
 
@@ -459,6 +866,22 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return handler.apply(new ReferencedProperty(prop, propVal, wrapper));
 	}
 
+	/**
+	 * Source of the {@link Link}s sent to update a property reference.
+	 * 
+	 * @author agent
+	 */
+	private interface IncomingLinks {
+
+		/**
+		 * Hands the incoming {@link Link}s to the given {@link LinkHandler} in one or more batches.
+		 * 
+		 * @param handler must not be {@literal null}.
+		 * @throws IOException
+		 */
+		void read(LinkHandler handler) throws IOException;
+	}
+
 	private class ReferencedProperty {
 
 		final PersistentEntity<?, ?> entity;
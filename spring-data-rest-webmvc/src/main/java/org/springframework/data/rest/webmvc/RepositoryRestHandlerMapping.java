@@ -17,8 +17,12 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.util.StringUtils.*;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
@@ -32,6 +36,7 @@ import org.springframework.http.MediaType;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.util.Assert;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
@@ -45,9 +50,15 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
  */
 public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 
+	static final int ACCEPT_CACHE_LIMIT = 256;
+
 	private final ResourceMappings mappings;
 	private final RepositoryRestConfiguration config;
 
+	private final ConcurrentMap<String, AcceptHeader> acceptCache;
+	private final AtomicLong acceptCacheHits = new AtomicLong();
+	private final AtomicLong acceptCacheMisses = new AtomicLong();
+
 	private JpaHelper jpaHelper;
 
 	/**
@@ -64,6 +75,7 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 
 		this.mappings = mappings;
 		this.config = config;
+		this.acceptCache = new ConcurrentHashMap<String, AcceptHeader>();
 
 		setOrder(Ordered.LOWEST_PRECEDENCE - 100);
 	}
@@ -75,6 +87,25 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 		this.jpaHelper = jpaHelper;
 	}
 
+	/**
+	 * Returns the number of requests whose {@code Accept} header could be served from the cache of already rewritten
+	 * headers.
+	 * 
+	 * @return
+	 */
+	public long getAcceptCacheHits() {
+		return acceptCacheHits.get();
+	}
+
+	/**
+	 * Returns the number of requests whose {@code Accept} header had to be parsed and rewritten.
+	 * 
+	 * @return
+	 */
+	public long getAcceptCacheMisses() {
+		return acceptCacheMisses.get();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.handler.AbstractHandlerMethodMapping#lookupHandlerMethod(java.lang.String, javax.servlet.http.HttpServletRequest)
@@ -82,34 +113,12 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 	@Override
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest origRequest) throws Exception {
 
-		String acceptType = origRequest.getHeader("Accept");
+		String originalAcceptType = origRequest.getHeader("Accept");
+		String acceptType = originalAcceptType == null ? config.getDefaultMediaType().toString()
+				: getAcceptType(originalAcceptType);
 
-		if (null == acceptType) {
-			acceptType = config.getDefaultMediaType().toString();
-		}
-
-		List<MediaType> acceptHeaderTypes = MediaType.parseMediaTypes(acceptType);
-		List<MediaType> acceptableTypes = new ArrayList<MediaType>();
-
-		for (MediaType mt : acceptHeaderTypes) {
-			if ("*".equals(mt.getType()) && "*".equals(mt.getSubtype()) || "application".equals(mt.getType())
-					&& "*".equals(mt.getSubtype())) {
-				mt = config.getDefaultMediaType();
-			}
-			if (!acceptableTypes.contains(mt)) {
-				acceptableTypes.add(mt);
-			}
-		}
-
-		if (acceptableTypes.size() > 1) {
-			acceptType = collectionToDelimitedString(acceptableTypes, ",");
-		} else if (acceptableTypes.size() == 1) {
-			acceptType = acceptableTypes.get(0).toString();
-		} else {
-			acceptType = config.getDefaultMediaType().toString();
-		}
-
-		HttpServletRequest request = new DefaultAcceptTypeHttpServletRequest(origRequest, acceptType);
+		HttpServletRequest request = acceptType.equals(originalAcceptType) ? origRequest
+				: new DefaultAcceptTypeHttpServletRequest(origRequest, acceptType);
 
 		String requestUri = lookupPath;
 		if (requestUri.startsWith("/")) {
@@ -134,6 +143,59 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 		return null;
 	}
 
+	/**
+	 * Returns the {@code Accept} header to use for the given raw one. Wildcard types get replaced by the configured
+	 * default media type and duplicates are removed. Results are cached for up to {@value #ACCEPT_CACHE_LIMIT} distinct
+	 * raw headers and invalidated if the default media type changes.
+	 * 
+	 * @param acceptType must not be {@literal null}.
+	 * @return
+	 */
+	private String getAcceptType(String acceptType) {
+
+		MediaType defaultMediaType = config.getDefaultMediaType();
+		AcceptHeader cached = acceptCache.get(acceptType);
+
+		if (cached != null && cached.defaultMediaType.equals(defaultMediaType)) {
+			acceptCacheHits.incrementAndGet();
+			return cached.value;
+		}
+
+		acceptCacheMisses.incrementAndGet();
+
+		String result = rewriteAcceptType(acceptType, defaultMediaType);
+
+		if (cached != null || acceptCache.size() < ACCEPT_CACHE_LIMIT) {
+			acceptCache.put(acceptType, new AcceptHeader(defaultMediaType, result));
+		}
+
+		return result;
+	}
+
+	private static String rewriteAcceptType(String acceptType, MediaType defaultMediaType) {
+
+		List<MediaType> acceptHeaderTypes = MediaType.parseMediaTypes(acceptType);
+		List<MediaType> acceptableTypes = new ArrayList<MediaType>();
+
+		for (MediaType mt : acceptHeaderTypes) {
+			if ("*".equals(mt.getType()) && "*".equals(mt.getSubtype()) || "application".equals(mt.getType())
+					&& "*".equals(mt.getSubtype())) {
+				mt = defaultMediaType;
+			}
+			if (!acceptableTypes.contains(mt)) {
+				acceptableTypes.add(mt);
+			}
+		}
+
+		if (acceptableTypes.size() > 1) {
+			return collectionToDelimitedString(acceptableTypes, ",");
+		} else if (acceptableTypes.size() == 1) {
+			return acceptableTypes.get(0).toString();
+		} else {
+			return defaultMediaType.toString();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping#isHandler(java.lang.Class)
@@ -143,6 +205,15 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 		return AnnotationUtils.findAnnotation(beanType, RepositoryRestController.class) != null;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping#getCustomMethodCondition(java.lang.reflect.Method)
+	 */
+	@Override
+	protected RequestCondition<?> getCustomMethodCondition(Method method) {
+		return AsyncRequestCondition.supports(method) ? new AsyncRequestCondition(method, config) : null;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.handler.AbstractHandlerMapping#extendInterceptors(java.util.List)
@@ -156,6 +227,22 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 		}
 	}
 
+	/**
+	 * A rewritten {@code Accept} header along with the default {@link MediaType} it was calculated for.
+	 * 
+	 * @author agent
+	 */
+	private static class AcceptHeader {
+
+		private final MediaType defaultMediaType;
+		private final String value;
+
+		public AcceptHeader(MediaType defaultMediaType, String value) {
+			this.defaultMediaType = defaultMediaType;
+			this.value = value;
+		}
+	}
+
 	private static class DefaultAcceptTypeHttpServletRequest extends HttpServletRequestWrapper {
 
 		private final String defaultAcceptType;
@@ -22,9 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.core.config.KeysetPagination;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.invoke.RepositoryInvoker;
 import org.springframework.data.rest.core.mapping.MethodResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
@@ -47,6 +52,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * Controller to lookup and execute searches on a given repository.
@@ -64,28 +71,40 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	private final EntityLinks entityLinks;
 	private final ResourceMappings mappings;
 	private final PagedResourcesAssembler<Object> assembler;
+	private final PersistentEntityResourceAssembler<Object> perAssembler;
+	private final RepositoryRestConfiguration config;
+	private final ConversionService conversionService;
 
 	/**
 	 * Creates a new {@link RepositorySearchController} using the given {@link PagedResourcesAssembler},
-	 * {@link PersistentEntityResourceAssembler}, {@link EntityLinks} and {@link ResourceMappings}.
+	 * {@link PersistentEntityResourceAssembler}, {@link EntityLinks}, {@link ResourceMappings},
+	 * {@link RepositoryRestConfiguration} and {@link ConversionService}.
 	 * 
 	 * @param assembler must not be {@literal null}.
 	 * @param perAssembler must not be {@literal null}.
 	 * @param entityLinks must not be {@literal null}.
 	 * @param mappings must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param conversionService must not be {@literal null}.
 	 */
 	@Autowired
 	public RepositorySearchController(PagedResourcesAssembler<Object> assembler,
-			PersistentEntityResourceAssembler<Object> perAssembler, EntityLinks entityLinks, ResourceMappings mappings) {
+			PersistentEntityResourceAssembler<Object> perAssembler, EntityLinks entityLinks, ResourceMappings mappings,
+			RepositoryRestConfiguration config, @Qualifier("defaultConversionService") ConversionService conversionService) {
 
 		super(assembler, perAssembler);
 
 		Assert.notNull(entityLinks, "EntityLinks must not be null!");
 		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		this.entityLinks = entityLinks;
 		this.mappings = mappings;
 		this.assembler = assembler;
+		this.perAssembler = perAssembler;
+		this.config = config;
+		this.conversionService = conversionService;
 	}
 
 	/**
@@ -132,11 +151,54 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 			@PathVariable String search, Pageable pageable) {
 
 		Method method = checkExecutability(resourceInformation, search);
+		KeysetPagination keysetPagination = config.getKeysetPaginationFor(resourceInformation.getDomainType());
+
+		if (keysetPagination != null) {
+
+			int pageSize = pageable == null ? config.getDefaultPageSize() : pageable.getPageSize();
+			KeysetPaginator paginator = new KeysetPaginator(keysetPagination, resourceInformation.getPersistentEntity(),
+					pageSize, conversionService);
+
+			if (paginator.supports(method, resourceInformation.getSearchMappings())) {
+
+				paginator.verify(pageable == null ? null : pageable.getSort());
+
+				Resources<?> resources = executeQueryMethod(resourceInformation.getInvoker(), request, method, paginator);
+				return new ResponseEntity<Resources<?>>(resources, HttpStatus.OK);
+			}
+		}
+
 		Resources<?> resources = executeQueryMethod(resourceInformation.getInvoker(), request, method, pageable);
 
 		return new ResponseEntity<Resources<?>>(resources, HttpStatus.OK);
 	}
 
+	/**
+	 * Asynchronous variant of {@link #executeSearch(RootResourceInformation, WebRequest, String, Pageable)} used in case
+	 * asynchronous execution is enabled.
+	 * 
+	 * @param resourceInformation
+	 * @param request
+	 * @param search
+	 * @param pageable
+	 * @return
+	 * @see RepositoryRestConfiguration#isAsyncEnabled()
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING + "/{search}", method = RequestMethod.GET)
+	public WebAsyncTask<ResponseEntity<Resources<?>>> executeSearchAsync(
+			final RootResourceInformation resourceInformation, final WebRequest request, @PathVariable final String search,
+			final Pageable pageable) {
+
+		return executeAsync(resourceInformation, new Callable<ResponseEntity<Resources<?>>>() {
+
+			@Override
+			public ResponseEntity<Resources<?>> call() throws Exception {
+				return executeSearch(resourceInformation, request, search, pageable);
+			}
+		});
+	}
+
 	/**
 	 * Executes a query method and exposes the results in compact form.
 	 * 
@@ -217,6 +279,25 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 		return resultToResources(result);
 	}
 
+	/**
+	 * Executes the given query method using keyset pagination.
+	 * 
+	 * @param invoker
+	 * @param request
+	 * @param method
+	 * @param paginator
+	 * @return
+	 */
+	private Resources<?> executeQueryMethod(RepositoryInvoker invoker, WebRequest request, Method method,
+			KeysetPaginator paginator) {
+
+		String cursor = request.getParameter(KeysetPaginator.CURSOR_PARAMETER);
+		Map<String, String[]> parameters = paginator.getParameters(request.getParameterMap(), cursor);
+		Object result = invoker.invokeQueryMethod(method, parameters, paginator.getPageable(), null);
+
+		return paginator.toResources(result, perAssembler, ServletUriComponentsBuilder.fromCurrentRequest());
+	}
+
 	/**
 	 * Returns {@link Links} to the individual searches exposed.
 	 * 
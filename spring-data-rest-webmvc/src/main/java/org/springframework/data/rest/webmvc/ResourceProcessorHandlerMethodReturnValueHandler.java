@@ -60,6 +60,8 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	private final HandlerMethodReturnValueHandler delegate;
 	private final List<ProcessorWrapper> processors;
 	private boolean rootLinksAsHeaders = false;
+	private AssociationEmbedder associationEmbedder;
+	private SparseFieldsetResolver fieldsetResolver;
 
 	/**
 	 * Creates a new {@link ResourceProcessorHandlerMethodReturnValueHandler} using the given delegate to eventually
@@ -105,6 +107,26 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		this.rootLinksAsHeaders = rootLinksAsHeaders;
 	}
 
+	/**
+	 * Configures the {@link AssociationEmbedder} to inline associations into the {@link PersistentEntityResource}s
+	 * returned before the {@link ResourceProcessor}s are invoked.
+	 * 
+	 * @param associationEmbedder can be {@literal null} to not embed any associations.
+	 */
+	public void setAssociationEmbedder(AssociationEmbedder associationEmbedder) {
+		this.associationEmbedder = associationEmbedder;
+	}
+
+	/**
+	 * Configures the {@link SparseFieldsetResolver} to limit the properties rendered for the
+	 * {@link PersistentEntityResource}s returned to the ones requested.
+	 * 
+	 * @param fieldsetResolver can be {@literal null} to always render all properties.
+	 */
+	public void setFieldsetResolver(SparseFieldsetResolver fieldsetResolver) {
+		this.fieldsetResolver = fieldsetResolver;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.method.support.HandlerMethodReturnValueHandler#supportsReturnType(org.springframework.core.MethodParameter)
@@ -134,6 +156,14 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 			return;
 		}
 
+		if (associationEmbedder != null) {
+			associationEmbedder.embedAssociations(value, webRequest);
+		}
+
+		if (fieldsetResolver != null) {
+			fieldsetResolver.limitFields(value, webRequest);
+		}
+
 		// We have a Resource or Resources - find suitable processors
 		TypeInformation<?> targetType = ClassTypeInformation.fromReturnTypeOf(returnType.getMethod());
 
@@ -148,8 +178,8 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 			targetType = returnValueTypeInformation;
 		}
 
-		// For Resources implementations, process elements first
-		if (RESOURCES_TYPE.isAssignableFrom(targetType)) {
+		// For Resources implementations, process elements first (unless they're streamed)
+		if (RESOURCES_TYPE.isAssignableFrom(targetType) && !(value instanceof StreamingResources)) {
 
 			Resources<?> resources = (Resources<?>) value;
 			TypeInformation<?> elementTargetType = targetType.getSuperTypeInformation(Resources.class).getComponentType();
@@ -45,6 +45,8 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 			ResourceProcessorInvokingHandlerAdapter.class, "getReturnValueHandlers");
 
 	private final List<ResourceProcessor<?>> resourcesProcessors;
+	private AssociationEmbedder associationEmbedder;
+	private SparseFieldsetResolver fieldsetResolver;
 
 	/**
 	 * Creates a new {@link ResourceProcessorInvokingHandlerAdapter} with the given {@link ResourceProcessor}s.
@@ -58,6 +60,26 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 		this.resourcesProcessors = resourcesProcessors;
 	}
 
+	/**
+	 * Configures the {@link AssociationEmbedder} to be used to inline associations into the resources returned from
+	 * handler methods.
+	 * 
+	 * @param associationEmbedder can be {@literal null}.
+	 */
+	public void setAssociationEmbedder(AssociationEmbedder associationEmbedder) {
+		this.associationEmbedder = associationEmbedder;
+	}
+
+	/**
+	 * Configures the {@link SparseFieldsetResolver} to be used to limit the properties rendered for the resources
+	 * returned from handler methods.
+	 * 
+	 * @param fieldsetResolver can be {@literal null}.
+	 */
+	public void setFieldsetResolver(SparseFieldsetResolver fieldsetResolver) {
+		this.fieldsetResolver = fieldsetResolver;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#afterPropertiesSet()
@@ -72,7 +94,12 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 
 		// Set up ResourceProcessingHandlerMethodResolver to delegate to originally configured ones
 		List<HandlerMethodReturnValueHandler> newHandlers = new ArrayList<HandlerMethodReturnValueHandler>();
-		newHandlers.add(new ResourceProcessorHandlerMethodReturnValueHandler(oldHandlers, resourcesProcessors));
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				oldHandlers, resourcesProcessors);
+		handler.setAssociationEmbedder(associationEmbedder);
+		handler.setFieldsetResolver(fieldsetResolver);
+
+		newHandlers.add(handler);
 
 		// Configure the new handler to be used
 		this.setReturnValueHandlers(newHandlers);
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Collection;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * {@link Resources} representing a {@link org.springframework.data.domain.Slice}. Other than {@link PagedResources}
+ * it doesn't expose the total number of elements and pages but only whether there's a next slice.
+ * 
+ * @author agent
+ */
+public class SlicedResources<T> extends Resources<T> {
+
+	private final SliceMetadata metadata;
+
+	/**
+	 * Creates a new {@link SlicedResources} from the given content, {@link SliceMetadata} and {@link Link}s.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param links
+	 */
+	public SlicedResources(Collection<T> content, SliceMetadata metadata, Iterable<Link> links) {
+
+		super(content, links);
+
+		Assert.notNull(metadata, "SliceMetadata must not be null!");
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Returns the slice metadata.
+	 * 
+	 * @return the metadata
+	 */
+	@JsonProperty("page")
+	public SliceMetadata getMetadata() {
+		return metadata;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("SlicedResources { content: %s, metadata: %s, links: %s }", getContent(), metadata,
+				getLinks());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (obj == null || !obj.getClass().equals(getClass())) {
+			return false;
+		}
+
+		SlicedResources<?> that = (SlicedResources<?>) obj;
+		return this.metadata.equals(that.metadata) && super.equals(obj);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return super.hashCode() + 31 * metadata.hashCode();
+	}
+
+	/**
+	 * Value object for slice metadata.
+	 * 
+	 * @author agent
+	 */
+	public static class SliceMetadata {
+
+		@JsonProperty private final long size;
+		@JsonProperty private final long number;
+		@JsonProperty private final boolean hasNext;
+
+		/**
+		 * Creates a new {@link SliceMetadata} from the given size, number and whether there's a next slice.
+		 * 
+		 * @param size must not be negative.
+		 * @param number must not be negative.
+		 * @param hasNext whether there's a slice following the current one.
+		 */
+		public SliceMetadata(long size, long number, boolean hasNext) {
+
+			Assert.isTrue(size > -1, "Size must not be negative!");
+			Assert.isTrue(number > -1, "Number must not be negative!");
+
+			this.size = size;
+			this.number = number;
+			this.hasNext = hasNext;
+		}
+
+		/**
+		 * Returns the requested size of the slice.
+		 * 
+		 * @return the size
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the number of the current slice.
+		 * 
+		 * @return the number
+		 */
+		public long getNumber() {
+			return number;
+		}
+
+		/**
+		 * Returns whether there's a slice following the current one.
+		 * 
+		 * @return
+		 */
+		public boolean hasNext() {
+			return hasNext;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("Metadata { number: %d, size %d, hasNext: %s }", number, size, hasNext);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof SliceMetadata)) {
+				return false;
+			}
+
+			SliceMetadata that = (SliceMetadata) obj;
+			return this.number == that.number && this.size == that.size && this.hasNext == that.hasNext;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = 17;
+			result += 31 * (int) (this.number ^ this.number >>> 32);
+			result += 31 * (int) (this.size ^ this.size >>> 32);
+			result += 31 * (hasNext ? 1 : 0);
+			return result;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.rest.webmvc.SlicedResources.SliceMetadata;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Assembler to turn a {@link Slice} into {@link SlicedResources}. Mimics
+ * {@link org.springframework.data.web.PagedResourcesAssembler} but only exposes links to the previous and next slice as
+ * the total number of elements is unknown.
+ * 
+ * @author agent
+ */
+public class SlicedResourcesAssembler<T> {
+
+	private final HateoasPageableHandlerMethodArgumentResolver pageableResolver;
+
+	/**
+	 * Creates a new {@link SlicedResourcesAssembler} using the given {@link HateoasPageableHandlerMethodArgumentResolver}
+	 * to render the pagination parameters of the links.
+	 * 
+	 * @param pageableResolver must not be {@literal null}.
+	 */
+	public SlicedResourcesAssembler(HateoasPageableHandlerMethodArgumentResolver pageableResolver) {
+
+		Assert.notNull(pageableResolver, "HateoasPageableHandlerMethodArgumentResolver must not be null!");
+		this.pageableResolver = pageableResolver;
+	}
+
+	/**
+	 * Creates a new {@link SlicedResources} by converting the given {@link Slice} into {@link SliceMetadata} and using
+	 * the given {@link ResourceAssembler} to turn the individual elements into resources. Links are based on the
+	 * current request.
+	 * 
+	 * @param slice must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return
+	 */
+	public <R extends ResourceSupport> SlicedResources<R> toResource(Slice<T> slice, ResourceAssembler<T, R> assembler) {
+		return toResource(slice, assembler, ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString());
+	}
+
+	/**
+	 * Creates a new {@link SlicedResources} by converting the given {@link Slice} into {@link SliceMetadata} and using
+	 * the given {@link ResourceAssembler} to turn the individual elements into resources. Links are based on the given
+	 * base URI.
+	 * 
+	 * @param slice must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 * @return
+	 */
+	public <R extends ResourceSupport> SlicedResources<R> toResource(Slice<T> slice, ResourceAssembler<T, R> assembler,
+			String baseUri) {
+
+		Assert.notNull(slice, "Slice must not be null!");
+		Assert.notNull(assembler, "ResourceAssembler must not be null!");
+		Assert.notNull(baseUri, "Base URI must not be null!");
+
+		List<R> resources = new ArrayList<R>(slice.getNumberOfElements());
+
+		for (T element : slice) {
+			resources.add(element == null ? null : assembler.toResource(element));
+		}
+
+		List<Link> links = new ArrayList<Link>();
+
+		if (slice.hasPrevious()) {
+			links.add(createLink(baseUri, slice.previousPageable(), Link.REL_PREVIOUS));
+		}
+
+		if (slice.hasNext()) {
+			links.add(createLink(baseUri, slice.nextPageable(), Link.REL_NEXT));
+		}
+
+		SliceMetadata metadata = new SliceMetadata(slice.getSize(), slice.getNumber(), slice.hasNext());
+
+		return new SlicedResources<R>(resources, metadata, links);
+	}
+
+	private Link createLink(String baseUri, Pageable pageable, String rel) {
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUri);
+		pageableResolver.enhance(builder, null, pageable);
+
+		return new Link(builder.build().toUriString(), rel);
+	}
+}
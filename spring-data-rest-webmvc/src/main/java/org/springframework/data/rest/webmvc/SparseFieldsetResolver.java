@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Limits the properties rendered for {@link PersistentEntityResource}s to the ones selected by the
+ * {@value #FIELDS_PARAMETER} request parameter. The parameter takes a comma separated list of property names or names
+ * of presets registered via {@link RepositoryRestConfiguration#exposeFieldsPresetFor(Class, String, String...)}.
+ * Unknown names and parameters not selecting any property are rejected with an {@link IllegalArgumentException}.
+ * 
+ * @author agent
+ */
+public class SparseFieldsetResolver {
+
+	public static final String FIELDS_PARAMETER = "fields";
+
+	private final RepositoryRestConfiguration config;
+
+	/**
+	 * Creates a new {@link SparseFieldsetResolver} using the given {@link RepositoryRestConfiguration} to look up
+	 * presets.
+	 * 
+	 * @param config must not be {@literal null}.
+	 */
+	public SparseFieldsetResolver(RepositoryRestConfiguration config) {
+
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+		this.config = config;
+	}
+
+	/**
+	 * Limits the properties of the given value to the ones selected by the given {@link WebRequest} if it is a
+	 * {@link PersistentEntityResource} or {@link Resources} of those. Other values are ignored, as are
+	 * {@link StreamingResources} which have to be limited when created.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @throws IllegalArgumentException in case the request selects unknown fields or no fields at all.
+	 */
+	public void limitFields(Object value, WebRequest request) {
+
+		Assert.notNull(request, "WebRequest must not be null!");
+
+		String[] values = request.getParameterValues(FIELDS_PARAMETER);
+
+		if (values == null) {
+			return;
+		}
+
+		if (value instanceof PersistentEntityResource) {
+			limitFields((PersistentEntityResource<?>) value, values);
+		} else if (value instanceof Resources && !(value instanceof StreamingResources)) {
+			for (Object element : (Resources<?>) value) {
+				if (element instanceof PersistentEntityResource) {
+					limitFields((PersistentEntityResource<?>) element, values);
+				}
+			}
+		}
+	}
+
+	private void limitFields(PersistentEntityResource<?> resource, String[] values) {
+		resource.limitTo(resolveFields(resource.getPersistentEntity(), values));
+	}
+
+	/**
+	 * Resolves the given values of the {@value #FIELDS_PARAMETER} request parameter into the names of the properties to
+	 * render for the given {@link PersistentEntity}. Preset names are expanded into the properties registered for them.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return will never be {@literal null} or empty.
+	 * @throws IllegalArgumentException in case any of the names is neither a property of the given entity nor a preset
+	 *           registered for it or no property is selected at all.
+	 */
+	public Set<String> resolveFields(PersistentEntity<?, ?> entity, String... values) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(values, "Values must not be null!");
+
+		Class<?> domainType = entity.getType();
+		Set<String> result = new LinkedHashSet<String>();
+		List<String> unknown = new ArrayList<String>();
+
+		for (String value : values) {
+			for (String field : StringUtils.commaDelimitedListToStringArray(value)) {
+
+				if (!StringUtils.hasText(field)) {
+					continue;
+				}
+
+				String trimmed = field.trim();
+				List<String> preset = config.getFieldsPresetFor(domainType, trimmed);
+
+				if (preset != null) {
+					result.addAll(preset);
+				} else if (entity.getPersistentProperty(trimmed) != null) {
+					result.add(trimmed);
+				} else {
+					unknown.add(trimmed);
+				}
+			}
+		}
+
+		if (!unknown.isEmpty()) {
+			throw new IllegalArgumentException(String.format("Unknown fields %s for %s!", unknown, domainType.getName()));
+		}
+
+		if (result.isEmpty()) {
+			throw new IllegalArgumentException(String.format("No fields selected for %s!", domainType.getName()));
+		}
+
+		return result;
+	}
+}
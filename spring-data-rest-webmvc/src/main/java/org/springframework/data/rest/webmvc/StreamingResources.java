@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * {@link Resources} implementation that doesn't hold the item resources itself but assembles them lazily from the
+ * underlying repository result while being iterated over. This allows message converters to write one item resource
+ * after another without holding all of them in memory.
+ * <p>
+ * Calling {@link #getContent()} falls back to assembling all item resources to stay compatible with converters not
+ * aware of the streaming nature of this type.
+ * 
+ * @author agent
+ */
+public class StreamingResources extends Resources<PersistentEntityResource<Object>> {
+
+	private final Class<?> domainType;
+	private final Iterable<Object> source;
+	private final ResourceAssembler<Object, PersistentEntityResource<Object>> assembler;
+
+	private Set<String> fields;
+
+	/**
+	 * Creates a new {@link StreamingResources} for the given domain type, source {@link Iterable},
+	 * {@link ResourceAssembler} and {@link Link}s.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param source must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 */
+	public StreamingResources(Class<?> domainType, Iterable<Object> source,
+			ResourceAssembler<Object, PersistentEntityResource<Object>> assembler, Iterable<Link> links) {
+
+		super(Collections.<PersistentEntityResource<Object>> emptyList(), links);
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(assembler, "ResourceAssembler must not be null!");
+
+		this.domainType = domainType;
+		this.source = source;
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Returns the domain type of the item resources.
+	 * 
+	 * @return the domainType
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Limits the properties rendered for every item resource to the ones with the given names.
+	 * 
+	 * @param fields must not be {@literal null}.
+	 * @see PersistentEntityResource#limitTo(Collection)
+	 */
+	public void limitTo(Collection<String> fields) {
+
+		Assert.notNull(fields, "Fields must not be null!");
+		this.fields = Collections.unmodifiableSet(new HashSet<String>(fields));
+	}
+
+	/**
+	 * Returns the names of the properties rendered for every item resource.
+	 * 
+	 * @return the property names or {@literal null} if all properties are to be rendered.
+	 */
+	@JsonIgnore
+	public Set<String> getFields() {
+		return fields;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#iterator()
+	 */
+	@Override
+	public Iterator<PersistentEntityResource<Object>> iterator() {
+
+		final Iterator<Object> iterator = source.iterator();
+
+		return new Iterator<PersistentEntityResource<Object>>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public PersistentEntityResource<Object> next() {
+
+				Object element = iterator.next();
+
+				if (element == null) {
+					return null;
+				}
+
+				PersistentEntityResource<Object> resource = assembler.toResource(element);
+
+				if (fields != null) {
+					resource.limitTo(fields);
+				}
+
+				return resource;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#getContent()
+	 */
+	@Override
+	public Collection<PersistentEntityResource<Object>> getContent() {
+
+		List<PersistentEntityResource<Object>> result = new ArrayList<PersistentEntityResource<Object>>();
+
+		for (PersistentEntityResource<Object> resource : this) {
+			result.add(resource);
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+}
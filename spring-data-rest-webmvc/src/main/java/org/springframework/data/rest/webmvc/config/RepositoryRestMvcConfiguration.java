@@ -34,8 +34,10 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.core.convert.support.ConfigurableConversionService;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.EntityUriResolver;
 import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AnnotatedHandlerBeanPostProcessor;
@@ -46,7 +48,9 @@ import org.springframework.data.rest.core.mapping.ResourceDescription;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
 import org.springframework.data.rest.core.util.UUIDConverter;
+import org.springframework.data.rest.webmvc.AssociationEmbedder;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.PersistentEntityBatchHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.RepositoryRestController;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
@@ -54,6 +58,9 @@ import org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping;
 import org.springframework.data.rest.webmvc.ResourceMetadataHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.RootResourceInformationHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.ServerHttpRequestMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.SlicedResourcesAssembler;
+import org.springframework.data.rest.webmvc.SparseFieldsetResolver;
+import org.springframework.data.rest.webmvc.convert.StreamingResourcesHttpMessageConverter;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
 import org.springframework.data.rest.webmvc.json.Jackson2DatatypeHelper;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module;
@@ -61,6 +68,7 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaCon
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositoryExecutors;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
 import org.springframework.data.web.config.HateoasAwareSpringDataWebConfiguration;
 import org.springframework.format.support.DefaultFormattingConversionService;
@@ -267,6 +275,17 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new PersistentEntityResourceHandlerMethodArgumentResolver(messageConverters, repoRequestArgumentResolver());
 	}
 
+	/**
+	 * Reads incoming JSON arrays or streams of JSON documents into a batch of entities and JSON objects of partial
+	 * documents keyed by identifier into updates for multiple entities.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public PersistentEntityBatchHandlerMethodArgumentResolver persistentEntityBatchArgumentResolver() {
+		return new PersistentEntityBatchHandlerMethodArgumentResolver(objectMapper(), repoRequestArgumentResolver());
+	}
+
 	/**
 	 * Turns a domain class into a {@link org.springframework.data.rest.webmvc.json.JsonSchema}.
 	 * 
@@ -372,6 +391,34 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new UriListHttpMessageConverter();
 	}
 
+	/**
+	 * The {@link HttpMessageConverter} used to stream unpaged collection resources as HAL.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public StreamingResourcesHttpMessageConverter streamingResourcesHttpMessageConverter() {
+
+		List<MediaType> mediaTypes = new ArrayList<MediaType>();
+		mediaTypes.add(MediaTypes.HAL_JSON);
+
+		if (config().getDefaultMediaType().equals(MediaTypes.HAL_JSON)) {
+			mediaTypes.add(MediaType.APPLICATION_JSON);
+		}
+
+		return new StreamingResourcesHttpMessageConverter(halObjectMapper(), getDefaultedRelProvider(), mediaTypes);
+	}
+
+	/**
+	 * The {@link SlicedResourcesAssembler} to render {@link org.springframework.data.domain.Slice}s.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public SlicedResourcesAssembler<Object> slicedResourcesAssembler() {
+		return new SlicedResourcesAssembler<Object>(pageableResolver());
+	}
+
 	@Bean
 	public PersistentEntityResourceAssembler<Object> persistentEntityResourceAssembler() {
 		return new PersistentEntityResourceAssembler<Object>(repositories(), entityLinks());
@@ -393,6 +440,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		RepositoryRestHandlerAdapter handlerAdapter = new RepositoryRestHandlerAdapter(defaultMethodArgumentResolvers(),
 				resourceProcessors);
 		handlerAdapter.setMessageConverters(messageConverters);
+		handlerAdapter.setAssociationEmbedder(associationEmbedder());
+		handlerAdapter.setFieldsetResolver(sparseFieldsetResolver());
 
 		return handlerAdapter;
 	}
@@ -428,7 +477,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public Module persistentEntityJackson2Module() {
-		return new PersistentEntityJackson2Module(resourceMappings(), repositories(), config(), uriToEntityConverter());
+		return new PersistentEntityJackson2Module(resourceMappings(), repositories(), config(), uriToEntityConverter(),
+				entityUriResolver());
 	}
 
 	/**
@@ -455,10 +505,33 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new DefaultRepositoryInvokerFactory(repositories(), defaultConversionService());
 	}
 
+	@Bean
+	public EntityUriResolver entityUriResolver() {
+		return new EntityUriResolver(repositories(), resourceMappings(), repositoryInvokerFactory(),
+				defaultConversionService());
+	}
+
+	@Bean
+	public AssociationEmbedder associationEmbedder() {
+		return new AssociationEmbedder(repositories(), resourceMappings(), config(), repositoryInvokerFactory(),
+				entityUriResolver(), entityLinks());
+	}
+
+	@Bean
+	public SparseFieldsetResolver sparseFieldsetResolver() {
+		return new SparseFieldsetResolver(config());
+	}
+
+	@Bean
+	public RepositoryExecutors repositoryExecutors() {
+		return new RepositoryExecutors(config(), asyncRepositoryTaskExecutor());
+	}
+
 	@Bean
 	public List<HttpMessageConverter<?>> defaultMessageConverters() {
 
 		List<HttpMessageConverter<?>> messageConverters = new ArrayList<HttpMessageConverter<?>>();
+		messageConverters.add(streamingResourcesHttpMessageConverter());
 
 		if (config().getDefaultMediaType().equals(MediaTypes.HAL_JSON)) {
 			messageConverters.add(halJacksonHttpMessageConverter());
@@ -474,7 +547,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	private List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
 		return Arrays.asList(pageableResolver(), sortResolver(), serverHttpRequestMethodArgumentResolver(),
-				repoRequestArgumentResolver(), persistentEntityArgumentResolver(),
+				repoRequestArgumentResolver(), persistentEntityArgumentResolver(), persistentEntityBatchArgumentResolver(),
 				resourceMetadataHandlerMethodArgumentResolver(), HttpMethodHandlerMethodArgumentResolver.INSTANCE);
 	}
 
@@ -503,6 +576,20 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	protected void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {}
 
+	/**
+	 * Override this method to provide a single {@link AsyncTaskExecutor} to run all asynchronous repository calls on
+	 * instead of the bounded executors kept per repository. Takes precedence over virtual threads and is also used to
+	 * publish {@code After*} events asynchronously if enabled. The executor is not shut down by the exporter.
+	 * 
+	 * @return the {@link AsyncTaskExecutor} to use or {@literal null} to use the per repository executors.
+	 * @see RepositoryRestConfiguration#setAsyncEnabled(boolean)
+	 * @see RepositoryRestConfiguration#setAsyncVirtualThreadsEnabled(boolean)
+	 * @see RepositoryRestConfiguration#setAsyncAfterEventsEnabled(boolean)
+	 */
+	protected AsyncTaskExecutor asyncRepositoryTaskExecutor() {
+		return null;
+	}
+
 	/**
 	 * Override this method to add your own converters.
 	 * 
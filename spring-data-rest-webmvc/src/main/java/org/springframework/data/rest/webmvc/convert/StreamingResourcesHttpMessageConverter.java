@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.StreamingResources;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link org.springframework.http.converter.HttpMessageConverter} to render {@link StreamingResources} as HAL. Writes
+ * the collection envelope manually and serializes and flushes every item resource as soon as it was assembled, so that
+ * the memory consumption doesn't depend on the size of the collection. Links and the relation type of the embedded
+ * items are rendered using the same HAL setup as for regular resources.
+ * 
+ * @author agent
+ */
+public class StreamingResourcesHttpMessageConverter extends AbstractHttpMessageConverter<StreamingResources> {
+
+	private final ObjectMapper mapper;
+	private final RelProvider relProvider;
+
+	/**
+	 * Creates a new {@link StreamingResourcesHttpMessageConverter} using the given HAL enabled {@link ObjectMapper},
+	 * {@link RelProvider} and supported {@link MediaType}s.
+	 * 
+	 * @param mapper must not be {@literal null}.
+	 * @param relProvider must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null}.
+	 */
+	public StreamingResourcesHttpMessageConverter(ObjectMapper mapper, RelProvider relProvider,
+			List<MediaType> mediaTypes) {
+
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+		Assert.notNull(relProvider, "RelProvider must not be null!");
+		Assert.notNull(mediaTypes, "MediaTypes must not be null!");
+
+		this.mapper = mapper;
+		this.relProvider = relProvider;
+
+		setSupportedMediaTypes(mediaTypes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractHttpMessageConverter#supports(java.lang.Class)
+	 */
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return StreamingResources.class.isAssignableFrom(clazz);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractHttpMessageConverter#canRead(java.lang.Class, org.springframework.http.MediaType)
+	 */
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractHttpMessageConverter#readInternal(java.lang.Class, org.springframework.http.HttpInputMessage)
+	 */
+	@Override
+	protected StreamingResources readInternal(Class<? extends StreamingResources> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		throw new HttpMessageNotReadableException(String.format("Cannot read %s!", clazz.getName()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.AbstractHttpMessageConverter#writeInternal(java.lang.Object, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(StreamingResources resources, HttpOutputMessage outputMessage) throws IOException,
+			HttpMessageNotWritableException {
+
+		JsonGenerator generator = mapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8);
+
+		generator.writeStartObject();
+
+		writeLinks(resources.getLinks(), generator);
+
+		Iterator<PersistentEntityResource<Object>> iterator = resources.iterator();
+
+		if (iterator.hasNext()) {
+
+			generator.writeObjectFieldStart("_embedded");
+			generator.writeArrayFieldStart(relProvider.getCollectionResourceRelFor(resources.getDomainType()));
+
+			while (iterator.hasNext()) {
+
+				mapper.writeValue(generator, iterator.next());
+				generator.flush();
+			}
+
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+
+		generator.writeEndObject();
+		generator.flush();
+	}
+
+	/**
+	 * Writes the given {@link Link}s as the HAL enabled {@link ObjectMapper} renders them for any
+	 * {@link ResourceSupport}, so that the configured {@link org.springframework.hateoas.hal.CurieProvider} is applied.
+	 * 
+	 * @param links must not be {@literal null}.
+	 * @param generator must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private void writeLinks(List<Link> links, JsonGenerator generator) throws IOException {
+
+		ResourceSupport envelope = new ResourceSupport();
+		envelope.add(links);
+
+		Iterator<Entry<String, JsonNode>> fields = mapper.valueToTree(envelope).fields();
+
+		while (fields.hasNext()) {
+
+			Entry<String, JsonNode> field = fields.next();
+
+			generator.writeFieldName(field.getKey());
+			mapper.writeTree(generator, field.getValue());
+		}
+	}
+}
@@ -15,29 +15,48 @@
  */
 package org.springframework.data.rest.webmvc.convert;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Set;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * {@link Converter} to render all {@link Link}s contained in a {@link ResourceSupport} as {@code text/uri-list} and
- * parse a request of that media type back into a {@link ResourceSupport} instance.
+ * parse a request of that media type back into a {@link ResourceSupport} instance. Bodies can also be consumed in
+ * batches of {@link Link}s while they're parsed (see {@link #read(HttpInputMessage, int, LinkHandler)}). For ASCII
+ * compatible charsets like UTF-8, lines are split on the raw bytes and only the URIs themselves are decoded and
+ * written as encoded bytes directly. Other charsets are decoded and encoded as a whole. Blank lines and comments are
+ * skipped. Both directions default to UTF-8 if no charset is given in the content type.
  * 
  * @author Jon Brisbin
  * @author Greg Turnquist
@@ -45,10 +64,18 @@ import org.springframework.util.StringUtils;
  */
 public class UriListHttpMessageConverter implements HttpMessageConverter<ResourceSupport> {
 
+	private static final MediaType URI_LIST = MediaType.parseMediaType("text/uri-list");
 	private static final List<MediaType> MEDIA_TYPES = new ArrayList<MediaType>();
+	private static final Charset DEFAULT_CHARSET = Charset.forName("UTF-8");
+	private static final String LINE_SEPARATOR = "\r\n";
+	private static final byte[] LINE_SEPARATOR_BYTES = { '\r', '\n' };
+	private static final Set<String> ASCII_COMPATIBLE_CHARSETS = new HashSet<String>(Arrays.asList("UTF-8", "US-ASCII",
+			"ISO-8859-1"));
+	private static final int BUFFER_SIZE = 8192;
+	private static final int DEFAULT_BATCH_SIZE = 1000;
 
 	static {
-		MEDIA_TYPES.add(MediaType.parseMediaType("text/uri-list"));
+		MEDIA_TYPES.add(URI_LIST);
 	}
 
 	/*
@@ -89,25 +116,148 @@ public class UriListHttpMessageConverter implements HttpMessageConverter<Resourc
 	public ResourceSupport read(Class<? extends ResourceSupport> clazz, HttpInputMessage inputMessage)
 			throws IOException, HttpMessageNotReadableException {
 
-		List<Link> links = new ArrayList<Link>();
+		final List<Link> links = new ArrayList<Link>();
 
-		Scanner scanner = new Scanner(inputMessage.getBody());
+		read(inputMessage, DEFAULT_BATCH_SIZE, new LinkHandler() {
+
+			@Override
+			public void handle(List<Link> batch) {
+				links.addAll(batch);
+			}
+		});
+
+		return new Resources<Object>(Collections.emptyList(), links);
+	}
+
+	/**
+	 * Reads the {@code text/uri-list} body of the given {@link HttpInputMessage} and hands the {@link Link}s contained
+	 * to the given {@link LinkHandler} in batches of the given size as soon as they were parsed. Only the current batch
+	 * is kept in memory.
+	 * 
+	 * @param inputMessage must not be {@literal null}.
+	 * @param batchSize the maximum number of {@link Link}s per batch, must be greater than 0.
+	 * @param handler must not be {@literal null}.
+	 * @throws IOException
+	 * @throws HttpMessageNotReadableException in case the body can't be decoded using the charset of the content type.
+	 */
+	public void read(HttpInputMessage inputMessage, int batchSize, LinkHandler handler) throws IOException,
+			HttpMessageNotReadableException {
+
+		Assert.notNull(inputMessage, "Input message must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		Assert.notNull(handler, "LinkHandler must not be null!");
+
+		Charset charset = getCharset(inputMessage.getHeaders().getContentType());
+		CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPORT)
+				.onUnmappableCharacter(CodingErrorAction.REPORT);
+		LinkBatch batch = new LinkBatch(batchSize, handler);
 
 		try {
 
-			while (scanner.hasNextLine()) {
+			if (isAsciiCompatible(charset)) {
+				readBytes(inputMessage.getBody(), decoder, batch);
+			} else {
+				readLines(new BufferedReader(new InputStreamReader(inputMessage.getBody(), decoder), BUFFER_SIZE), batch);
+			}
+
+		} catch (CharacterCodingException o_O) {
+			throw new HttpMessageNotReadableException("Could not decode text/uri-list body!", o_O);
+		}
+
+		batch.flush();
+	}
+
+	/**
+	 * Splits the given {@link InputStream} into lines on the raw bytes and decodes the URIs contained with the given
+	 * {@link CharsetDecoder}. Only valid for charsets in which line breaks can't be part of a multi-byte sequence.
+	 * 
+	 * @param body must not be {@literal null}.
+	 * @param decoder must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void readBytes(InputStream body, CharsetDecoder decoder, LinkBatch batch) throws IOException {
+
+		byte[] buffer = new byte[BUFFER_SIZE];
+		byte[] line = new byte[256];
+		int lineLength = 0;
+		int read;
+
+		while ((read = body.read(buffer)) != -1) {
+
+			for (int i = 0; i < read; i++) {
+
+				byte current = buffer[i];
 
-				String line = scanner.nextLine();
-				if (StringUtils.hasText(line)) {
-					links.add(new Link(line));
+				if (current == '\n' || current == '\r') {
+					addLine(line, lineLength, decoder, batch);
+					lineLength = 0;
+					continue;
 				}
+
+				if (lineLength == line.length) {
+					line = Arrays.copyOf(line, line.length * 2);
+				}
+
+				line[lineLength++] = current;
 			}
+		}
+
+		addLine(line, lineLength, decoder, batch);
+	}
+
+	/**
+	 * Adds a {@link Link} for the given raw line to the given {@link LinkBatch} unless it's blank or a comment.
+	 * 
+	 * @param line the raw bytes of the line.
+	 * @param length the number of bytes to consider.
+	 * @param decoder the {@link CharsetDecoder} to decode the line with.
+	 * @param batch the {@link LinkBatch} to add the {@link Link} to.
+	 * @throws IOException
+	 */
+	private static void addLine(byte[] line, int length, CharsetDecoder decoder, LinkBatch batch) throws IOException {
 
-		} finally {
-			scanner.close();
+		int start = 0;
+		int end = length;
+
+		while (start < end && isWhitespace(line[start])) {
+			start++;
 		}
 
-		return new Resources<Object>(Collections.emptyList(), links);
+		while (end > start && isWhitespace(line[end - 1])) {
+			end--;
+		}
+
+		if (start == end || line[start] == '#') {
+			return;
+		}
+
+		batch.add(decoder.decode(ByteBuffer.wrap(line, start, end - start)).toString());
+	}
+
+	private static boolean isWhitespace(byte candidate) {
+		return candidate == ' ' || candidate == '\t';
+	}
+
+	/**
+	 * Reads the lines of the given decoding {@link BufferedReader} into the given {@link LinkBatch}.
+	 * 
+	 * @param reader must not be {@literal null}.
+	 * @param batch must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void readLines(BufferedReader reader, LinkBatch batch) throws IOException {
+
+		String line;
+
+		while ((line = reader.readLine()) != null) {
+
+			String trimmed = line.trim();
+
+			if (StringUtils.hasText(trimmed) && !trimmed.startsWith("#")) {
+				batch.add(trimmed);
+			}
+		}
 	}
 
 	/*
@@ -118,13 +268,95 @@ public class UriListHttpMessageConverter implements HttpMessageConverter<Resourc
 	public void write(ResourceSupport resource, MediaType contentType, HttpOutputMessage outputMessage)
 			throws IOException, HttpMessageNotWritableException {
 
-		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody()));
+		Charset charset = getCharset(contentType);
+		HttpHeaders headers = outputMessage.getHeaders();
+
+		if (headers.getContentType() == null) {
+			headers.setContentType(new MediaType(URI_LIST, charset));
+		}
+
+		if (isAsciiCompatible(charset)) {
+
+			OutputStream stream = new BufferedOutputStream(outputMessage.getBody(), BUFFER_SIZE);
+
+			for (Link link : resource.getLinks()) {
+				stream.write(link.getHref().getBytes(charset));
+				stream.write(LINE_SEPARATOR_BYTES);
+			}
+
+			stream.flush();
+			return;
+		}
+
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), charset), BUFFER_SIZE);
 
 		for (Link link : resource.getLinks()) {
 			writer.write(link.getHref());
-			writer.newLine();
+			writer.write(LINE_SEPARATOR);
 		}
 
 		writer.flush();
 	}
+
+	private static Charset getCharset(MediaType contentType) {
+		return contentType == null || contentType.getCharSet() == null ? DEFAULT_CHARSET : contentType.getCharSet();
+	}
+
+	private static boolean isAsciiCompatible(Charset charset) {
+		return ASCII_COMPATIBLE_CHARSETS.contains(charset.name());
+	}
+
+	/**
+	 * Callback to process {@link Link}s read from a {@code text/uri-list} body in batches.
+	 * 
+	 * @author agent
+	 */
+	public interface LinkHandler {
+
+		/**
+		 * Processes the given batch of {@link Link}s.
+		 * 
+		 * @param links will never be {@literal null} or empty.
+		 * @throws IOException
+		 */
+		void handle(List<Link> links) throws IOException;
+	}
+
+	/**
+	 * Collects {@link Link}s and hands them to a {@link LinkHandler} once the configured batch size is reached.
+	 * 
+	 * @author agent
+	 */
+	private static class LinkBatch {
+
+		private final int size;
+		private final LinkHandler handler;
+		private List<Link> links;
+
+		public LinkBatch(int size, LinkHandler handler) {
+
+			this.size = size;
+			this.handler = handler;
+			this.links = new ArrayList<Link>(Math.min(size, DEFAULT_BATCH_SIZE));
+		}
+
+		public void add(String uri) throws IOException {
+
+			links.add(new Link(uri));
+
+			if (links.size() == size) {
+				flush();
+			}
+		}
+
+		public void flush() throws IOException {
+
+			if (links.isEmpty()) {
+				return;
+			}
+
+			handler.handle(links);
+			this.links = new ArrayList<Link>(Math.min(size, DEFAULT_BATCH_SIZE));
+		}
+	}
 }
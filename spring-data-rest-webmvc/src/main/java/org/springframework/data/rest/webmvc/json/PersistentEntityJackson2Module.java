@@ -16,10 +16,20 @@
 package org.springframework.data.rest.webmvc.json;
 
 import java.io.IOException;
+import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +41,7 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.SimpleAssociationHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.EntityUriResolver;
 import org.springframework.data.rest.core.UriToEntityConverter;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
@@ -42,15 +53,22 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonGenerationException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -59,13 +77,16 @@ import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
 import com.fasterxml.jackson.databind.deser.ValueInstantiator;
 import com.fasterxml.jackson.databind.deser.std.CollectionDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerBuilder;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.CollectionLikeType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Jackson 2 module to serialize and deserialize {@link PersistentEntityResource}s.
@@ -91,6 +112,23 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	 */
 	public PersistentEntityJackson2Module(ResourceMappings mappings, Repositories repositories,
 			RepositoryRestConfiguration config, UriToEntityConverter converter) {
+		this(mappings, repositories, config, converter, null);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityJackson2Module} using the given {@link ResourceMappings}, {@link Repositories}
+	 * , {@link RepositoryRestConfiguration}, {@link UriToEntityConverter} and {@link EntityUriResolver}. If an
+	 * {@link EntityUriResolver} is given, the URIs submitted for a collection association are resolved with a single
+	 * repository call instead of one per URI.
+	 * 
+	 * @param mappings must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param resolver can be {@literal null}.
+	 */
+	public PersistentEntityJackson2Module(ResourceMappings mappings, Repositories repositories,
+			RepositoryRestConfiguration config, UriToEntityConverter converter, EntityUriResolver resolver) {
 
 		super(new Version(2, 0, 0, null, "org.springframework.data.rest", "jackson-module"));
 
@@ -99,9 +137,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
 		Assert.notNull(converter, "UriToEntityConverter must not be null!");
 
-		addSerializer(new PersistentEntityResourceSerializer(mappings, config));
+		addSerializer(new PersistentEntityResourceSerializer(repositories, mappings, config));
 		setSerializerModifier(new AssociationOmittingSerializerModifier(repositories, mappings, config));
-		setDeserializerModifier(new AssociationUriResolvingDeserializerModifier(repositories, converter, mappings));
+		setDeserializerModifier(new AssociationUriResolvingDeserializerModifier(repositories, converter, mappings,
+				resolver));
 	}
 
 	public static boolean maybeAddAssociationLink(RepositoryLinkBuilder builder, ResourceMappings mappings,
@@ -129,6 +168,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	/**
 	 * Custom {@link JsonSerializer} for {@link PersistentEntityResource}s to turn associations into {@link Link}s.
 	 * Delegates to standard {@link Resource} serialization afterwards.
+	 * <p>
+	 * The association links to render for each {@link PersistentEntity} are resolved into
+	 * {@link AssociationLinkTemplate}s once on construction so that serializing an entity only requires concatenating
+	 * the item resource URI with the pre-calculated association paths.
 	 * 
 	 * @author Oliver Gierke
 	 */
@@ -136,24 +179,41 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 		private final ResourceMappings mappings;
 		private final RepositoryRestConfiguration configuration;
+		private final Map<Class<?>, List<AssociationLinkTemplate>> templates;
 
 		/**
-		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link ResourceMappings} and
-		 * {@link RepositoryRestConfiguration}.
+		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link Repositories},
+		 * {@link ResourceMappings} and {@link RepositoryRestConfiguration}.
 		 * 
+		 * @param repositories must not be {@literal null}.
 		 * @param mappings must not be {@literal null}.
 		 * @param configuration must not be {@literal null}.
 		 */
 		@SuppressWarnings({ "unchecked", "rawtypes" })
-		private PersistentEntityResourceSerializer(ResourceMappings mappings, RepositoryRestConfiguration configuration) {
+		private PersistentEntityResourceSerializer(Repositories repositories, ResourceMappings mappings,
+				RepositoryRestConfiguration configuration) {
 
 			super((Class) PersistentEntityResource.class);
 
+			Assert.notNull(repositories, "Repositories must not be null!");
 			Assert.notNull(mappings, "ResourceMappings must not be null!");
 			Assert.notNull(configuration, "RepositoryRestConfiguration must not be null!");
 
 			this.mappings = mappings;
 			this.configuration = configuration;
+
+			Map<Class<?>, List<AssociationLinkTemplate>> templates = new HashMap<Class<?>, List<AssociationLinkTemplate>>();
+
+			for (Class<?> domainType : repositories) {
+
+				PersistentEntity<?, ?> entity = repositories.getPersistentEntity(domainType);
+
+				if (entity != null) {
+					templates.put(entity.getType(), AssociationLinkTemplate.forEntity(entity, mappings));
+				}
+			}
+
+			this.templates = Collections.unmodifiableMap(templates);
 		}
 
 		/*
@@ -170,16 +230,184 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			Object obj = resource.getContent();
 			PersistentEntity<?, ?> entity = resource.getPersistentEntity();
-			BeanWrapper<PersistentEntity<Object, ?>, Object> wrapper = BeanWrapper.create(obj, null);
+
+			List<AssociationLinkTemplate> associationLinks = templates.get(entity.getType());
+
+			if (associationLinks == null) {
+				associationLinks = AssociationLinkTemplate.forEntity(entity, mappings);
+			}
+
+			List<Link> existingLinks = resource.getLinks();
+			List<Link> links = new ArrayList<Link>(existingLinks.size() + associationLinks.size());
+			links.addAll(existingLinks);
+
+			if (!associationLinks.isEmpty()) {
+
+				String itemResourceHref = getItemResourceHref(resource, entity);
+
+				for (AssociationLinkTemplate template : associationLinks) {
+					links.add(template.expand(itemResourceHref));
+				}
+			}
+
+			Map<String, Object> embedded = resource.getEmbedded();
+			Resource<Object> resourceToRender = embedded.isEmpty() ? new Resource<Object>(obj, links)
+					: new EmbeddingResource(obj, links, embedded);
+
+			Set<String> fields = resource.getFields();
+
+			if (fields == null) {
+				provider.defaultSerializeValue(resourceToRender, jgen);
+			} else {
+				serializeLimitedTo(fields, resourceToRender, jgen, provider);
+			}
+		}
+
+		/**
+		 * Serializes the given {@link Resource} but drops the properties of its content not contained in the given fields.
+		 * The {@link Resource} is rendered into a buffer first, so that Jackson annotations on the content keep applying.
+		 * 
+		 * @param fields must not be {@literal null}.
+		 * @param resource must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private static void serializeLimitedTo(Set<String> fields, Resource<Object> resource, JsonGenerator jgen,
+				SerializerProvider provider) throws IOException {
+
+			SerializationConfig config = provider.getConfig();
+			BeanDescription description = config.introspect(provider.constructType(resource.getContent().getClass()));
+			Set<String> excluded = new HashSet<String>();
+
+			for (BeanPropertyDefinition property : description.findProperties()) {
+				if (!fields.contains(property.getName())) {
+					excluded.add(property.getName());
+				}
+			}
+
+			TokenBuffer buffer = new TokenBuffer(jgen.getCodec());
+			provider.defaultSerializeValue(resource, buffer);
+
+			JsonParser parser = buffer.asParser();
+			parser.nextToken();
+			jgen.writeStartObject();
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				if (excluded.contains(parser.getCurrentName())) {
+					parser.nextToken();
+					parser.skipChildren();
+				} else {
+					jgen.copyCurrentStructure(parser);
+				}
+			}
+
+			jgen.writeEndObject();
+			parser.close();
+		}
+
+		/**
+		 * Returns the URI of the item resource for the given {@link PersistentEntityResource}. Reuses the self link if
+		 * present and only falls back to building the URI from the identifier if none was added.
+		 * 
+		 * @param resource must not be {@literal null}.
+		 * @param entity must not be {@literal null}.
+		 * @return
+		 */
+		private String getItemResourceHref(PersistentEntityResource<?> resource, PersistentEntity<?, ?> entity) {
+
+			Link selfLink = resource.getId();
+
+			if (selfLink != null) {
+				return selfLink.getHref();
+			}
+
+			BeanWrapper<PersistentEntity<Object, ?>, Object> wrapper = BeanWrapper.create(resource.getContent(), null);
 			Object entityId = wrapper.getProperty(entity.getIdProperty());
 			ResourceMetadata metadata = mappings.getMappingFor(entity.getType());
-			URI baseUri = configuration.getBaseUri();
 
-			final RepositoryLinkBuilder builder = new RepositoryLinkBuilder(metadata, baseUri).slash(entityId);
-			final List<Link> links = new ArrayList<Link>();
-			links.addAll(resource.getLinks());
+			return new RepositoryLinkBuilder(metadata, configuration.getBaseUri()).slash(entityId).toString();
+		}
+	}
+
+	/**
+	 * {@link Resource} to additionally render the associations embedded into a {@link PersistentEntityResource} in an
+	 * {@code _embedded} section.
+	 * 
+	 * @author agent
+	 */
+	static class EmbeddingResource extends Resource<Object> {
+
+		private final Map<String, Object> embedded;
+
+		/**
+		 * Creates a new {@link EmbeddingResource} for the given content, {@link Link}s and embedded values.
+		 * 
+		 * @param content must not be {@literal null}.
+		 * @param links must not be {@literal null}.
+		 * @param embedded must not be {@literal null}.
+		 */
+		public EmbeddingResource(Object content, Iterable<Link> links, Map<String, Object> embedded) {
+
+			super(content, links);
+
+			Assert.notNull(embedded, "Embedded values must not be null!");
+			this.embedded = embedded;
+		}
+
+		/**
+		 * Returns the values to be rendered in the {@code _embedded} section keyed by relation type.
+		 * 
+		 * @return
+		 */
+		@JsonProperty("_embedded")
+		@JsonInclude(Include.NON_EMPTY)
+		public Map<String, Object> getEmbedded() {
+			return embedded;
+		}
+	}
+
+	/**
+	 * Pre-calculated path and relation type of a link to an exported association resource. Expanded against the URI of
+	 * the item resource owning the association.
+	 * 
+	 * @author agent
+	 */
+	private static class AssociationLinkTemplate {
+
+		private final String path;
+		private final String rel;
+
+		/**
+		 * Creates a new {@link AssociationLinkTemplate} for the given {@link ResourceMapping} of an association.
+		 * 
+		 * @param mapping must not be {@literal null}.
+		 */
+		private AssociationLinkTemplate(ResourceMapping mapping) {
+
+			this.path = mapping.getPath().toString();
+			this.rel = mapping.getRel();
+		}
+
+		/**
+		 * Returns the {@link AssociationLinkTemplate}s for all exported associations of the given {@link PersistentEntity}
+		 * .
+		 * 
+		 * @param entity must not be {@literal null}.
+		 * @param mappings must not be {@literal null}.
+		 * @return
+		 */
+		public static List<AssociationLinkTemplate> forEntity(PersistentEntity<?, ?> entity,
+				final ResourceMappings mappings) {
+
+			final ResourceMetadata ownerMetadata = mappings.getMappingFor(entity.getType());
+			final List<AssociationLinkTemplate> result = new ArrayList<AssociationLinkTemplate>();
+
+			if (ownerMetadata == null) {
+				return result;
+			}
 
-			// Add associations as links
 			entity.doWithAssociations(new SimpleAssociationHandler() {
 
 				/*
@@ -190,12 +418,30 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				public void doWithAssociation(Association<? extends PersistentProperty<?>> association) {
 
 					PersistentProperty<?> property = association.getInverse();
-					maybeAddAssociationLink(builder, mappings, property, links);
+
+					if (!ownerMetadata.isManagedResource(property)) {
+						return;
+					}
+
+					ResourceMapping propertyMapping = ownerMetadata.getMappingFor(property);
+
+					if (propertyMapping.isExported()) {
+						result.add(new AssociationLinkTemplate(propertyMapping));
+					}
 				}
 			});
 
-			Resource<Object> resourceToRender = new Resource<Object>(obj, links);
-			provider.defaultSerializeValue(resourceToRender, jgen);
+			return Collections.unmodifiableList(result);
+		}
+
+		/**
+		 * Creates the {@link Link} to the association resource of the item resource with the given URI.
+		 * 
+		 * @param itemResourceHref must not be {@literal null}.
+		 * @return
+		 */
+		public Link expand(String itemResourceHref) {
+			return new Link(itemResourceHref.concat(path), rel);
 		}
 	}
 
@@ -281,17 +527,19 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		private final UriToEntityConverter converter;
 		private final Repositories repositories;
 		private final ResourceMappings mappings;
+		private final EntityUriResolver resolver;
 
 		/**
 		 * Creates a new {@link AssociationUriResolvingDeserializerModifier} using the given {@link Repositories},
-		 * {@link UriToEntityConverter} and {@link ResourceMappings}.
+		 * {@link UriToEntityConverter}, {@link ResourceMappings} and {@link EntityUriResolver}.
 		 * 
 		 * @param repositories must not be {@literal null}.
 		 * @param converter must not be {@literal null}.
 		 * @param mappings must not be {@literal null}.
+		 * @param resolver can be {@literal null}.
 		 */
 		public AssociationUriResolvingDeserializerModifier(Repositories repositories, UriToEntityConverter converter,
-				ResourceMappings mappings) {
+				ResourceMappings mappings, EntityUriResolver resolver) {
 
 			Assert.notNull(repositories, "Repositories must not be null!");
 			Assert.notNull(converter, "UriToEntityConverter must not be null!");
@@ -300,6 +548,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			this.repositories = repositories;
 			this.converter = converter;
 			this.mappings = mappings;
+			this.resolver = resolver;
 		}
 
 		/* 
@@ -330,7 +579,19 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 				UriStringDeserializer uriStringDeserializer = new UriStringDeserializer(persistentProperty, converter);
 
-				if (persistentProperty.isCollectionLike()) {
+				if (persistentProperty.isCollectionLike() && resolver != null) {
+
+					UriCollectionDeserializer collectionDeserializer = new UriCollectionDeserializer(persistentProperty,
+							resolver);
+
+					builder.addOrReplaceProperty(property.withValueDeserializer(collectionDeserializer), false);
+
+				} else if (persistentProperty.isMap() && resolver != null) {
+
+					UriMapDeserializer mapDeserializer = new UriMapDeserializer(persistentProperty, resolver);
+					builder.addOrReplaceProperty(property.withValueDeserializer(mapDeserializer), false);
+
+				} else if (persistentProperty.isCollectionLike()) {
 
 					CollectionLikeType collectionType = config.getTypeFactory().constructCollectionLikeType(
 							persistentProperty.getType(), persistentProperty.getActualType());
@@ -347,6 +608,253 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			return builder;
 		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.BeanDeserializerModifier#modifyDeserializer(com.fasterxml.jackson.databind.DeserializationConfig, com.fasterxml.jackson.databind.BeanDescription, com.fasterxml.jackson.databind.JsonDeserializer)
+		 */
+		@Override
+		public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc,
+				JsonDeserializer<?> deserializer) {
+
+			PersistentEntity<?, ?> entity = repositories.getPersistentEntity(beanDesc.getBeanClass());
+
+			if (entity == null || resolver == null) {
+				return deserializer;
+			}
+
+			ResourceMetadata metadata = mappings.getMappingFor(beanDesc.getBeanClass());
+			List<PersistentProperty<?>> associations = new ArrayList<PersistentProperty<?>>();
+
+			for (BeanPropertyDefinition definition : beanDesc.findProperties()) {
+
+				PersistentProperty<?> persistentProperty = entity.getPersistentProperty(definition.getName());
+
+				if (persistentProperty != null && persistentProperty.isAssociation()
+						&& metadata.getMappingFor(persistentProperty).isExported()) {
+					associations.add(persistentProperty);
+				}
+			}
+
+			return associations.isEmpty() ? deserializer : new AssociationResolvingDeserializer(deserializer, associations,
+					resolver);
+		}
+	}
+
+	/**
+	 * {@link JsonDeserializer} that reads the document for a {@link PersistentEntity} upfront and collects the URIs
+	 * submitted for all of its exported associations. The URIs are resolved with a single repository call per target type
+	 * and all URIs that can't be resolved are reported at once. The resolved entities are then picked up by the
+	 * association deserializers while the document is bound by the actual deserializer.
+	 * 
+	 * @author agent
+	 */
+	static class AssociationResolvingDeserializer extends DelegatingDeserializer {
+
+		private static final long serialVersionUID = -3305874283612359813L;
+		private static final ThreadLocal<Map<Class<?>, Map<String, Object>>> RESOLVED =
+				new ThreadLocal<Map<Class<?>, Map<String, Object>>>();
+
+		private final List<PersistentProperty<?>> associations;
+		private final EntityUriResolver resolver;
+
+		/**
+		 * Creates a new {@link AssociationResolvingDeserializer} for the given delegate, association properties and
+		 * {@link EntityUriResolver}.
+		 * 
+		 * @param delegate must not be {@literal null}.
+		 * @param associations must not be {@literal null}.
+		 * @param resolver must not be {@literal null}.
+		 */
+		public AssociationResolvingDeserializer(JsonDeserializer<?> delegate, List<PersistentProperty<?>> associations,
+				EntityUriResolver resolver) {
+
+			super(delegate);
+
+			Assert.notNull(associations, "Associations must not be null!");
+			Assert.notNull(resolver, "EntityUriResolver must not be null!");
+
+			this.associations = associations;
+			this.resolver = resolver;
+		}
+
+		/**
+		 * Resolves the given URIs into entities of the given type. Uses the entities resolved for the document currently
+		 * read if all of them are available and falls back to the given {@link EntityUriResolver} otherwise.
+		 * 
+		 * @param uris must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @param resolver must not be {@literal null}.
+		 * @return
+		 */
+		static List<Object> resolve(List<String> uris, Class<?> type, EntityUriResolver resolver) {
+
+			Map<Class<?>, Map<String, Object>> resolved = RESOLVED.get();
+			Map<String, Object> entities = resolved == null ? null : resolved.get(type);
+
+			if (entities == null || !entities.keySet().containsAll(uris)) {
+				return resolver.resolve(uris, type);
+			}
+
+			List<Object> result = new ArrayList<Object>(uris.size());
+
+			for (String uri : uris) {
+				result.add(entities.get(uri));
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the entity of the given type already resolved for the given URI while reading the current document or
+		 * {@literal null} if none is available.
+		 * 
+		 * @param uri must not be {@literal null}.
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		static Object getResolved(String uri, Class<?> type) {
+
+			Map<Class<?>, Map<String, Object>> resolved = RESOLVED.get();
+			Map<String, Object> entities = resolved == null ? null : resolved.get(type);
+
+			return entities == null ? null : entities.get(uri);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer#newDelegatingInstance(com.fasterxml.jackson.databind.JsonDeserializer)
+		 */
+		@Override
+		protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+			return new AssociationResolvingDeserializer(newDelegatee, associations, resolver);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+			return doDeserialize(jp, ctxt, null);
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext, java.lang.Object)
+		 */
+		@Override
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt, Object intoValue) throws IOException,
+				JsonProcessingException {
+			return doDeserialize(jp, ctxt, intoValue);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object doDeserialize(JsonParser jp, DeserializationContext ctxt, Object intoValue) throws IOException,
+				JsonProcessingException {
+
+			JsonNode node = jp.readValueAsTree();
+			Map<Class<?>, Map<String, Object>> previous = RESOLVED.get();
+
+			RESOLVED.set(resolveAssociations(node, ctxt));
+
+			try {
+
+				JsonParser parser = node.traverse();
+				parser.setCodec(jp.getCodec());
+				parser.nextToken();
+
+				return intoValue == null ? _delegatee.deserialize(parser, ctxt) : ((JsonDeserializer<Object>) _delegatee)
+						.deserialize(parser, ctxt, intoValue);
+
+			} finally {
+
+				if (previous == null) {
+					RESOLVED.remove();
+				} else {
+					RESOLVED.set(previous);
+				}
+			}
+		}
+
+		/**
+		 * Collects the URIs submitted for the association properties in the given document and resolves them with a single
+		 * lookup per target type.
+		 * 
+		 * @param node must not be {@literal null}.
+		 * @param ctxt must not be {@literal null}.
+		 * @return the resolved entities by target type and URI.
+		 * @throws JsonMappingException listing all URIs that could not be resolved.
+		 */
+		private Map<Class<?>, Map<String, Object>> resolveAssociations(JsonNode node, DeserializationContext ctxt)
+				throws JsonMappingException {
+
+			Map<Class<?>, Set<String>> urisByType = new LinkedHashMap<Class<?>, Set<String>>();
+
+			for (PersistentProperty<?> property : associations) {
+
+				JsonNode value = node.get(property.getName());
+
+				if (value == null) {
+					continue;
+				}
+
+				Set<String> uris = urisByType.get(property.getActualType());
+
+				if (uris == null) {
+					uris = new LinkedHashSet<String>();
+					urisByType.put(property.getActualType(), uris);
+				}
+
+				if (value.isTextual()) {
+					uris.add(value.asText());
+				} else if (value.isArray() || value.isObject()) {
+					for (JsonNode element : value) {
+						if (element.isTextual()) {
+							uris.add(element.asText());
+						}
+					}
+				}
+			}
+
+			Map<Class<?>, Map<String, Object>> result = new HashMap<Class<?>, Map<String, Object>>(urisByType.size());
+			List<String> unresolved = new ArrayList<String>();
+
+			for (Entry<Class<?>, Set<String>> entry : urisByType.entrySet()) {
+
+				Map<String, Serializable> ids = new LinkedHashMap<String, Serializable>(entry.getValue().size());
+
+				for (String uri : entry.getValue()) {
+					try {
+						ids.put(uri, resolver.getId(uri, entry.getKey()));
+					} catch (IllegalArgumentException o_O) {
+						unresolved.add(uri);
+					}
+				}
+
+				Map<Object, Object> entities = resolver.findAll(entry.getKey(), ids.values());
+				Map<String, Object> resolved = new HashMap<String, Object>(ids.size());
+
+				for (Entry<String, Serializable> id : ids.entrySet()) {
+
+					Object entity = entities.get(id.getValue());
+
+					if (entity == null) {
+						unresolved.add(id.getKey());
+					} else {
+						resolved.put(id.getKey(), entity);
+					}
+				}
+
+				result.put(entry.getKey(), resolved);
+			}
+
+			if (!unresolved.isEmpty()) {
+				throw ctxt.mappingException(String.format("Could not resolve URIs %s!", unresolved));
+			}
+
+			return result;
+		}
 	}
 
 	/**
@@ -359,7 +867,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 		private static final long serialVersionUID = -2175900204153350125L;
 
-		private final PersistentProperty<?> property;
+		private final TypeDescriptor typeDescriptor;
 		private final UriToEntityConverter converter;
 
 		/**
@@ -373,7 +881,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			super(property.getActualType());
 
-			this.property = property;
+			this.typeDescriptor = TypeDescriptor.valueOf(property.getActualType());
 			this.converter = converter;
 		}
 
@@ -385,9 +893,156 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
 
 			String uriString = jp.getValueAsString();
-			TypeDescriptor typeDescriptor = TypeDescriptor.valueOf(property.getActualType());
+			Object resolved = AssociationResolvingDeserializer.getResolved(uriString, typeDescriptor.getType());
+
+			return resolved != null ? resolved : converter.convert(URI.create(uriString), URI_DESCRIPTOR, typeDescriptor);
+		}
+	}
+
+	/**
+	 * Custom {@link JsonDeserializer} to read an array of URIs for a collection association and resolve all of them
+	 * with a single call to the repository of the association's target type using an {@link EntityUriResolver}. URIs
+	 * that can't be resolved are reported at once.
+	 * 
+	 * @author agent
+	 */
+	static class UriCollectionDeserializer extends StdDeserializer<Object> {
+
+		private static final long serialVersionUID = 4718587212452364108L;
+
+		private final PersistentProperty<?> property;
+		private final EntityUriResolver resolver;
+
+		/**
+		 * Creates a new {@link UriCollectionDeserializer} for the given collection {@link PersistentProperty} using the
+		 * given {@link EntityUriResolver}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param resolver must not be {@literal null}.
+		 */
+		public UriCollectionDeserializer(PersistentProperty<?> property, EntityUriResolver resolver) {
+
+			super(property.getType());
+
+			Assert.notNull(resolver, "EntityUriResolver must not be null!");
+
+			this.property = property;
+			this.resolver = resolver;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+
+			if (!jp.isExpectedStartArrayToken()) {
+				throw ctxt.mappingException(property.getType());
+			}
+
+			List<String> uris = new ArrayList<String>();
+
+			while (jp.nextToken() != JsonToken.END_ARRAY) {
+
+				String uri = jp.getValueAsString();
+
+				if (uri == null) {
+					throw ctxt.mappingException("Association URIs must not be null!");
+				}
+
+				uris.add(uri);
+			}
+
+			Collection<Object> result = CollectionFactory.createCollection(property.getType(), uris.size());
+
+			try {
+				result.addAll(AssociationResolvingDeserializer.resolve(uris, property.getActualType(), resolver));
+			} catch (IllegalArgumentException o_O) {
+				throw new JsonMappingException(String.format("%s Property: %s.", o_O.getMessage(), property.getName()),
+						jp.getCurrentLocation(), o_O);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Custom {@link JsonDeserializer} to read an object of URIs for a map association and resolve all of them with a
+	 * single call to the repository of the association's target type using an {@link EntityUriResolver}.
+	 * 
+	 * @author agent
+	 */
+	static class UriMapDeserializer extends StdDeserializer<Object> {
+
+		private static final long serialVersionUID = 2265209614388765532L;
+
+		private final PersistentProperty<?> property;
+		private final EntityUriResolver resolver;
+
+		/**
+		 * Creates a new {@link UriMapDeserializer} for the given map {@link PersistentProperty} using the given
+		 * {@link EntityUriResolver}.
+		 * 
+		 * @param property must not be {@literal null}.
+		 * @param resolver must not be {@literal null}.
+		 */
+		public UriMapDeserializer(PersistentProperty<?> property, EntityUriResolver resolver) {
+
+			super(property.getType());
+
+			Assert.notNull(resolver, "EntityUriResolver must not be null!");
+
+			this.property = property;
+			this.resolver = resolver;
+		}
+
+		/* 
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		public Object deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+
+			if (jp.getCurrentToken() != JsonToken.START_OBJECT) {
+				throw ctxt.mappingException(property.getType());
+			}
+
+			KeyDeserializer keyDeserializer = ctxt.findKeyDeserializer(ctxt.constructType(property.getComponentType()),
+					null);
+			Map<Object, String> uris = new LinkedHashMap<Object, String>();
+
+			while (jp.nextToken() == JsonToken.FIELD_NAME) {
+
+				Object key = keyDeserializer.deserializeKey(jp.getCurrentName(), ctxt);
+				jp.nextToken();
+				String uri = jp.getValueAsString();
+
+				if (uri == null) {
+					throw ctxt.mappingException("Association URIs must not be null!");
+				}
+
+				uris.put(key, uri);
+			}
+
+			List<Object> entities;
+
+			try {
+				entities = AssociationResolvingDeserializer.resolve(new ArrayList<String>(uris.values()),
+						property.getActualType(), resolver);
+			} catch (IllegalArgumentException o_O) {
+				throw new JsonMappingException(String.format("%s Property: %s.", o_O.getMessage(), property.getName()),
+						jp.getCurrentLocation(), o_O);
+			}
+
+			Map<Object, Object> result = CollectionFactory.createMap(property.getType(), uris.size());
+			Iterator<Object> values = entities.iterator();
+
+			for (Object key : uris.keySet()) {
+				result.put(key, values.next());
+			}
 
-			return converter.convert(URI.create(uriString), URI_DESCRIPTOR, typeDescriptor);
+			return result;
 		}
 	}
 
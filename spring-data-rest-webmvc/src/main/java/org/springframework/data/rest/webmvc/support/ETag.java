@@ -0,0 +1,193 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Value object to represent an entity tag derived from the version property of an entity.
+ * 
+ * @author agent
+ */
+public final class ETag {
+
+	public static final ETag NO_ETAG = new ETag(null);
+
+	private static final String WEAK_PREFIX = "W/";
+	private static final String WILDCARD = "*";
+
+	private final String value;
+
+	private ETag(String value) {
+		this.value = value;
+	}
+
+	/**
+	 * Creates a new {@link ETag} for the given {@link String} value. Surrounding quotes and a weak indicator will be
+	 * stripped.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @return the {@link ETag} for the given value or {@link #NO_ETAG} if the value is {@literal null} or empty.
+	 */
+	public static ETag from(String value) {
+		return StringUtils.hasText(value) ? new ETag(trim(value)) : NO_ETAG;
+	}
+
+	/**
+	 * Creates a new {@link ETag} from the value of the version property of the given bean.
+	 * 
+	 * @param bean can be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link ETag} for the bean or {@link #NO_ETAG} if the entity doesn't have a version property or the
+	 *         version is not set.
+	 */
+	public static ETag from(Object bean, PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		PersistentProperty<?> versionProperty = entity.getVersionProperty();
+
+		if (bean == null || versionProperty == null) {
+			return NO_ETAG;
+		}
+
+		Object version = BeanWrapper.create(bean, null).getProperty(versionProperty);
+
+		return version == null ? NO_ETAG : from(version.toString());
+	}
+
+	/**
+	 * Returns whether the {@link ETag} matches any of the tags contained in the given {@code If-None-Match} header value
+	 * using the weak comparison, i.e. weak tags match as well. A wildcard matches any existing entity, so callers have to
+	 * make sure the {@link ETag} was obtained from an existing entity, even if it is {@link #NO_ETAG}.
+	 * 
+	 * @param header can be {@literal null}.
+	 * @return
+	 */
+	public boolean matches(String header) {
+		return matches(header, false);
+	}
+
+	/**
+	 * Verifies the {@link ETag} against the given {@code If-Match} header value using the strong comparison, i.e. weak
+	 * tags never match. A wildcard matches any existing entity. Nothing is verified if no header value is given.
+	 * 
+	 * @param header can be {@literal null}.
+	 * @throws ETagDoesntMatchException in case the header is given and the {@link ETag} doesn't match it.
+	 */
+	public void verify(String header) {
+
+		if (StringUtils.hasText(header) && !matches(header, true)) {
+			throw new ETagDoesntMatchException(this, header);
+		}
+	}
+
+	private boolean matches(String header, boolean strong) {
+
+		if (!StringUtils.hasText(header)) {
+			return false;
+		}
+
+		for (String candidate : StringUtils.commaDelimitedListToStringArray(header)) {
+
+			String trimmed = candidate.trim();
+
+			if (WILDCARD.equals(trimmed)) {
+				return true;
+			}
+
+			if (value == null || (strong && trimmed.startsWith(WEAK_PREFIX))) {
+				continue;
+			}
+
+			if (value.equals(trim(trimmed))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Adds the {@link ETag} to the given {@link HttpHeaders}. Does nothing for {@link #NO_ETAG}.
+	 * 
+	 * @param headers must not be {@literal null}.
+	 * @return the given {@link HttpHeaders}.
+	 */
+	public HttpHeaders addTo(HttpHeaders headers) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		if (value != null) {
+			headers.setETag(toString());
+		}
+
+		return headers;
+	}
+
+	private static String trim(String value) {
+
+		String result = value.trim();
+
+		if (result.startsWith(WEAK_PREFIX)) {
+			result = result.substring(WEAK_PREFIX.length());
+		}
+
+		return StringUtils.trimLeadingCharacter(StringUtils.trimTrailingCharacter(result, '"'), '"');
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return value == null ? "" : "\"".concat(value).concat("\"");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ETag)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(this.value, ((ETag) obj).value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHashCode(value);
+	}
+}
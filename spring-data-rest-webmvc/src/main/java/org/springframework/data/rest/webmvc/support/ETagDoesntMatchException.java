@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception being thrown in case the {@link ETag} of an entity doesn't match the one given in an {@code If-Match}
+ * header.
+ * 
+ * @author agent
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class ETagDoesntMatchException extends RuntimeException {
+
+	private static final long serialVersionUID = 415835592506644805L;
+
+	private final ETag expected;
+
+	/**
+	 * Creates a new {@link ETagDoesntMatchException} for the given current {@link ETag} and the header value that failed
+	 * to match it.
+	 * 
+	 * @param expected must not be {@literal null}.
+	 * @param header the raw {@code If-Match} header value.
+	 */
+	public ETagDoesntMatchException(ETag expected, String header) {
+
+		super(String.format("ETag %s doesn't match %s!", expected, header));
+		this.expected = expected;
+	}
+
+	/**
+	 * Returns the current {@link ETag} of the entity.
+	 * 
+	 * @return
+	 */
+	public ETag getExpectedETag() {
+		return expected;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.SimplePropertyHandler;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+
+/**
+ * Helper to populate {@code ETag} and {@code Last-Modified} response headers for entities and to evaluate conditional
+ * {@code GET} requests against them. The entity tag is derived from the version property of an entity, the
+ * modification date from a property annotated with {@link LastModifiedDate}.
+ * 
+ * @author agent
+ */
+public class HttpHeadersPreparer {
+
+	private final ConversionService conversionService;
+	private final ConcurrentMap<PersistentEntity<?, ?>, LastModifiedProperty> lastModifiedProperties;
+
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} using the given {@link ConversionService} to turn last modification
+	 * dates of types other than {@link Date}, {@link Calendar} or {@link Number} into {@link Date}s.
+	 * 
+	 * @param conversionService must not be {@literal null}.
+	 */
+	public HttpHeadersPreparer(ConversionService conversionService) {
+
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.conversionService = conversionService;
+		this.lastModifiedProperties = new ConcurrentHashMap<PersistentEntity<?, ?>, LastModifiedProperty>();
+	}
+
+	/**
+	 * Returns {@link HttpHeaders} containing the {@code ETag} and {@code Last-Modified} headers for the given bean if the
+	 * entity exposes the according properties.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param bean must not be {@literal null}.
+	 * @return
+	 */
+	public HttpHeaders prepareHeaders(PersistentEntity<?, ?> entity, Object bean) {
+
+		HttpHeaders headers = ETag.from(bean, entity).addTo(new HttpHeaders());
+		Long lastModified = getLastModifiedInMilliseconds(entity, bean);
+
+		if (lastModified != null) {
+			headers.setLastModified(lastModified);
+		}
+
+		return headers;
+	}
+
+	/**
+	 * Returns whether the client's copy of the given bean is still up to date according to the {@code If-None-Match} or,
+	 * if not present, the {@code If-Modified-Since} header of the given request headers.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param bean must not be {@literal null}.
+	 * @param requestHeaders must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isObjectStillValid(PersistentEntity<?, ?> entity, Object bean, HttpHeaders requestHeaders) {
+
+		Assert.notNull(requestHeaders, "Request headers must not be null!");
+
+		String ifNoneMatch = requestHeaders.getFirst("If-None-Match");
+
+		if (ifNoneMatch != null) {
+			return ETag.from(bean, entity).matches(ifNoneMatch);
+		}
+
+		long ifModifiedSince = requestHeaders.getIfModifiedSince();
+
+		if (ifModifiedSince == -1) {
+			return false;
+		}
+
+		Long lastModified = getLastModifiedInMilliseconds(entity, bean);
+
+		// HTTP dates only have second precision
+		return lastModified != null && lastModified / 1000 <= ifModifiedSince / 1000;
+	}
+
+	/**
+	 * Returns the last modification date of the given bean in milliseconds or {@literal null} if the entity doesn't
+	 * have a property annotated with {@link LastModifiedDate} or it's not set.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param bean must not be {@literal null}.
+	 * @return
+	 */
+	public Long getLastModifiedInMilliseconds(PersistentEntity<?, ?> entity, Object bean) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(bean, "Bean must not be null!");
+
+		PersistentProperty<?> property = getLastModifiedProperty(entity).property;
+
+		if (property == null) {
+			return null;
+		}
+
+		Object value = BeanWrapper.create(bean, null).getProperty(property);
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof Date) {
+			return ((Date) value).getTime();
+		}
+
+		if (value instanceof Calendar) {
+			return ((Calendar) value).getTimeInMillis();
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).longValue();
+		}
+
+		if (conversionService.canConvert(value.getClass(), Date.class)) {
+			return conversionService.convert(value, Date.class).getTime();
+		}
+
+		return null;
+	}
+
+	private LastModifiedProperty getLastModifiedProperty(PersistentEntity<?, ?> entity) {
+
+		LastModifiedProperty cached = lastModifiedProperties.get(entity);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		final LastModifiedProperty result = new LastModifiedProperty();
+
+		entity.doWithProperties(new SimplePropertyHandler() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.mapping.SimplePropertyHandler#doWithPersistentProperty(org.springframework.data.mapping.PersistentProperty)
+			 */
+			@Override
+			public void doWithPersistentProperty(PersistentProperty<?> persistentProperty) {
+
+				if (result.property == null && persistentProperty.findAnnotation(LastModifiedDate.class) != null) {
+					result.property = persistentProperty;
+				}
+			}
+		});
+
+		LastModifiedProperty existing = lastModifiedProperties.putIfAbsent(entity, result);
+		return existing == null ? result : existing;
+	}
+
+	/**
+	 * Holder for the potentially absent last modified property of an entity.
+	 * 
+	 * @author agent
+	 */
+	private static class LastModifiedProperty {
+		PersistentProperty<?> property;
+	}
+}
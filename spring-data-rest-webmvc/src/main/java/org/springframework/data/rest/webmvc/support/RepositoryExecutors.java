@@ -0,0 +1,325 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
+import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Bounded executors to run asynchronous repository calls on, one per domain type. Keeping them separate makes sure a
+ * slow repository can only exhaust its own threads and queue. Calls exceeding the configured queue capacity are
+ * rejected and counted. Alternatively, all calls can be handed to a single, externally managed
+ * {@link AsyncTaskExecutor} or, if enabled and supported by the JVM, to a new virtual thread each. Also publishes
+ * {@code After*} repository events asynchronously if configured.
+ * 
+ * @author agent
+ * @see RepositoryRestConfiguration#isAsyncEnabled()
+ * @see RepositoryRestConfiguration#isAsyncVirtualThreadsEnabled()
+ * @see RepositoryRestConfiguration#isAsyncAfterEventsEnabled()
+ */
+public class RepositoryExecutors implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RepositoryExecutors.class);
+	private static final String EVENTS_THREAD_NAME_PREFIX = "repositoryEvents-";
+
+	private final RepositoryRestConfiguration config;
+	private final ConcurrentMap<Class<?>, RepositoryExecutor> executors;
+	private final AsyncTaskExecutor sharedExecutor;
+	private final ThreadPoolTaskExecutor eventExecutor;
+
+	/**
+	 * Creates a new {@link RepositoryExecutors} instance configured by the given {@link RepositoryRestConfiguration}.
+	 * 
+	 * @param config must not be {@literal null}.
+	 */
+	public RepositoryExecutors(RepositoryRestConfiguration config) {
+		this(config, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryExecutors} instance handing all calls to the given {@link AsyncTaskExecutor}. The
+	 * executor's lifecycle is not managed by this instance. If no {@link AsyncTaskExecutor} is given, calls run on a
+	 * virtual thread each if enabled in and supported by the JVM or on bounded per repository executors configured by
+	 * the given {@link RepositoryRestConfiguration} otherwise.
+	 * 
+	 * @param config must not be {@literal null}.
+	 * @param sharedExecutor can be {@literal null}.
+	 */
+	public RepositoryExecutors(RepositoryRestConfiguration config, AsyncTaskExecutor sharedExecutor) {
+
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+
+		this.config = config;
+		this.executors = new ConcurrentHashMap<Class<?>, RepositoryExecutor>();
+		this.sharedExecutor = sharedExecutor == null ? createVirtualThreadExecutor(config) : sharedExecutor;
+		this.eventExecutor = this.sharedExecutor == null && config.isAsyncAfterEventsEnabled() ? createEventExecutor(config)
+				: null;
+	}
+
+	/**
+	 * Returns an {@link ApplicationEventPublisher} publishing {@code After*} repository events through the given
+	 * {@link ApplicationEventPublisher} asynchronously if enabled. All other events are handed to the given
+	 * {@link ApplicationEventPublisher} directly.
+	 * 
+	 * @param publisher must not be {@literal null}.
+	 * @return
+	 * @see RepositoryRestConfiguration#isAsyncAfterEventsEnabled()
+	 */
+	public ApplicationEventPublisher getEventPublisher(ApplicationEventPublisher publisher) {
+
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+
+		if (!config.isAsyncAfterEventsEnabled()) {
+			return publisher;
+		}
+
+		return new AfterEventPublisher(publisher, sharedExecutor != null ? sharedExecutor : eventExecutor);
+	}
+
+	/**
+	 * Creates a {@link WebAsyncTask} to execute the given {@link Callable} on the executor for the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param callable must not be {@literal null}.
+	 * @return
+	 */
+	public <T> WebAsyncTask<T> submit(Class<?> domainType, Callable<T> callable) {
+
+		Assert.notNull(callable, "Callable must not be null!");
+
+		AsyncTaskExecutor executor = sharedExecutor != null ? sharedExecutor : getExecutorFor(domainType).executor;
+		return new WebAsyncTask<T>(config.getAsyncTimeout(), executor, callable);
+	}
+
+	/**
+	 * Returns the number of calls waiting for a thread of the executor for the given domain type. Always
+	 * {@literal 0} if a shared {@link AsyncTaskExecutor} is used.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public int getQueueDepth(Class<?> domainType) {
+
+		RepositoryExecutor executor = executors.get(domainType);
+		return executor == null ? 0 : executor.executor.getThreadPoolExecutor().getQueue().size();
+	}
+
+	/**
+	 * Returns the number of threads currently executing calls for the given domain type. Always {@literal 0} if a
+	 * shared {@link AsyncTaskExecutor} is used.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public int getActiveCount(Class<?> domainType) {
+
+		RepositoryExecutor executor = executors.get(domainType);
+		return executor == null ? 0 : executor.executor.getActiveCount();
+	}
+
+	/**
+	 * Returns the number of calls for the given domain type that were rejected as the queue was full. Always
+	 * {@literal 0} if a shared {@link AsyncTaskExecutor} is used.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public long getRejectedCount(Class<?> domainType) {
+
+		RepositoryExecutor executor = executors.get(domainType);
+		return executor == null ? 0 : executor.rejected.get();
+	}
+
+	private RepositoryExecutor getExecutorFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		RepositoryExecutor executor = executors.get(domainType);
+
+		if (executor != null) {
+			return executor;
+		}
+
+		executor = new RepositoryExecutor(domainType, config);
+		RepositoryExecutor existing = executors.putIfAbsent(domainType, executor);
+
+		if (existing != null) {
+			executor.executor.shutdown();
+			return existing;
+		}
+
+		return executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		for (RepositoryExecutor executor : executors.values()) {
+			executor.executor.shutdown();
+		}
+
+		executors.clear();
+
+		if (eventExecutor != null) {
+			eventExecutor.shutdown();
+		}
+	}
+
+	private static AsyncTaskExecutor createVirtualThreadExecutor(RepositoryRestConfiguration config) {
+
+		if (!config.isAsyncVirtualThreadsEnabled()) {
+			return null;
+		}
+
+		AsyncTaskExecutor executor = VirtualThreads.createExecutor("repository-");
+
+		if (executor == null) {
+			LOG.warn("Virtual threads are not supported by this JVM, using bounded executors instead!");
+		}
+
+		return executor;
+	}
+
+	/**
+	 * Creates the bounded executor to publish events on. Events exceeding its capacity are published on the calling
+	 * thread so that none get lost.
+	 * 
+	 * @param config must not be {@literal null}.
+	 * @return
+	 */
+	private static ThreadPoolTaskExecutor createEventExecutor(RepositoryRestConfiguration config) {
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setCorePoolSize(config.getAsyncPoolSize());
+		executor.setMaxPoolSize(config.getAsyncPoolSize());
+		executor.setQueueCapacity(config.getAsyncQueueCapacity());
+		executor.setThreadNamePrefix(EVENTS_THREAD_NAME_PREFIX);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+
+		return executor;
+	}
+
+	/**
+	 * {@link ApplicationEventPublisher} handing {@code After*} repository events to a {@link TaskExecutor}.
+	 * 
+	 * @author agent
+	 */
+	private static class AfterEventPublisher implements ApplicationEventPublisher {
+
+		private final ApplicationEventPublisher delegate;
+		private final TaskExecutor executor;
+
+		public AfterEventPublisher(ApplicationEventPublisher delegate, TaskExecutor executor) {
+
+			this.delegate = delegate;
+			this.executor = executor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationEventPublisher#publishEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void publishEvent(final ApplicationEvent event) {
+
+			if (!isAfterEvent(event)) {
+				delegate.publishEvent(event);
+				return;
+			}
+
+			executor.execute(new Runnable() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see java.lang.Runnable#run()
+				 */
+				@Override
+				public void run() {
+					delegate.publishEvent(event);
+				}
+			});
+		}
+
+		private static boolean isAfterEvent(ApplicationEvent event) {
+			return event instanceof AfterCreateEvent || event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent
+					|| event instanceof AfterLinkSaveEvent || event instanceof AfterLinkDeleteEvent;
+		}
+	}
+
+	/**
+	 * A {@link ThreadPoolTaskExecutor} for a single domain type along with a counter for rejected calls.
+	 * 
+	 * @author agent
+	 */
+	private static class RepositoryExecutor implements RejectedExecutionHandler {
+
+		private final ThreadPoolTaskExecutor executor;
+		private final AtomicLong rejected;
+
+		public RepositoryExecutor(Class<?> domainType, RepositoryRestConfiguration config) {
+
+			this.rejected = new AtomicLong();
+			this.executor = new ThreadPoolTaskExecutor();
+
+			executor.setCorePoolSize(config.getAsyncPoolSize());
+			executor.setMaxPoolSize(config.getAsyncPoolSize());
+			executor.setQueueCapacity(config.getAsyncQueueCapacity());
+			executor.setThreadNamePrefix(StringUtils.uncapitalize(domainType.getSimpleName()).concat("-"));
+			executor.setRejectedExecutionHandler(this);
+			executor.initialize();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.RejectedExecutionHandler#rejectedExecution(java.lang.Runnable, java.util.concurrent.ThreadPoolExecutor)
+		 */
+		@Override
+		public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+
+			rejected.incrementAndGet();
+			throw new RejectedExecutionException("Executor for repository calls is saturated!");
+		}
+	}
+}
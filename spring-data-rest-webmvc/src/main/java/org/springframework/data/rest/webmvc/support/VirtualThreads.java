@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Access to virtual threads on JVMs supporting them. Looked up reflectively as the code base is compiled against
+ * older Java versions.
+ * 
+ * @author agent
+ */
+abstract class VirtualThreads {
+
+	private static final String BUILDER_TYPE = "java.lang.Thread$Builder";
+
+	private VirtualThreads() {}
+
+	/**
+	 * Returns whether the current JVM supports virtual threads.
+	 * 
+	 * @return
+	 */
+	public static boolean isSupported() {
+		return ReflectionUtils.findMethod(Thread.class, "ofVirtual") != null
+				&& ClassUtils.isPresent(BUILDER_TYPE, VirtualThreads.class.getClassLoader());
+	}
+
+	/**
+	 * Creates an {@link AsyncTaskExecutor} starting a new virtual thread for every task. The thread names start with the
+	 * given prefix.
+	 * 
+	 * @param threadNamePrefix must not be {@literal null}.
+	 * @return the {@link AsyncTaskExecutor} or {@literal null} if virtual threads are not supported.
+	 */
+	public static AsyncTaskExecutor createExecutor(String threadNamePrefix) {
+
+		ThreadFactory factory = createThreadFactory(threadNamePrefix);
+
+		if (factory == null) {
+			return null;
+		}
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+		executor.setThreadFactory(factory);
+
+		return executor;
+	}
+
+	private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+
+		if (!isSupported()) {
+			return null;
+		}
+
+		try {
+
+			Class<?> builderType = ClassUtils.forName(BUILDER_TYPE, VirtualThreads.class.getClassLoader());
+			Method name = builderType.getMethod("name", String.class, long.class);
+			Method factory = builderType.getMethod("factory");
+
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = name.invoke(builder, threadNamePrefix, 0L);
+
+			return (ThreadFactory) factory.invoke(builder);
+
+		} catch (Exception o_O) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Unit tests for {@link AsyncRequestCondition}.
+ * 
+ * @author agent
+ */
+public class AsyncRequestConditionUnitTests {
+
+	@Test
+	public void supportsMethodsOfExportingControllers() throws Exception {
+
+		Method method = RepositoryEntityController.class.getMethod("listEntitiesAsync", RootResourceInformation.class,
+				Pageable.class, Sort.class);
+
+		assertThat(AsyncRequestCondition.supports(method), is(true));
+	}
+
+	@Test
+	public void doesNotSupportMethodsOfCustomControllers() throws Exception {
+
+		Method method = CustomController.class.getMethod("async");
+
+		assertThat(AsyncRequestCondition.supports(method), is(false));
+	}
+
+	@Test
+	public void onlyMatchesAsynchronousMethodIfAsyncExecutionIsEnabled() throws Exception {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration();
+		AsyncRequestCondition condition = new AsyncRequestCondition(CustomController.class.getMethod("async"), config);
+		MockHttpServletRequest request = new MockHttpServletRequest();
+
+		config.setAsyncEnabled(false);
+		assertThat(condition.getMatchingCondition(request), is(nullValue()));
+
+		config.setAsyncEnabled(true);
+		assertThat(condition.getMatchingCondition(request), is(condition));
+	}
+
+	static class CustomController {
+
+		public WebAsyncTask<Object> async() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.core.config.KeysetPagination;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.Resources;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Unit tests for {@link KeysetPaginator}.
+ * 
+ * @author agent
+ */
+public class KeysetPaginatorUnitTests {
+
+	static final ResourceAssembler<Object, Resource<Object>> ASSEMBLER = new SimpleResourceAssembler();
+
+	KeysetPaginator paginator;
+
+	@Before
+	public void setUp() {
+
+		PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+		paginator = new KeysetPaginator(new KeysetPagination("number", "findByNumberGreaterThan"), entity, 2,
+				new DefaultConversionService());
+	}
+
+	@Test
+	public void decodesEncodedKey() {
+
+		String token = KeysetPaginator.encode("H\u00e4llo/W\u00f6rld?");
+
+		assertThat(token, not(containsString("/")));
+		assertThat(token, not(containsString("+")));
+		assertThat(KeysetPaginator.decode(token), is("H\u00e4llo/W\u00f6rld?"));
+	}
+
+	@Test(expected = InvalidCursorException.class)
+	public void rejectsMalformedCursor() {
+		KeysetPaginator.decode("not a cursor!");
+	}
+
+	@Test(expected = InvalidCursorException.class)
+	public void rejectsCursorOfInvalidLength() {
+		KeysetPaginator.decode("abcde");
+	}
+
+	@Test
+	public void acceptsSortByKeyAscending() {
+
+		paginator.verify(null);
+		paginator.verify(new Sort("number"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsSortByOtherProperty() {
+		paginator.verify(new Sort("id"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsSortByKeyDescending() {
+		paginator.verify(new Sort(Direction.DESC, "number"));
+	}
+
+	@Test
+	public void requestsOneMoreElementThanThePageSizeSortedByKey() {
+
+		Pageable pageable = paginator.getPageable();
+
+		assertThat(pageable.getPageNumber(), is(0));
+		assertThat(pageable.getPageSize(), is(3));
+		assertThat(pageable.getSort().getOrderFor("number").getDirection(), is(Direction.ASC));
+	}
+
+	@Test
+	public void bindsDecodedCursorToKeyParameter() {
+
+		Map<String, String[]> source = Collections.singletonMap("number", new String[] { "4711" });
+		Map<String, String[]> parameters = paginator.getParameters(source, KeysetPaginator.encode("42"));
+
+		assertThat(parameters.get("number"), is(arrayContaining("42")));
+	}
+
+	@Test
+	public void doesNotBindKeyParameterForFirstPage() {
+
+		Map<String, String[]> source = Collections.singletonMap("number", new String[] { "4711" });
+		assertThat(paginator.getParameters(source, null).containsKey("number"), is(false));
+	}
+
+	@Test
+	public void exposesNextLinkWithCursorOfLastElementIfMoreElementsAvailable() {
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString("http://localhost/samples?size=2");
+		Resources<Resource<Object>> resources = paginator.toResources(
+				Arrays.asList(new Sample(1L), new Sample(2L), new Sample(3L)), ASSEMBLER, builder);
+
+		assertThat(resources.getContent(), hasSize(2));
+
+		Link next = resources.getLink(Link.REL_NEXT);
+
+		assertThat(next, is(notNullValue()));
+		assertThat(next.getHref(), startsWith("http://localhost/samples?size=2&cursor="));
+
+		String cursor = next.getHref().substring(next.getHref().indexOf("cursor=") + 7);
+		assertThat(KeysetPaginator.decode(cursor), is("2"));
+	}
+
+	@Test
+	public void doesNotExposeNextLinkForLastPage() {
+
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString("http://localhost/samples");
+		Resources<Resource<Object>> resources = paginator.toResources(Arrays.asList(new Sample(1L)), ASSEMBLER, builder);
+
+		assertThat(resources.getContent(), hasSize(1));
+		assertThat(resources.getLink(Link.REL_NEXT), is(nullValue()));
+	}
+
+	static class Sample {
+
+		String id;
+		Long number;
+
+		public Sample(Long number) {
+			this.number = number;
+		}
+	}
+
+	static class SimpleResourceAssembler implements ResourceAssembler<Object, Resource<Object>> {
+
+		@Override
+		public Resource<Object> toResource(Object entity) {
+			return new Resource<Object>(entity);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.webmvc.PersistentEntityBatch.UnreadableElement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link PersistentEntityBatch}.
+ * 
+ * @author agent
+ */
+public class PersistentEntityBatchUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+
+	@Test
+	public void readsElementsFromJsonArray() throws Exception {
+
+		List<Object> result = read("[ { \"name\" : \"Dave\" }, null, { \"name\" : \"Carter\" } ]");
+
+		assertThat(result, hasSize(3));
+		assertThat(((Sample) result.get(0)).name, is("Dave"));
+		assertThat(result.get(1), is(nullValue()));
+		assertThat(((Sample) result.get(2)).name, is("Carter"));
+	}
+
+	@Test
+	public void readsElementsFromNewlineDelimitedJson() throws Exception {
+
+		List<Object> result = read("{ \"name\" : \"Dave\" }\n{ \"name\" : \"Carter\" }\n");
+
+		assertThat(result, hasSize(2));
+		assertThat(((Sample) result.get(1)).name, is("Carter"));
+	}
+
+	@Test
+	public void readsEmptyBatches() throws Exception {
+
+		assertThat(read("[]"), hasSize(0));
+		assertThat(read(""), hasSize(0));
+	}
+
+	@Test
+	public void reportsElementThatCannotBeMappedAndContinues() throws Exception {
+
+		List<Object> result = read("[ { \"name\" : \"Dave\" }, { \"unknown\" : 1 }, { \"name\" : \"Carter\" } ]");
+
+		assertThat(result, hasSize(3));
+		assertThat(result.get(1), is(instanceOf(UnreadableElement.class)));
+		assertThat(((UnreadableElement) result.get(1)).getMessage(), is(notNullValue()));
+		assertThat(((Sample) result.get(2)).name, is("Carter"));
+	}
+
+	@Test
+	public void reportsMalformedElementAsLastElement() throws Exception {
+
+		List<Object> result = read("[ { \"name\" : \"Dave\" }, { \"name\" : ], { \"name\" : \"Carter\" } ]");
+
+		assertThat(result, hasSize(2));
+		assertThat(((Sample) result.get(0)).name, is("Dave"));
+		assertThat(result.get(1), is(instanceOf(UnreadableElement.class)));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsSecondIteration() throws Exception {
+
+		PersistentEntityBatch batch = new PersistentEntityBatch(entity, mapper, mapper.getFactory().createParser("[]"));
+
+		batch.iterator();
+		batch.iterator();
+	}
+
+	private List<Object> read(String source) throws Exception {
+
+		PersistentEntityBatch batch = new PersistentEntityBatch(entity, mapper, mapper.getFactory().createParser(source));
+		List<Object> result = new ArrayList<Object>();
+
+		for (Object element : batch) {
+			result.add(element);
+		}
+
+		return result;
+	}
+
+	static class Sample {
+		public String name;
+	}
+}
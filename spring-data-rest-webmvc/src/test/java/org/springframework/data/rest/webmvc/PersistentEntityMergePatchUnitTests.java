@@ -0,0 +1,212 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link PersistentEntityMergePatch}.
+ * 
+ * @author agent
+ */
+public class PersistentEntityMergePatchUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+	ResourceMetadata metadata = mock(ResourceMetadata.class);
+
+	@Before
+	public void setUp() {
+		when(metadata.isExported(Mockito.any(PersistentProperty.class))).thenReturn(true);
+	}
+
+	@Test
+	public void appliesPresentPropertiesOnly() throws Exception {
+
+		Sample sample = patch("{ \"firstname\" : \"Dave\" }").applyTo(new Sample("1", "Carter", "Beauford"));
+
+		assertThat(sample.firstname, is("Dave"));
+		assertThat(sample.lastname, is("Beauford"));
+	}
+
+	@Test
+	public void clearsPropertiesSetToNull() throws Exception {
+
+		Sample sample = patch("{ \"lastname\" : null }").applyTo(new Sample("1", "Carter", "Beauford"));
+
+		assertThat(sample.firstname, is("Carter"));
+		assertThat(sample.lastname, is(nullValue()));
+	}
+
+	@Test
+	public void doesNotChangeIdentifier() throws Exception {
+
+		Sample sample = patch("{ \"id\" : \"2\", \"firstname\" : \"Dave\" }").applyTo(new Sample("1", "Carter", null));
+
+		assertThat(sample.id, is("1"));
+		assertThat(sample.firstname, is("Dave"));
+	}
+
+	@Test
+	public void doesNotChangeVersion() throws Exception {
+
+		Sample source = new Sample("1", "Carter", null);
+		source.version = 5L;
+
+		Sample sample = patch("{ \"version\" : 7, \"firstname\" : \"Dave\" }").applyTo(source);
+
+		assertThat(sample.version, is(5L));
+		assertThat(sample.firstname, is("Dave"));
+	}
+
+	@Test
+	public void mergesNestedObjectsRecursively() throws Exception {
+
+		Sample source = new Sample("1", "Carter", "Beauford");
+		source.address = new Address("Street", "City");
+
+		Sample sample = patch("{ \"address\" : { \"city\" : \"Town\", \"zip\" : null } }").applyTo(source);
+
+		assertThat(sample.address, is(sameInstance(source.address)));
+		assertThat(sample.address.street, is("Street"));
+		assertThat(sample.address.city, is("Town"));
+		assertThat(sample.address.zip, is(nullValue()));
+	}
+
+	@Test
+	public void setsNestedObjectIfNotPresentYet() throws Exception {
+
+		Sample sample = patch("{ \"address\" : { \"city\" : \"Town\" } }").applyTo(new Sample("1", "Carter", null));
+
+		assertThat(sample.address, is(notNullValue()));
+		assertThat(sample.address.city, is("Town"));
+		assertThat(sample.address.street, is(nullValue()));
+	}
+
+	@Test
+	public void mergesMapsKeyByKey() throws Exception {
+
+		Sample source = new Sample("1", "Carter", null);
+		source.attributes.put("a", "1");
+		source.attributes.put("b", "2");
+		Map<String, String> attributes = source.attributes;
+
+		Sample sample = patch("{ \"attributes\" : { \"b\" : null, \"c\" : \"3\" } }").applyTo(source);
+
+		assertThat(sample.attributes, is(sameInstance(attributes)));
+		assertThat(sample.attributes.size(), is(2));
+		assertThat(sample.attributes, hasEntry("a", "1"));
+		assertThat(sample.attributes, hasEntry("c", "3"));
+	}
+
+	@Test
+	public void mergesObjectsContainedInMapsRecursively() throws Exception {
+
+		Sample source = new Sample("1", "Carter", null);
+		Address home = new Address("Street", "City");
+		source.addresses.put("home", home);
+
+		String document = "{ \"addresses\" : { \"home\" : { \"city\" : \"Town\" }, "
+				+ "\"work\" : { \"city\" : \"Village\" } } }";
+		Sample sample = patch(document).applyTo(source);
+
+		assertThat(sample.addresses.get("home"), is(sameInstance(home)));
+		assertThat(home.street, is("Street"));
+		assertThat(home.city, is("Town"));
+		assertThat(sample.addresses.get("work"), is(instanceOf(Address.class)));
+		assertThat(sample.addresses.get("work").city, is("Village"));
+	}
+
+	@Test
+	public void doesNotMergeIntoExportedAssociations() throws Exception {
+
+		Sample partner = new Sample("2", "Dave", "Matthews");
+		Sample source = new Sample("1", "Carter", null);
+		source.partner = partner;
+
+		patch("{ \"partner\" : { \"firstname\" : \"Boyd\" } }").applyTo(source);
+
+		assertThat(partner.firstname, is("Dave"));
+		assertThat(source.partner, is(not(sameInstance(partner))));
+	}
+
+	@Test(expected = HttpMessageNotReadableException.class)
+	public void rejectsNonObjectDocument() throws Exception {
+		patch("[ { \"firstname\" : \"Dave\" } ]").applyTo(new Sample("1", "Carter", "Beauford"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsSecondApplication() throws Exception {
+
+		PersistentEntityMergePatch patch = patch("{}");
+
+		patch.applyTo(new Sample("1", "Carter", "Beauford"));
+		patch.applyTo(new Sample("1", "Carter", "Beauford"));
+	}
+
+	private PersistentEntityMergePatch patch(String source) throws Exception {
+		return new PersistentEntityMergePatch(entity, metadata, mapper, mapper.getFactory().createParser(source));
+	}
+
+	static class Sample {
+
+		public String id, firstname, lastname;
+		public @Version Long version;
+		public Address address;
+		public Map<String, String> attributes = new HashMap<String, String>();
+		public Map<String, Address> addresses = new HashMap<String, Address>();
+		public @Reference Sample partner;
+
+		public Sample() {}
+
+		public Sample(String id, String firstname, String lastname) {
+			this.id = id;
+			this.firstname = firstname;
+			this.lastname = lastname;
+		}
+	}
+
+	static class Address {
+
+		public String street, city, zip;
+
+		public Address() {}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+			this.zip = "12345";
+		}
+	}
+}
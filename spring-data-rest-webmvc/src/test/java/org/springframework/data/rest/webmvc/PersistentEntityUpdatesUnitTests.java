@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link PersistentEntityUpdates}.
+ * 
+ * @author agent
+ */
+public class PersistentEntityUpdatesUnitTests {
+
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+
+	@Test
+	public void readsUpdatesKeyedByIdentifierInOrder() throws Exception {
+
+		PersistentEntityUpdates updates = read("{ \"2\" : { \"name\" : \"Dave\" }, \"1\" : { \"name\" : \"Carter\" } }");
+
+		assertThat(updates.getIds(), contains("2", "1"));
+		assertThat(((Sample) updates.getUpdateFor("2")).name, is("Dave"));
+		assertThat(((Sample) updates.getUpdateFor("1")).name, is("Carter"));
+	}
+
+	@Test
+	public void keepsNullUpdates() throws Exception {
+
+		PersistentEntityUpdates updates = read("{ \"1\" : null }");
+
+		assertThat(updates.getIds(), contains("1"));
+		assertThat(updates.getUpdateFor("1"), is(nullValue()));
+	}
+
+	@Test(expected = HttpMessageNotReadableException.class)
+	public void rejectsNonObjectDocument() throws Exception {
+		read("[ { \"name\" : \"Dave\" } ]");
+	}
+
+	private PersistentEntityUpdates read(String source) throws Exception {
+		return PersistentEntityUpdates.read(entity, mapper, mapper.getFactory().createParser(source));
+	}
+
+	static class Sample {
+		public String name;
+	}
+}
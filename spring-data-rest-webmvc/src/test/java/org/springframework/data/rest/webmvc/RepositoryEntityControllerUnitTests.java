@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.BeforeCreateEvent;
+import org.springframework.data.rest.core.invoke.RepositoryInvoker;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.hateoas.EntityLinks;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link RepositoryEntityController}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RepositoryEntityControllerUnitTests {
+
+	@Mock ResourceMetadata metadata;
+	@Mock RepositoryInvoker invoker;
+	@Mock PersistentEntityResourceAssembler<Object> perAssembler;
+	@Mock ApplicationEventPublisher publisher;
+
+	ObjectMapper mapper = new ObjectMapper();
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+	RepositoryRestConfiguration config = new RepositoryRestConfiguration();
+
+	RepositoryEntityController controller;
+	RootResourceInformation information;
+
+	@Before
+	public void setUp() {
+
+		when(metadata.isExported()).thenReturn(true);
+		when(invoker.exposesSave()).thenReturn(true);
+		when(perAssembler.getSelfLinkFor(any())).thenReturn(new Link("http://localhost/samples/1"));
+		when(invoker.invokeSaveAll(Mockito.<Iterable<Object>> any())).thenAnswer(new SavingAnswer());
+
+		this.information = new RootResourceInformation(metadata, entity, invoker);
+		this.controller = new RepositoryEntityController(null, config, mock(EntityLinks.class), null, perAssembler,
+				new DefaultConversionService(), null, null);
+		this.controller.setApplicationEventPublisher(publisher);
+	}
+
+	@Test
+	public void reportsResultPerElementOfBatch() throws Exception {
+
+		List<BatchResult> results = postBatch("[ { \"name\" : \"Dave\" }, { \"name\" : \"Carter\", \"broken\" : true }, "
+				+ "{ \"unknown\" : 1 }, { \"name\" : \"Oliver\" } ]");
+
+		assertThat(results, hasSize(4));
+		assertThat(results.get(0).getStatus(), is(201));
+		assertThat(results.get(0).getHref(), is("http://localhost/samples/1"));
+		assertThat(results.get(1).getStatus(), is(409));
+		assertThat(results.get(2).getStatus(), is(400));
+		assertThat(results.get(3).getStatus(), is(201));
+	}
+
+	@Test
+	public void publishesAfterCreateEventOnlyOnceForElementsSavedAfterRetry() throws Exception {
+
+		postBatch("[ { \"name\" : \"Dave\" }, { \"name\" : \"Carter\", \"broken\" : true } ]");
+
+		verify(publisher, times(2)).publishEvent(isA(BeforeCreateEvent.class));
+		verify(publisher, times(1)).publishEvent(isA(AfterCreateEvent.class));
+	}
+
+	@Test
+	public void reportsSyntacticallyBrokenElementAsLastResult() throws Exception {
+
+		List<BatchResult> results = postBatch("[ { \"name\" : \"Dave\" }, { \"name\" : ], { \"name\" : \"Carter\" } ]");
+
+		assertThat(results, hasSize(2));
+		assertThat(results.get(0).getStatus(), is(201));
+		assertThat(results.get(1).getStatus(), is(400));
+	}
+
+	private List<BatchResult> postBatch(String source) throws Exception {
+
+		PersistentEntityBatch batch = new PersistentEntityBatch(entity, mapper, mapper.getFactory().createParser(source));
+		return controller.postEntities(information, batch).getBody();
+	}
+
+	/**
+	 * Assigns identifier and version to the elements handed to the repository and fails if one of them is marked as
+	 * broken. Verifies elements are handed to the repository without identifier, i.e. they were reset after a rollback.
+	 * 
+	 * @author agent
+	 */
+	static class SavingAnswer implements Answer<Iterable<Object>> {
+
+		/* 
+		 * (non-Javadoc)
+		 * @see org.mockito.stubbing.Answer#answer(org.mockito.invocation.InvocationOnMock)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public Iterable<Object> answer(InvocationOnMock invocation) throws Throwable {
+
+			Iterable<Object> elements = (Iterable<Object>) invocation.getArguments()[0];
+
+			for (Object element : elements) {
+
+				Sample sample = (Sample) element;
+
+				assertThat(sample.id, is(nullValue()));
+				assertThat(sample.version, is(nullValue()));
+
+				sample.id = UUID.randomUUID().toString();
+				sample.version = 0L;
+			}
+
+			for (Object element : elements) {
+				if (((Sample) element).broken) {
+					throw new DataIntegrityViolationException("Broken!");
+				}
+			}
+
+			return elements;
+		}
+	}
+
+	static class Sample {
+
+		public @Id String id;
+		public @Version Long version;
+		public String name;
+		public boolean broken;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * Unit tests for {@link RepositoryPropertyReferenceController}.
+ * 
+ * @author agent
+ */
+public class RepositoryPropertyReferenceControllerUnitTests {
+
+	static final List<Object> ELEMENTS = Arrays.<Object> asList(1, 2, 3, 4, 5);
+
+	@Test
+	public void cutsPageOutOfCollection() {
+
+		Page<Object> page = RepositoryPropertyReferenceController.toPage(ELEMENTS, new PageRequest(1, 2));
+
+		assertThat(page.getContent(), contains((Object) 3, 4));
+		assertThat(page.getTotalElements(), is(5L));
+		assertThat(page.hasNext(), is(true));
+	}
+
+	@Test
+	public void countsAllElementsOfPlainIterableForTotal() {
+
+		Page<Object> page = RepositoryPropertyReferenceController.toPage(new Iterable<Object>() {
+
+			@Override
+			public Iterator<Object> iterator() {
+				return ELEMENTS.iterator();
+			}
+		}, new PageRequest(0, 2));
+
+		assertThat(page.getContent(), contains((Object) 1, 2));
+		assertThat(page.getTotalElements(), is(5L));
+		assertThat(page.getTotalPages(), is(3));
+	}
+
+	@Test
+	public void returnsEmptyPageBeyondLastElement() {
+
+		Page<Object> page = RepositoryPropertyReferenceController.toPage(ELEMENTS, new PageRequest(3, 2));
+
+		assertThat(page.getContent(), is(empty()));
+		assertThat(page.getTotalElements(), is(5L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsSortedPageRequest() {
+		RepositoryPropertyReferenceController.toPage(ELEMENTS, new PageRequest(0, 2, Direction.ASC, "name"));
+	}
+}
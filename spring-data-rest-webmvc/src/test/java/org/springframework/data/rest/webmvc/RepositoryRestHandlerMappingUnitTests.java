@@ -33,6 +33,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.method.HandlerMethod;
 
@@ -100,4 +101,46 @@ public class RepositoryRestHandlerMappingUnitTests {
 		assertThat(method, is(notNullValue()));
 		assertThat(method.getMethod(), is(listEntitiesMethod));
 	}
+
+	@Test
+	public void servesRepeatedAcceptHeadersFromCache() throws Exception {
+
+		mockRequest.addHeader("Accept", "application/*, application/json");
+
+		handlerMapping.lookupHandlerMethod("/foo", mockRequest);
+		handlerMapping.lookupHandlerMethod("/foo", mockRequest);
+		handlerMapping.lookupHandlerMethod("/foo", mockRequest);
+
+		assertThat(handlerMapping.getAcceptCacheMisses(), is(1L));
+		assertThat(handlerMapping.getAcceptCacheHits(), is(2L));
+	}
+
+	@Test
+	public void recalculatesCachedAcceptHeaderIfDefaultMediaTypeChanges() throws Exception {
+
+		mockRequest.addHeader("Accept", "*/*");
+
+		handlerMapping.lookupHandlerMethod("/foo", mockRequest);
+		configuration.setDefaultMediaType(MediaType.APPLICATION_JSON);
+		handlerMapping.lookupHandlerMethod("/foo", mockRequest);
+
+		assertThat(handlerMapping.getAcceptCacheMisses(), is(2L));
+		assertThat(handlerMapping.getAcceptCacheHits(), is(0L));
+	}
+
+	@Test
+	public void doesNotCacheMoreThanTheConfiguredNumberOfAcceptHeaders() throws Exception {
+
+		for (int i = 0; i <= RepositoryRestHandlerMapping.ACCEPT_CACHE_LIMIT; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest();
+			request.addHeader("Accept", "application/vnd.sample" + i + "+json");
+			handlerMapping.lookupHandlerMethod("/foo", request);
+		}
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Accept", "application/vnd.sample" + RepositoryRestHandlerMapping.ACCEPT_CACHE_LIMIT + "+json");
+		handlerMapping.lookupHandlerMethod("/foo", request);
+
+		assertThat(handlerMapping.getAcceptCacheHits(), is(0L));
+	}
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
+
+/**
+ * Unit tests for {@link SlicedResourcesAssembler}.
+ * 
+ * @author agent
+ */
+public class SlicedResourcesAssemblerUnitTests {
+
+	static final String BASE_URI = "http://localhost/samples";
+
+	SlicedResourcesAssembler<String> assembler = new SlicedResourcesAssembler<String>(
+			new HateoasPageableHandlerMethodArgumentResolver());
+
+	@Test
+	public void exposesNextLinkAndMetadataIfMoreElementsAvailable() {
+
+		Slice<String> slice = new SliceImpl<String>(Arrays.asList("foo", "bar"), new PageRequest(0, 2), true);
+		SlicedResources<Resource<String>> resources = assembler.toResource(slice, new StringResourceAssembler(),
+				BASE_URI);
+
+		assertThat(resources.getContent(), hasSize(2));
+		assertThat(resources.getMetadata().getNumber(), is(0L));
+		assertThat(resources.getMetadata().getSize(), is(2L));
+		assertThat(resources.getMetadata().hasNext(), is(true));
+
+		assertThat(resources.getLink(Link.REL_PREVIOUS), is(nullValue()));
+
+		Link next = resources.getLink(Link.REL_NEXT);
+		assertThat(next, is(notNullValue()));
+		assertThat(next.getHref(), startsWith(BASE_URI));
+		assertThat(next.getHref(), containsString("page=1"));
+	}
+
+	@Test
+	public void exposesPreviousLinkOnlyForLastSlice() {
+
+		Slice<String> slice = new SliceImpl<String>(Arrays.asList("foo"), new PageRequest(1, 2), false);
+		SlicedResources<Resource<String>> resources = assembler.toResource(slice, new StringResourceAssembler(),
+				BASE_URI);
+
+		assertThat(resources.getMetadata().hasNext(), is(false));
+		assertThat(resources.getLink(Link.REL_NEXT), is(nullValue()));
+		assertThat(resources.getLink(Link.REL_PREVIOUS).getHref(), containsString("page=0"));
+	}
+
+	static class StringResourceAssembler implements ResourceAssembler<String, Resource<String>> {
+
+		@Override
+		public Resource<String> toResource(String entity) {
+			return new Resource<String>(entity);
+		}
+	}
+}
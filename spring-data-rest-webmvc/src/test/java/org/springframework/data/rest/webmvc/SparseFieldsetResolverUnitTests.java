@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.mongodb.Profile;
+import org.springframework.data.rest.webmvc.mongodb.User;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Unit tests for {@link SparseFieldsetResolver}.
+ * 
+ * @author agent
+ */
+public class SparseFieldsetResolverUnitTests {
+
+	RepositoryRestConfiguration config;
+	SparseFieldsetResolver resolver;
+	MongoMappingContext context;
+
+	@Before
+	public void setUp() {
+
+		context = new MongoMappingContext();
+		config = new RepositoryRestConfiguration();
+		config.exposeFieldsPresetFor(User.class, "summary", "firstname", "lastname");
+
+		resolver = new SparseFieldsetResolver(config);
+	}
+
+	@Test
+	public void resolvesPlainPropertyNames() {
+
+		Set<String> fields = resolver.resolveFields(context.getPersistentEntity(User.class), "firstname, address");
+		assertThat(fields, contains("firstname", "address"));
+	}
+
+	@Test
+	public void expandsPresets() {
+
+		Set<String> fields = resolver.resolveFields(context.getPersistentEntity(User.class), "summary,address");
+		assertThat(fields, contains("firstname", "lastname", "address"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void doesNotExpandPresetsOfOtherTypes() {
+		resolver.resolveFields(context.getPersistentEntity(Profile.class), "summary");
+	}
+
+	@Test
+	public void rejectsUnknownFieldsListingAllOfThem() {
+
+		try {
+			resolver.resolveFields(context.getPersistentEntity(User.class), "firstname,email,phone");
+			fail("Expected IllegalArgumentException!");
+		} catch (IllegalArgumentException o_O) {
+			assertThat(o_O.getMessage(), allOf(containsString("email"), containsString("phone")));
+			assertThat(o_O.getMessage(), not(containsString("firstname")));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyFieldSelection() {
+		resolver.resolveFields(context.getPersistentEntity(User.class), " , ");
+	}
+
+	@Test
+	public void limitsResourceToRequestedFields() {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(User.class);
+		PersistentEntityResource<Object> resource = PersistentEntityResource.wrap(entity, (Object) new User());
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addParameter(SparseFieldsetResolver.FIELDS_PARAMETER, "summary");
+
+		resolver.limitFields(resource, new ServletWebRequest(request));
+
+		assertThat(resource.getFields(), hasSize(2));
+		assertThat(resource.getFields(), hasItems("firstname", "lastname"));
+	}
+
+	@Test
+	public void rendersAllFieldsIfParameterIsNotGiven() {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(User.class);
+		PersistentEntityResource<Object> resource = PersistentEntityResource.wrap(entity, (Object) new User());
+
+		resolver.limitFields(resource, new ServletWebRequest(new MockHttpServletRequest()));
+
+		assertThat(resource.getFields(), is(nullValue()));
+	}
+}
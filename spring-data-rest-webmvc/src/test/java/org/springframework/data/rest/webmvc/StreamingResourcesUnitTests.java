@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceAssembler;
+
+/**
+ * Unit tests for {@link StreamingResources}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingResourcesUnitTests {
+
+	@Mock ResourceAssembler<Object, PersistentEntityResource<Object>> assembler;
+	@Mock PersistentEntityResource<Object> resource;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullSource() {
+		new StreamingResources(Object.class, null, assembler, Collections.<Link> emptyList());
+	}
+
+	@Test
+	public void assemblesItemResourcesLazily() {
+
+		when(assembler.toResource(any())).thenReturn(resource);
+
+		StreamingResources resources = new StreamingResources(Object.class, Arrays.<Object> asList("foo", "bar"),
+				assembler, Collections.<Link> emptyList());
+
+		verify(assembler, never()).toResource(any());
+
+		Iterator<PersistentEntityResource<Object>> iterator = resources.iterator();
+
+		assertThat(iterator.next(), is(resource));
+		verify(assembler, times(1)).toResource("foo");
+		verify(assembler, never()).toResource("bar");
+	}
+
+	@Test
+	public void materializesContentIfRequested() {
+
+		when(assembler.toResource(any())).thenReturn(resource);
+
+		StreamingResources resources = new StreamingResources(Object.class, Arrays.<Object> asList("foo", "bar"),
+				assembler, Collections.<Link> emptyList());
+
+		assertThat(resources.getContent(), hasSize(2));
+		verify(assembler, times(2)).toResource(any());
+	}
+
+	@Test
+	public void limitsAssembledItemResourcesToSelectedFields() {
+
+		when(assembler.toResource(any())).thenReturn(resource);
+
+		StreamingResources resources = new StreamingResources(Object.class, Arrays.<Object> asList("foo"), assembler,
+				Collections.<Link> emptyList());
+		resources.limitTo(Collections.singleton("firstname"));
+
+		assertThat(resources.iterator().next(), is(resource));
+		verify(resource, times(1)).limitTo(Collections.singleton("firstname"));
+	}
+}
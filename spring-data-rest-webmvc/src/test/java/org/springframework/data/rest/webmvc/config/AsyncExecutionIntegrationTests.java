@@ -0,0 +1,102 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the asynchronous variants of the collection and search resources.
+ * 
+ * @author agent
+ */
+@ContextConfiguration(classes = { AsyncExecutionIntegrationTests.Config.class, JpaRepositoryConfig.class })
+public class AsyncExecutionIntegrationTests extends AbstractRepositoryRestMvcConfigurationIntegrationTests {
+
+	@Configuration
+	static class Config extends RepositoryRestMvcConfiguration {
+
+		@Override
+		protected void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.setAsyncEnabled(true);
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.config.AbstractRepositoryRestMvcConfigurationIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+	}
+
+	@Test
+	public void rendersCollectionResourceWithLinksAsynchronously() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people").accept(MediaTypes.HAL_JSON)). //
+				andExpect(request().asyncStarted()). //
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", startsWith("http://localhost/people/"))). //
+				andExpect(jsonPath("$._links.search.href", is(notNullValue())));
+	}
+
+	@Test
+	public void rendersCollectionResourceLimitedToFieldsAsynchronously() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people?fields=firstName").accept(MediaTypes.HAL_JSON)). //
+				andExpect(request().asyncStarted()). //
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0].firstName", is(notNullValue()))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", startsWith("http://localhost/people/")));
+	}
+
+	@Test
+	public void rendersSearchResultsAsynchronously() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people/search/firstname?firstName=John").accept(MediaTypes.HAL_JSON)). //
+				andExpect(request().asyncStarted()). //
+				andReturn();
+
+		mvc.perform(asyncDispatch(result)). //
+				andExpect(status().isOk()). //
+				andExpect(jsonPath("$._embedded.people[0].firstName", is("John"))). //
+				andExpect(jsonPath("$._embedded.people[0]._links.self.href", startsWith("http://localhost/people/")));
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for embedding associations using an embedding query.
+ * 
+ * @author agent
+ */
+@ContextConfiguration(classes = { EmbeddingQueryIntegrationTests.Config.class, JpaRepositoryConfig.class })
+public class EmbeddingQueryIntegrationTests extends AbstractRepositoryRestMvcConfigurationIntegrationTests {
+
+	@Configuration
+	static class Config extends RepositoryRestMvcConfiguration {
+
+		@Override
+		protected void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.exposeEmbeddingQueryFor(Person.class, "siblings", "findSiblingIds", "ids");
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	Person frodo, bilbo, merry, pippin;
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.config.AbstractRepositoryRestMvcConfigurationIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		bilbo = people.save(new Person("Bilbo", "Baggins"));
+		merry = people.save(new Person("Merry", "Brandybuck"));
+		pippin = people.save(new Person("Pippin", "Took"));
+
+		frodo = new Person("Frodo", "Baggins");
+		frodo.setSiblings(Arrays.asList(bilbo, merry));
+		frodo = people.save(frodo);
+
+		super.setUp();
+	}
+
+	@Test
+	public void embedsAssociationUsingEmbeddingQuery() throws Exception {
+
+		mvc.perform(get("/people/" + frodo.getId() + "?embed=siblings").accept(MediaTypes.HAL_JSON)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.siblings[*].firstName", containsInAnyOrder("Bilbo", "Merry"))).//
+				andExpect(jsonPath("$._embedded.siblings[*]._links.self.href",
+						hasItem(endsWith("/people/" + bilbo.getId()))));
+	}
+
+	@Test
+	public void embedsEmptyCollectionForOwnerWithoutAssociatedEntities() throws Exception {
+
+		mvc.perform(get("/people/" + pippin.getId() + "?embed=siblings").accept(MediaTypes.HAL_JSON)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.siblings", hasSize(0)));
+	}
+}
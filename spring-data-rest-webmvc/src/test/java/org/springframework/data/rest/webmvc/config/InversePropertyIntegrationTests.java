@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for looking up elements of a collection association through an inverse property.
+ * 
+ * @author agent
+ */
+@ContextConfiguration(classes = { InversePropertyIntegrationTests.Config.class, JpaRepositoryConfig.class })
+public class InversePropertyIntegrationTests extends AbstractRepositoryRestMvcConfigurationIntegrationTests {
+
+	@Configuration
+	static class Config extends RepositoryRestMvcConfiguration {
+
+		@Override
+		protected void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.setInversePropertyFor(Person.class, "siblings", "father");
+		}
+	}
+
+	@Autowired PersonRepository people;
+
+	Person frodo, bilbo, merry;
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.config.AbstractRepositoryRestMvcConfigurationIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		frodo = people.save(new Person("Frodo", "Baggins"));
+		Person pippin = people.save(new Person("Pippin", "Took"));
+
+		bilbo = new Person("Bilbo", "Baggins");
+		bilbo.setFather(frodo);
+		bilbo = people.save(bilbo);
+
+		merry = new Person("Merry", "Brandybuck");
+		merry.setFather(pippin);
+		merry = people.save(merry);
+
+		super.setUp();
+	}
+
+	@Test
+	public void returnsElementPointingBackToOwner() throws Exception {
+
+		String href = String.format("/people/%s/siblings/%s", frodo.getId(), bilbo.getId());
+
+		mvc.perform(get(href).accept(MediaTypes.HAL_JSON)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.firstName", is("Bilbo"))).//
+				andExpect(header().string("Content-Location", endsWith("/people/" + bilbo.getId())));
+	}
+
+	@Test
+	public void returnsNotFoundForElementBelongingToOtherOwner() throws Exception {
+
+		String href = String.format("/people/%s/siblings/%s", frodo.getId(), merry.getId());
+
+		mvc.perform(get(href).accept(MediaTypes.HAL_JSON)).//
+				andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void returnsNotFoundForUnknownElement() throws Exception {
+
+		String href = String.format("/people/%s/siblings/%s", frodo.getId(), Long.MAX_VALUE);
+
+		mvc.perform(get(href).accept(MediaTypes.HAL_JSON)).//
+				andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.StreamingResources;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RelProvider;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.hal.DefaultCurieProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link StreamingResourcesHttpMessageConverter}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingResourcesHttpMessageConverterUnitTests {
+
+	@Mock ResourceAssembler<Object, PersistentEntityResource<Object>> assembler;
+
+	RelProvider relProvider = new EvoInflectorRelProvider();
+	ObjectMapper mapper;
+	StreamingResourcesHttpMessageConverter converter;
+
+	@Before
+	public void setUp() {
+
+		mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(relProvider, new DefaultCurieProvider("ex",
+				new UriTemplate("http://localhost/rels/{rel}"))));
+
+		converter = new StreamingResourcesHttpMessageConverter(mapper, relProvider, Arrays.asList(MediaTypes.HAL_JSON));
+	}
+
+	@Test
+	public void rendersLinksUsingHalSetupOfTheObjectMapper() throws Exception {
+
+		StreamingResources resources = new StreamingResources(Object.class, Collections.<Object> emptyList(), assembler,
+				Arrays.asList(new Link("http://localhost/people"), new Link("http://localhost/people/search", "search")));
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(resources, MediaTypes.HAL_JSON, message);
+
+		JsonNode links = mapper.readTree(message.getBodyAsString(Charset.forName("UTF-8"))).path("_links");
+
+		assertThat(links.path("self").path("href").asText(), is("http://localhost/people"));
+		assertThat(links.path("ex:search").path("href").asText(), is("http://localhost/people/search"));
+		assertThat(links.path("curies").get(0).path("name").asText(), is("ex"));
+
+		verifyZeroInteractions(assembler);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter.LinkHandler;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Unit tests for {@link UriListHttpMessageConverter}.
+ * 
+ * @author agent
+ */
+public class UriListHttpMessageConverterUnitTests {
+
+	UriListHttpMessageConverter converter = new UriListHttpMessageConverter();
+
+	@Test
+	public void readsLinksSkippingBlankLinesAndComments() throws Exception {
+
+		MockHttpInputMessage message = new MockHttpInputMessage(
+				"# comment\r\nhttp://localhost/people/1\r\n\r\n  http://localhost/people/2  \nhttp://localhost/people/3"
+						.getBytes("UTF-8"));
+
+		ResourceSupport result = converter.read(ResourceSupport.class, message);
+
+		assertThat(result.getLinks(), hasSize(3));
+		assertThat(result.getLinks().get(0).getHref(), is("http://localhost/people/1"));
+		assertThat(result.getLinks().get(1).getHref(), is("http://localhost/people/2"));
+		assertThat(result.getLinks().get(2).getHref(), is("http://localhost/people/3"));
+	}
+
+	@Test
+	public void handsLinksToHandlerInBatches() throws Exception {
+
+		MockHttpInputMessage message = new MockHttpInputMessage(
+				"http://localhost/people/1\nhttp://localhost/people/2\n\nhttp://localhost/people/3\n".getBytes("UTF-8"));
+		final List<List<Link>> batches = new ArrayList<List<Link>>();
+
+		converter.read(message, 2, new LinkHandler() {
+
+			@Override
+			public void handle(List<Link> links) {
+				batches.add(links);
+			}
+		});
+
+		assertThat(batches, hasSize(2));
+		assertThat(batches.get(0), hasSize(2));
+		assertThat(batches.get(1), hasSize(1));
+		assertThat(batches.get(1).get(0).getHref(), is("http://localhost/people/3"));
+	}
+
+	@Test
+	public void readsNonAsciiLinksAsUtf8ByDefault() throws Exception {
+
+		MockHttpInputMessage message = new MockHttpInputMessage("http://localhost/people/J\u00fcrgen".getBytes("UTF-8"));
+
+		assertThat(converter.read(ResourceSupport.class, message).getLinks().get(0).getHref(),
+				is("http://localhost/people/J\u00fcrgen"));
+	}
+
+	@Test
+	public void readsLinksInUtf16() throws Exception {
+
+		Charset utf16 = Charset.forName("UTF-16");
+		MockHttpInputMessage message = new MockHttpInputMessage(
+				"http://localhost/people/1\r\nhttp://localhost/people/J\u00fcrgen\n".getBytes("UTF-16"));
+		message.getHeaders().setContentType(new MediaType("text", "uri-list", utf16));
+
+		ResourceSupport result = converter.read(ResourceSupport.class, message);
+
+		assertThat(result.getLinks(), hasSize(2));
+		assertThat(result.getLinks().get(0).getHref(), is("http://localhost/people/1"));
+		assertThat(result.getLinks().get(1).getHref(), is("http://localhost/people/J\u00fcrgen"));
+	}
+
+	@Test(expected = HttpMessageNotReadableException.class)
+	public void rejectsBodyNotEncodedInCharsetGiven() throws Exception {
+
+		MockHttpInputMessage message = new MockHttpInputMessage(new byte[] { 'h', (byte) 0xC3, (byte) 0x28 });
+		converter.read(ResourceSupport.class, message);
+	}
+
+	@Test
+	public void writesLinksInUtf16() throws Exception {
+
+		Charset utf16 = Charset.forName("UTF-16");
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("http://localhost/people/1"));
+		resource.add(new Link("http://localhost/people/2"));
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(resource, new MediaType("text", "uri-list", utf16), message);
+
+		assertThat(message.getBodyAsString(utf16), is("http://localhost/people/1\r\nhttp://localhost/people/2\r\n"));
+	}
+
+	@Test
+	public void writesLinksAsUtf8WithCrLf() throws Exception {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("http://localhost/people/1"));
+		resource.add(new Link("http://localhost/people/J\u00fcrgen"));
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		converter.write(resource, MediaType.parseMediaType("text/uri-list"), message);
+
+		assertThat(message.getBodyAsString(Charset.forName("UTF-8")),
+				is("http://localhost/people/1\r\nhttp://localhost/people/J\u00fcrgen\r\n"));
+		assertThat(message.getHeaders().getContentType().getCharSet().name(), is("UTF-8"));
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.rest.webmvc.jpa;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -22,4 +25,6 @@ import org.springframework.data.repository.CrudRepository;
  */
 public interface AuthorRepository extends CrudRepository<Author, Long> {
 
+	@Query("select a.id from Author a")
+	Page<Long> findAllIds(Pageable pageable);
 }
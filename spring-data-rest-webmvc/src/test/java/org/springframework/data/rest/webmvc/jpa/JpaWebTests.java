@@ -30,12 +30,15 @@ import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.AbstractWebIntegrationTests;
 import org.springframework.hateoas.Link;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -56,10 +59,13 @@ import com.jayway.jsonpath.JsonPath;
 public class JpaWebTests extends AbstractWebIntegrationTests {
 
 	private static final MediaType TEXT_URI_LIST = MediaType.valueOf("text/uri-list");
+	private static final MediaType COMPACT_JSON = MediaType.valueOf("application/x-spring-data-compact+json");
 	static final String LINK_TO_SIBLINGS_OF = "$._embedded..[?(@.firstName == '%s')]._links.siblings.href[0]";
 
 	@Autowired TestDataPopulator loader;
 	@Autowired ResourceMappings mappings;
+	@Autowired RepositoryRestConfiguration config;
+	@Autowired AuthorRepository authors;
 
 	ObjectMapper mapper = new ObjectMapper();
 
@@ -163,6 +169,86 @@ public class JpaWebTests extends AbstractWebIntegrationTests {
 		assertHasJsonPathValue("$..lineItems", orders);
 	}
 
+	@Test
+	public void embedsRequestedAssociations() throws Exception {
+
+		MockHttpServletResponse response = request("/");
+		Link ordersLink = assertHasLinkWithRel("orders", response);
+
+		MockHttpServletResponse orders = request(ordersLink.expand().getHref() + "?embed=creator");
+
+		assertHasJsonPathValue("$.._embedded.creator.firstName", orders);
+		assertHasJsonPathValue("$.._embedded.creator._links.self", orders);
+		assertHasContentLinkWithRel("creator", orders);
+	}
+
+	@Test
+	public void embedsRequestedCollectionAssociations() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+		putAndGet(frodosSiblingsLink, toUriList(links.get(1), links.get(2)), TEXT_URI_LIST);
+
+		String siblingsHref = frodosSiblingsLink.expand().getHref();
+		String frodoHref = siblingsHref.substring(0, siblingsHref.lastIndexOf('/'));
+
+		String content = request(frodoHref + "?embed=siblings").getContentAsString();
+
+		List<String> names = JsonPath.read(content, "$._embedded.siblings[*].firstName");
+		assertThat(names, hasSize(2));
+		assertThat(names, hasItems("Bilbo", "Merry"));
+
+		List<String> selfLinks = JsonPath.read(content, "$._embedded.siblings[*]._links.self.href");
+		assertThat(selfLinks, hasItems(links.get(1).expand().getHref(), links.get(2).expand().getHref()));
+	}
+
+	@Test
+	public void doesNotEmbedAssociationsIfNotRequested() throws Exception {
+
+		MockHttpServletResponse response = request("/");
+		Link ordersLink = assertHasLinkWithRel("orders", response);
+
+		assertJsonPathDoesntExist("$._embedded.orders[0]._embedded", request(ordersLink));
+	}
+
+	@Test
+	public void limitsRenderedPropertiesToRequestedFields() throws Exception {
+
+		MockHttpServletResponse response = request("/people?fields=firstName");
+
+		assertHasJsonPathValue("$._embedded.people[0].firstName", response);
+		assertHasJsonPathValue("$._embedded.people[0]._links.self", response);
+		assertJsonPathDoesntExist("$._embedded.people[0].lastName", response);
+	}
+
+	@Test
+	public void rejectsUnknownOrEmptyFieldSelection() throws Exception {
+
+		mvc.perform(get("/people?fields=firstName,unknown")).//
+				andExpect(status().isBadRequest()).//
+				andExpect(content().string(containsString("unknown")));
+
+		mvc.perform(get("/people?fields=")).//
+				andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void rendersCompactCollectionResourceIfFieldsAreRequested() throws Exception {
+
+		mvc.perform(get("/people?fields=firstName").accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andExpect(content().string(containsString("http://localhost/people/"))).//
+				andExpect(content().string(not(containsString("firstName"))));
+
+		mvc.perform(get("/people?fields=firstName").accept(COMPACT_JSON)).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.links[*].rel", hasItem("person"))).//
+				andExpect(jsonPath("$.content", is(empty())));
+	}
+
 	/**
 	 * @see DATAREST-199
 	 */
@@ -342,6 +428,155 @@ public class JpaWebTests extends AbstractWebIntegrationTests {
 		assertSiblingNames(frodosSiblingsLink, "Bilbo", "Merry");
 	}
 
+	@Test
+	public void resolvesUrisSubmittedForCollectionAssociation() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"));
+
+		String bilboId = new UriTemplate("/people/{id}").match(links.get(1).getHref()).get("id");
+		String payload = String.format("{ \"firstName\" : \"Pippin\", \"siblings\" : [ \"/people/0%s\", \"%s\" ] }",
+				bilboId, links.get(2).expand().getHref());
+
+		MockHttpServletResponse response = postAndGet(discoverUnique("people"), payload, MediaType.APPLICATION_JSON);
+
+		assertSiblingNames(assertHasLinkWithRel("siblings", response), "Bilbo", "Merry");
+	}
+
+	@Test
+	public void rejectsUnresolvableUrisSubmittedForCollectionAssociationAtOnce() throws Exception {
+
+		String payload = "{ \"firstName\" : \"Pippin\", \"siblings\" : [ \"/people/4711\", \"/people/4712\" ] }";
+
+		mvc.perform(post("/people").content(payload).contentType(MediaType.APPLICATION_JSON)).//
+				andExpect(status().isBadRequest()).//
+				andExpect(content().string(allOf(containsString("/people/4711"), containsString("/people/4712"))));
+	}
+
+	@Test
+	public void rejectsUnresolvableUrisOfAllAssociationsOfTheDocumentAtOnce() throws Exception {
+
+		String payload = "{ \"firstName\" : \"Pippin\", \"father\" : \"/people/4713\", " //
+				+ "\"siblings\" : [ \"/people/4714\" ] }";
+
+		mvc.perform(post("/people").content(payload).contentType(MediaType.APPLICATION_JSON)).//
+				andExpect(status().isBadRequest()).//
+				andExpect(content().string(allOf(containsString("/people/4713"), containsString("/people/4714"))));
+	}
+
+	@Test
+	public void rejectsUrisOfOtherRepositoriesSubmittedForCollectionAssociation() throws Exception {
+
+		String payload = "{ \"firstName\" : \"Pippin\", \"siblings\" : [ \"/orders/1\" ] }";
+
+		mvc.perform(post("/people").content(payload).contentType(MediaType.APPLICATION_JSON)).//
+				andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void putsUriListToCollectionPropertyResolvingAllLinksAtOnce() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+		String bilboId = new UriTemplate("/people/{id}").match(links.get(1).getHref()).get("id");
+
+		putAndGet(frodosSiblingsLink, "/people/0" + bilboId + "\n" + links.get(2).expand().getHref(), TEXT_URI_LIST);
+
+		assertSiblingNames(frodosSiblingsLink, "Bilbo", "Merry");
+	}
+
+	@Test
+	public void rejectsUriListWithUnresolvableLinksForCollectionProperty() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+		String href = frodosSiblingsLink.expand().getHref();
+
+		putAndGet(frodosSiblingsLink, toUriList(links.get(1)), TEXT_URI_LIST);
+
+		for (String payload : Arrays.asList(toUriList(links.get(1)) + "\n/people/4711", "/orders/1")) {
+
+			mvc.perform(put(href).content(payload).contentType(TEXT_URI_LIST)).//
+					andExpect(status().isBadRequest());
+			mvc.perform(MockMvcRequestBuilders.request(HttpMethod.PATCH, href).content(payload).contentType(TEXT_URI_LIST)).//
+					andExpect(status().isBadRequest());
+		}
+
+		assertSiblingNames(frodosSiblingsLink, "Bilbo");
+	}
+
+	@Test
+	public void deletesEntitiesReferredToByUriList() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"));
+
+		mvc.perform(delete("/people").content(toUriList(links.get(1), links.get(2))).contentType(TEXT_URI_LIST)).//
+				andExpect(status().isNoContent());
+
+		mvc.perform(get(links.get(1).expand().getHref())).andExpect(status().isNotFound());
+		mvc.perform(get(links.get(2).expand().getHref())).andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void rejectsDeletionByUriListContainingForeignOrMalformedUris() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"));
+
+		String bilbo = links.get(1).expand().getHref();
+
+		for (String invalid : Arrays.asList("/orders/1", bilbo + "/", bilbo + "?page=1", "/people/")) {
+
+			mvc.perform(delete("/people").content(bilbo + "\n" + invalid).contentType(TEXT_URI_LIST)).//
+					andExpect(status().isBadRequest());
+		}
+
+		mvc.perform(get(bilbo)).andExpect(status().isOk());
+	}
+
+	@Test
+	public void rejectsDeletionByUriListContainingUrisOfMissingEntities() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"));
+
+		String bilbo = links.get(1).expand().getHref();
+		String missing = bilbo.substring(0, bilbo.lastIndexOf('/')) + "/4711";
+
+		mvc.perform(delete("/people").content(bilbo + "\n" + missing).contentType(TEXT_URI_LIST)).//
+				andExpect(status().isNotFound()).//
+				andExpect(jsonPath("$.message", containsString("4711")));
+
+		mvc.perform(get(bilbo)).andExpect(status().isOk());
+	}
+
+	@Test
+	public void rejectsBatchUpdateWithDuplicateOrInvalidIdentifiersBeforeLookup() throws Exception {
+
+		String payload = "{ \"1\" : { \"firstName\" : \"Frodo\" }, \"01\" : { \"firstName\" : \"Bilbo\" }, "
+				+ "\"foo\" : { \"firstName\" : \"Merry\" }, \"2\" : { \"firstName\" : \"Pippin\" } }";
+
+		MockHttpServletResponse response = mvc.perform(MockMvcRequestBuilders.request(HttpMethod.PATCH, "/people").//
+				content(payload).contentType(MediaType.APPLICATION_JSON)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse();
+
+		String content = response.getContentAsString();
+
+		assertThat(JsonPath.<Integer> read(content, "$['1'].status"), is(400));
+		assertThat(JsonPath.<Integer> read(content, "$['01'].status"), is(400));
+		assertThat(JsonPath.<Integer> read(content, "$['foo'].status"), is(400));
+		assertThat(JsonPath.<Integer> read(content, "$['2'].status"), is(424));
+	}
+
 	/**
 	 * @see DATAREST-50
 	 */
@@ -386,6 +621,73 @@ public class JpaWebTests extends AbstractWebIntegrationTests {
 		assertJsonPathEquals("$.firstName", "Bilbo", overwrittenResponse);
 	}
 
+	@Test
+	public void pagesCollectionAssociationIfAnyPagingParameterIsGiven() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"), //
+				new Person("Pippin", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+		putAndGet(frodosSiblingsLink, toUriList(links.get(1), links.get(2), links.get(3)), TEXT_URI_LIST);
+
+		for (String query : Arrays.asList("?size=2", "?page=0&size=2", "?size=2&sort=firstName")) {
+
+			MockHttpServletResponse response = request(frodosSiblingsLink.expand().getHref() + query);
+			String content = response.getContentAsString();
+
+			assertThat(JsonPath.<Number> read(content, "$.page.totalElements").intValue(), is(3));
+			assertThat(JsonPath.<Number> read(content, "$.page.size").intValue(), is(2));
+			assertThat(JsonPath.<List<?>> read(content, "$._embedded.persons"), hasSize(2));
+			assertHasLinkWithRel(Link.REL_NEXT, response);
+		}
+
+		MockHttpServletResponse response = request(frodosSiblingsLink);
+
+		assertDoesNotHaveLinkWithRel(Link.REL_NEXT, response);
+		assertThat(JsonPath.<List<?>> read(response.getContentAsString(), "$._embedded.persons"), hasSize(3));
+	}
+
+	@Test
+	public void rendersCompactCollectionResourceFromIdentifiers() throws Exception {
+
+		config.exposeIdQueryFor(Author.class, "findAllIds");
+
+		List<Long> ids = new ArrayList<Long>();
+
+		for (Author author : authors.findAll()) {
+			ids.add(author.id);
+		}
+
+		Collections.sort(ids);
+
+		List<String> itemUris = Arrays.asList("http://localhost/authors/" + ids.get(0), "http://localhost/authors/"
+				+ ids.get(1));
+		String href = "/authors?page=0&size=2&sort=id";
+
+		String compact = mvc.perform(get(href).accept(COMPACT_JSON)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse().getContentAsString();
+
+		assertThat(JsonPath.<List<String>> read(compact, "$.links[?(@.rel == 'author')].href"), is(itemUris));
+		assertThat(JsonPath.<List<?>> read(compact, "$.content"), is(empty()));
+		assertThat(JsonPath.<Number> read(compact, "$.page.totalElements").intValue(), is(ids.size()));
+
+		List<String> nextLinks = JsonPath.read(compact, "$.links[?(@.rel == 'next')].href");
+		assertThat(nextLinks, hasSize(1));
+		assertThat(JsonPath.<List<?>> read(compact, "$.links[?(@.rel == 'prev')]"), is(empty()));
+
+		String uriList = mvc.perform(get(href).accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse().getContentAsString();
+
+		List<String> lines = Arrays.asList(uriList.split("\r\n"));
+
+		assertThat(lines, hasItems(itemUris.get(0), itemUris.get(1), nextLinks.get(0)));
+		assertThat(lines, not(hasItem("http://localhost/authors/" + ids.get(2))));
+	}
+
 	private List<Link> preparePersonResources(Person primary, Person... persons) throws Exception {
 
 		Link peopleLink = discoverUnique("people");
@@ -15,7 +15,9 @@
  */
 package org.springframework.data.rest.webmvc.jpa;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -46,4 +48,8 @@ public interface PersonRepository extends PagingAndSortingRepository<Person, Lon
 	@Query("select p from Person p where p.created > :date")
 	Page<Person> findByCreatedUsingISO8601Date(@Param("date") @DateTimeFormat(iso = ISO.DATE_TIME) Date date,
 			Pageable pageable);
+
+	@RestResource(exported = false)
+	@Query("select p.id, s.id from Person p join p.siblings s where p.id in :ids")
+	List<Object[]> findSiblingIds(@Param("ids") Collection<Long> ids);
 }
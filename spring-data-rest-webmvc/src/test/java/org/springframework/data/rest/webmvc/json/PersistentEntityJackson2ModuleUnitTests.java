@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.rest.core.EntityUriResolver;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.UriCollectionDeserializer;
+import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module.UriMapDeserializer;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Unit tests for the association URI deserializers of {@link PersistentEntityJackson2Module}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PersistentEntityJackson2ModuleUnitTests {
+
+	static final List<String> URIS = Arrays.asList("/samples/1", "/samples/2");
+
+	@Mock EntityUriResolver resolver;
+
+	PersistentEntity<?, ?> entity;
+	ObjectMapper mapper;
+
+	@Before
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setUp() {
+
+		this.entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+
+		SimpleModule module = new SimpleModule();
+		module.addDeserializer((Class) List.class,
+				new UriCollectionDeserializer(entity.getPersistentProperty("related"), resolver));
+		module.addDeserializer((Class) Map.class, new UriMapDeserializer(entity.getPersistentProperty("byName"), resolver));
+
+		this.mapper = new ObjectMapper();
+		this.mapper.registerModule(module);
+	}
+
+	@Test
+	public void resolvesAllUrisOfCollectionAtOnce() throws Exception {
+
+		Sample first = new Sample(), second = new Sample();
+		when(resolver.resolve(URIS, Sample.class)).thenReturn(Arrays.<Object> asList(first, second));
+
+		List<?> result = mapper.readValue("[ \"/samples/1\", \"/samples/2\" ]", List.class);
+
+		assertThat(result, is(Arrays.<Object> asList(first, second)));
+		verify(resolver, times(1)).resolve(URIS, Sample.class);
+	}
+
+	@Test
+	public void reportsAllUnresolvableUrisOfCollectionWithPropertyName() throws Exception {
+
+		when(resolver.resolve(URIS, Sample.class)).thenThrow(
+				new IllegalArgumentException("Could not resolve URIs [/samples/1, /samples/2]!"));
+
+		try {
+			mapper.readValue("[ \"/samples/1\", \"/samples/2\" ]", List.class);
+			fail("Expected JsonMappingException!");
+		} catch (JsonMappingException o_O) {
+			assertThat(o_O.getMessage(), allOf(containsString("/samples/1"), containsString("/samples/2"),
+					containsString("related")));
+			assertThat(o_O.getCause(), is(instanceOf(IllegalArgumentException.class)));
+		}
+	}
+
+	@Test
+	public void rejectsNullUriInCollection() throws Exception {
+
+		try {
+			mapper.readValue("[ \"/samples/1\", null ]", List.class);
+			fail("Expected JsonMappingException!");
+		} catch (JsonMappingException o_O) {
+			verifyZeroInteractions(resolver);
+		}
+	}
+
+	@Test
+	public void rejectsNonArrayForCollection() throws Exception {
+
+		try {
+			mapper.readValue("\"/samples/1\"", List.class);
+			fail("Expected JsonMappingException!");
+		} catch (JsonMappingException o_O) {
+			verifyZeroInteractions(resolver);
+		}
+	}
+
+	@Test
+	public void resolvesAllUrisOfMapAtOnceKeepingKeys() throws Exception {
+
+		Sample first = new Sample(), second = new Sample();
+		when(resolver.resolve(URIS, Sample.class)).thenReturn(Arrays.<Object> asList(first, second));
+
+		Map<?, ?> result = mapper.readValue("{ \"first\" : \"/samples/1\", \"second\" : \"/samples/2\" }", Map.class);
+
+		assertThat(result.size(), is(2));
+		assertThat(result.get("first"), is((Object) first));
+		assertThat(result.get("second"), is((Object) second));
+	}
+
+	@Test
+	public void reportsUnresolvableUrisOfMapWithPropertyName() throws Exception {
+
+		when(resolver.resolve(URIS, Sample.class)).thenThrow(
+				new IllegalArgumentException("Could not resolve URIs [/samples/2]!"));
+
+		try {
+			mapper.readValue("{ \"first\" : \"/samples/1\", \"second\" : \"/samples/2\" }", Map.class);
+			fail("Expected JsonMappingException!");
+		} catch (JsonMappingException o_O) {
+			assertThat(o_O.getMessage(), allOf(containsString("/samples/2"), containsString("byName")));
+		}
+	}
+
+	static class Sample {
+
+		List<Sample> related;
+		Map<String, Sample> byName;
+	}
+}
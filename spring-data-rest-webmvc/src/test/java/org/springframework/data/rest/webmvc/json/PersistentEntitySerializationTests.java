@@ -126,6 +126,21 @@ public class PersistentEntitySerializationTests {
 		assertThat(siblingLink.getHref(), endsWith(new UriTemplate("/{id}/siblings").expand(person.getId()).toString()));
 	}
 
+	@Test
+	public void derivesAssociationLinksFromSelfLinkIfPresent() throws Exception {
+
+		PersistentEntity<?, ?> persistentEntity = repositories.getPersistentEntity(Person.class);
+		Person person = people.save(new Person("John", "Doe"));
+
+		PersistentEntityResource<Person> resource = PersistentEntityResource.wrap(persistentEntity, person);
+		resource.add(new Link("http://localhost/people/4711"));
+
+		String s = mapper.writeValueAsString(resource);
+
+		assertThat(linkDiscoverer.findLinkWithRel("father", s).getHref(), is("http://localhost/people/4711/father"));
+		assertThat(linkDiscoverer.findLinkWithRel("siblings", s).getHref(), is("http://localhost/people/4711/siblings"));
+	}
+
 	/**
 	 * @see DATAREST-248
 	 */
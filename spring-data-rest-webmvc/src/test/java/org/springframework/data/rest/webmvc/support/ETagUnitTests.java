@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Unit tests for {@link ETag}.
+ * 
+ * @author agent
+ */
+public class ETagUnitTests {
+
+	MongoMappingContext context = new MongoMappingContext();
+
+	@Test
+	public void createsETagFromVersionProperty() {
+
+		PersistentEntity<?, ?> entity = context.getPersistentEntity(Sample.class);
+
+		Sample sample = new Sample();
+		sample.version = 5L;
+
+		ETag eTag = ETag.from(sample, entity);
+
+		assertThat(eTag, is(ETag.from("5")));
+		assertThat(eTag.toString(), is("\"5\""));
+	}
+
+	@Test
+	public void returnsNoETagForUnversionedEntityOrMissingVersion() {
+
+		assertThat(ETag.from(new Unversioned(), context.getPersistentEntity(Unversioned.class)), is(ETag.NO_ETAG));
+		assertThat(ETag.from(new Sample(), context.getPersistentEntity(Sample.class)), is(ETag.NO_ETAG));
+		assertThat(ETag.from(null, context.getPersistentEntity(Sample.class)), is(ETag.NO_ETAG));
+	}
+
+	@Test
+	public void matchesQuotedWeakAndWildcardHeaders() {
+
+		ETag eTag = ETag.from("5");
+
+		assertThat(eTag.matches("\"5\""), is(true));
+		assertThat(eTag.matches("W/\"5\""), is(true));
+		assertThat(eTag.matches("\"4\", \"5\""), is(true));
+		assertThat(eTag.matches("*"), is(true));
+		assertThat(eTag.matches("\"4\""), is(false));
+		assertThat(eTag.matches(null), is(false));
+		assertThat(ETag.NO_ETAG.matches("*"), is(true));
+		assertThat(ETag.NO_ETAG.matches("\"5\""), is(false));
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsNonMatchingIfMatchHeader() {
+		ETag.from("5").verify("\"4\"");
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsWeakTagInIfMatchHeader() {
+		ETag.from("5").verify("W/\"5\"");
+	}
+
+	@Test
+	public void acceptsStrongTagOrWildcardInIfMatchHeader() {
+
+		ETag.from("5").verify("W/\"5\", \"5\"");
+		ETag.from("5").verify("*");
+		ETag.NO_ETAG.verify("*");
+	}
+
+	@Test
+	public void acceptsMissingIfMatchHeader() {
+
+		ETag.from("5").verify(null);
+		ETag.NO_ETAG.verify("");
+	}
+
+	@Test
+	public void addsETagHeaderOnlyIfPresent() {
+
+		assertThat(ETag.from("5").addTo(new HttpHeaders()).getETag(), is("\"5\""));
+		assertThat(ETag.NO_ETAG.addTo(new HttpHeaders()).getETag(), is(nullValue()));
+	}
+
+	static class Sample {
+		@Version Long version;
+	}
+
+	static class Unversioned {
+		String name;
+	}
+}
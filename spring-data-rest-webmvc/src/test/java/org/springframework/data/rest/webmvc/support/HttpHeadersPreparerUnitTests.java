@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Date;
+
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Unit tests for {@link HttpHeadersPreparer}.
+ * 
+ * @author agent
+ */
+public class HttpHeadersPreparerUnitTests {
+
+	static final long NOW = 1400000000000L;
+
+	HttpHeadersPreparer preparer = new HttpHeadersPreparer(new DefaultConversionService());
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+
+	@Test
+	public void exposesETagAndLastModifiedHeaders() {
+
+		HttpHeaders headers = preparer.prepareHeaders(entity, new Sample(3L, new Date(NOW)));
+
+		assertThat(headers.getETag(), is("\"3\""));
+		assertThat(headers.getLastModified(), is(NOW));
+	}
+
+	@Test
+	public void considersObjectValidIfETagMatches() {
+
+		HttpHeaders requestHeaders = new HttpHeaders();
+		requestHeaders.set("If-None-Match", "\"3\"");
+
+		assertThat(preparer.isObjectStillValid(entity, new Sample(3L, null), requestHeaders), is(true));
+		assertThat(preparer.isObjectStillValid(entity, new Sample(4L, null), requestHeaders), is(false));
+	}
+
+	@Test
+	public void considersObjectValidIfNotModifiedSince() {
+
+		HttpHeaders requestHeaders = new HttpHeaders();
+		requestHeaders.setIfModifiedSince(NOW);
+
+		assertThat(preparer.isObjectStillValid(entity, new Sample(null, new Date(NOW + 500)), requestHeaders), is(true));
+		assertThat(preparer.isObjectStillValid(entity, new Sample(null, new Date(NOW + 1000)), requestHeaders), is(false));
+		assertThat(preparer.isObjectStillValid(entity, new Sample(null, null), requestHeaders), is(false));
+	}
+
+	@Test
+	public void prefersIfNoneMatchOverIfModifiedSince() {
+
+		HttpHeaders requestHeaders = new HttpHeaders();
+		requestHeaders.set("If-None-Match", "\"2\"");
+		requestHeaders.setIfModifiedSince(NOW);
+
+		assertThat(preparer.isObjectStillValid(entity, new Sample(3L, new Date(NOW)), requestHeaders), is(false));
+	}
+
+	@Test
+	public void considersObjectInvalidWithoutConditionalHeaders() {
+		assertThat(preparer.isObjectStillValid(entity, new Sample(3L, new Date(NOW)), new HttpHeaders()), is(false));
+	}
+
+	static class Sample {
+
+		@Version Long version;
+		@LastModifiedDate Date lastModified;
+
+		public Sample(Long version, Date lastModified) {
+			this.version = version;
+			this.lastModified = lastModified;
+		}
+	}
+}
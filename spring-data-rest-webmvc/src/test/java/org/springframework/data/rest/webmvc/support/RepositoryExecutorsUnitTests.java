@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+/**
+ * Unit tests for {@link RepositoryExecutors}.
+ * 
+ * @author agent
+ */
+public class RepositoryExecutorsUnitTests {
+
+	RepositoryExecutors executors;
+	CountDownLatch latch;
+
+	@Before
+	public void setUp() {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration();
+		config.setAsyncPoolSize(1).setAsyncQueueCapacity(0).setAsyncTimeout(5000L);
+
+		this.executors = new RepositoryExecutors(config);
+		this.latch = new CountDownLatch(1);
+	}
+
+	@After
+	public void tearDown() {
+
+		latch.countDown();
+		executors.destroy();
+	}
+
+	@Test
+	public void createsTaskWithConfiguredTimeout() {
+		assertThat(executors.submit(String.class, new BlockingCallable()).getTimeout(), is(5000L));
+	}
+
+	@Test
+	public void rejectsAndCountsCallsExceedingCapacity() throws Exception {
+
+		WebAsyncTask<String> first = executors.submit(String.class, new BlockingCallable());
+		Future<String> future = first.getExecutor().submit(first.getCallable());
+
+		WebAsyncTask<String> second = executors.submit(String.class, new BlockingCallable());
+
+		try {
+			second.getExecutor().submit(second.getCallable());
+			fail("Expected RejectedExecutionException!");
+		} catch (RejectedExecutionException o_O) {}
+
+		assertThat(executors.getRejectedCount(String.class), is(1L));
+
+		latch.countDown();
+		assertThat(future.get(5, TimeUnit.SECONDS), is("done"));
+	}
+
+	@Test
+	public void usesSeparateExecutorPerDomainType() throws Exception {
+
+		WebAsyncTask<String> first = executors.submit(String.class, new BlockingCallable());
+		first.getExecutor().submit(first.getCallable());
+
+		WebAsyncTask<String> other = executors.submit(Integer.class, new BlockingCallable());
+		other.getExecutor().submit(other.getCallable());
+
+		assertThat(executors.getRejectedCount(String.class), is(0L));
+		assertThat(executors.getRejectedCount(Integer.class), is(0L));
+	}
+
+	@Test
+	public void usesSharedExecutorIfGiven() {
+
+		SimpleAsyncTaskExecutor shared = new SimpleAsyncTaskExecutor();
+		RepositoryExecutors executors = new RepositoryExecutors(new RepositoryRestConfiguration(), shared);
+
+		assertThat(executors.submit(String.class, new BlockingCallable()).getExecutor(), is((Object) shared));
+		assertThat(executors.submit(Integer.class, new BlockingCallable()).getExecutor(), is((Object) shared));
+	}
+
+	@Test
+	public void fallsBackToBoundedExecutorsIfVirtualThreadsAreNotSupported() {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration().setAsyncVirtualThreadsEnabled(true);
+		RepositoryExecutors executors = new RepositoryExecutors(config);
+
+		Object executor = executors.submit(String.class, new BlockingCallable()).getExecutor();
+
+		assertThat(executor, is(VirtualThreads.isSupported() ? instanceOf(SimpleAsyncTaskExecutor.class)
+				: instanceOf(ThreadPoolTaskExecutor.class)));
+		executors.destroy();
+	}
+
+	@Test
+	public void returnsGivenPublisherIfAfterEventsAreNotPublishedAsynchronously() {
+
+		RecordingPublisher publisher = new RecordingPublisher();
+		assertThat(executors.getEventPublisher(publisher), is((Object) publisher));
+	}
+
+	@Test
+	public void publishesOnlyAfterEventsOnExecutor() {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration().setAsyncAfterEventsEnabled(true);
+		RecordingExecutor shared = new RecordingExecutor();
+		RecordingPublisher publisher = new RecordingPublisher();
+
+		ApplicationEventPublisher result = new RepositoryExecutors(config, shared).getEventPublisher(publisher);
+
+		result.publishEvent(new BeforeSaveEvent("before"));
+		assertThat(shared.executed, is(0));
+		assertThat(publisher.events, hasSize(1));
+
+		result.publishEvent(new AfterSaveEvent("after"));
+		assertThat(shared.executed, is(1));
+		assertThat(publisher.events, hasSize(2));
+	}
+
+	private class BlockingCallable implements Callable<String> {
+
+		@Override
+		public String call() throws Exception {
+
+			latch.await(5, TimeUnit.SECONDS);
+			return "done";
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class RecordingExecutor extends SimpleAsyncTaskExecutor {
+
+		int executed = 0;
+
+		@Override
+		public void execute(Runnable task) {
+			executed++;
+			task.run();
+		}
+	}
+
+	private static class RecordingPublisher implements ApplicationEventPublisher {
+
+		final List<ApplicationEvent> events = new ArrayList<ApplicationEvent>();
+
+		@Override
+		public void publishEvent(ApplicationEvent event) {
+			events.add(event);
+		}
+	}
+}